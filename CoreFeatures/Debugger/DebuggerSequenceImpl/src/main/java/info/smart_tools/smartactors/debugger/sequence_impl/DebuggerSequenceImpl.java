@@ -123,6 +123,15 @@ public class DebuggerSequenceImpl implements IDebuggerSequence, IDumpable {
         wrapped.reset();
     }
 
+    @Override
+    public void reinitialize(final int stackDepth, final IReceiverChain newMainChain) throws InvalidArgumentException {
+        wrapped.reinitialize(stackDepth, newMainChain);
+        exception = null;
+        exceptionContext = null;
+        isInDebugger = true;
+        isCompleted = false;
+    }
+
     @Override
     public boolean next() {
         if (isCompleted) {
@@ -183,6 +192,36 @@ public class DebuggerSequenceImpl implements IDebuggerSequence, IDumpable {
         this.exceptionContext = context;
     }
 
+    @Override
+    public int getCauseLevel() {
+        return wrapped.getCauseLevel();
+    }
+
+    @Override
+    public int getCauseStep() {
+        return wrapped.getCauseStep();
+    }
+
+    @Override
+    public int getCatchLevel() {
+        return wrapped.getCatchLevel();
+    }
+
+    @Override
+    public int getCatchStep() {
+        return wrapped.getCatchStep();
+    }
+
+    @Override
+    public Throwable getCaughtException() {
+        return wrapped.getCaughtException();
+    }
+
+    @Override
+    public void materializeCatchPositions() throws ChangeValueException, InvalidArgumentException {
+        wrapped.materializeCatchPositions();
+    }
+
     @Override
     public IObject dump(final IObject options) throws DumpException, InvalidArgumentException {
         try {
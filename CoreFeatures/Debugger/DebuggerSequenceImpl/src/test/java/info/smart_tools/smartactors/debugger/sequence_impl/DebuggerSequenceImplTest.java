@@ -144,6 +144,9 @@ public class DebuggerSequenceImplTest extends PluginsLoadingTestBase {
 
         sequence.callChain(mock(IReceiverChain.class));
         verify(sequenceMock).callChain(any());
+
+        sequence.materializeCatchPositions();
+        verify(sequenceMock).materializeCatchPositions();
     }
 
     @Test
@@ -193,6 +196,26 @@ public class DebuggerSequenceImplTest extends PluginsLoadingTestBase {
         assertFalse(sequence.next());
     }
 
+    @Test
+    public void Should_forgetDebuggerStateAndReinitializeUnderlyingSequence_When_reinitialized()
+            throws Exception {
+        Exception exception = new Exception();
+        IReceiverChain chainMock = mock(IReceiverChain.class);
+        when(sequenceMock.next()).thenReturn(true);
+
+        IDebuggerSequence sequence = new DebuggerSequenceImpl(sequenceMock, debuggerAddress);
+
+        sequence.catchException(exception, mock(IObject.class));
+        sequence.stop();
+
+        sequence.reinitialize(5, chainMock);
+
+        verify(sequenceMock).reinitialize(5, chainMock);
+        assertFalse(sequence.isExceptionOccurred());
+        assertFalse(sequence.isCompleted());
+        assertSame(debuggerReceiverMock, sequence.getCurrentReceiver());
+    }
+
     @Test
     public void Should_createDumpOfUnderlyingSequence()
             throws Exception {
@@ -1,5 +1,10 @@
 package info.smart_tools.smartactors.endpoint.interfaces.iresponse;
 
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+
+import java.io.ByteArrayOutputStream;
+
 /**
  * Interface for response object
  */
@@ -11,7 +16,36 @@ public interface IResponse {
     void setContent(final byte[] response);
 
     /**
+     * Get serialized content of the response.
+     * If the content is set by {@link #setContentObject(IObject)} and is not serialized yet the object is serialized
+     * by this method. As the method cannot throw checked exceptions the failure of such serialization is thrown as
+     * {@link IllegalStateException} caused by {@link SerializeException}; senders should check
+     * {@link #getContentObject()} first and serialize the object themselves to handle the failure.
+     *
      * @return content of the response
+     * @throws IllegalStateException if the content object cannot be serialized
      */
     byte[] getContent();
+
+    /**
+     * Set the object which should be serialized to content of the response.
+     * The response may keep the object and serialize it later, so senders able to serialize it right into their output
+     * buffers may avoid intermediate copies of the content. Default implementation serializes the object immediately.
+     *
+     * @param contentObject the object
+     * @throws SerializeException if there is error on serialization
+     */
+    default void setContentObject(final IObject contentObject) throws SerializeException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        contentObject.serialize(outputStream);
+        setContent(outputStream.toByteArray());
+    }
+
+    /**
+     * @return the object set by {@link #setContentObject(IObject)} and not serialized yet, {@code null} if there is
+     *         no such object
+     */
+    default IObject getContentObject() {
+        return null;
+    }
 }
@@ -2,20 +2,50 @@ package info.smart_tools.smartactors.endpoint.response;
 
 
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse.IResponse;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+
+import java.io.ByteArrayOutputStream;
 
 /**
- * Implementation of IResponse to save environment
+ * Implementation of IResponse to save environment.
+ * Content object is kept as is and serialized on first call of {@link #getContent()}.
  */
 public class Response implements IResponse {
     private byte[] content;
+    private IObject contentObject;
 
     @Override
     public void setContent(final byte[] response) {
         content = response;
+        contentObject = null;
     }
 
     @Override
     public byte[] getContent() {
+        if (null != contentObject) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            try {
+                contentObject.serialize(outputStream);
+            } catch (SerializeException e) {
+                throw new IllegalStateException("Failed to serialize content of the response.", e);
+            }
+
+            setContent(outputStream.toByteArray());
+        }
+
         return content;
     }
+
+    @Override
+    public void setContentObject(final IObject contentObject) {
+        this.contentObject = contentObject;
+        content = null;
+    }
+
+    @Override
+    public IObject getContentObject() {
+        return contentObject;
+    }
 }
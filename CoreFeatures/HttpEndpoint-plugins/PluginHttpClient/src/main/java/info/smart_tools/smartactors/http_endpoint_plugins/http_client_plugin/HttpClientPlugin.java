@@ -16,6 +16,7 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IPlugin;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.http_endpoint.http_client.HttpClient;
+import info.smart_tools.smartactors.http_endpoint.http_client.HttpClientConnectionPool;
 import info.smart_tools.smartactors.http_endpoint.http_client_initializer.HttpClientInitializer;
 import info.smart_tools.smartactors.http_endpoint.http_request_maker.HttpRequestMaker;
 import info.smart_tools.smartactors.http_endpoint.http_response_deserialization_strategy.HttpResponseDeserializationStrategy;
@@ -40,8 +41,27 @@ import java.net.URISyntaxException;
 
 /**
  * Plugin for http client
+ *
+ * <p>
+ *     The pool of client connections is created on first use with limits read from {@code "client"} configuration
+ *     section:
+ * </p>
+ * <pre>
+ *     "client": {
+ *         ...
+ *         "maxConnectionsPerOrigin": 16,   // maximal amount of connections to a single origin
+ *         "connectionTimeout": 5000,       // connection timeout in milliseconds
+ *         "readTimeout": 5000,             // maximal time in milliseconds to wait for the response
+ *         "idleTimeout": 30000             // maximal time in milliseconds a connection stays idle in the pool
+ *     }
+ * </pre>
  */
 public class HttpClientPlugin implements IPlugin {
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ORIGIN = 16;
+    private static final int DEFAULT_CONNECTION_TIMEOUT = 5000;
+    private static final int DEFAULT_READ_TIMEOUT = 5000;
+    private static final int DEFAULT_IDLE_TIMEOUT = 30000;
+
     private final IBootstrap<IBootstrapItem<String>> bootstrap;
 
     /**
@@ -58,6 +78,12 @@ public class HttpClientPlugin implements IPlugin {
             queueFieldName,
             stackDepthFieldName,
             exceptionalMessageMapId;
+    private IFieldName maxConnectionsPerOriginFieldName,
+            connectionTimeoutFieldName,
+            readTimeoutFieldName,
+            idleTimeoutFieldName;
+
+    private HttpClientConnectionPool connectionPool;
 
     @Override
     public void load() throws PluginException {
@@ -148,6 +174,18 @@ public class HttpClientPlugin implements IPlugin {
                                             )
                                     );
 
+                                    IOC.register(Keys.getOrAdd(HttpClientConnectionPool.class.getCanonicalName()),
+                                            new ApplyFunctionToArgumentsStrategy(
+                                                    (args) -> {
+                                                        try {
+                                                            return getConnectionPool();
+                                                        } catch (ReadValueException | InvalidArgumentException e) {
+                                                            throw new RuntimeException(e);
+                                                        }
+                                                    }
+                                            )
+                                    );
+
                                     IOC.register(Keys.getOrAdd("getHttpClient"), new ApplyFunctionToArgumentsStrategy(
                                                     (args) -> {
                                                         IObject request = (IObject) args[0];
@@ -156,10 +194,14 @@ public class HttpClientPlugin implements IPlugin {
                                                                     Keys.getOrAdd(IResponseHandler.class.getCanonicalName()),
                                                                     request
                                                             );
+                                                            HttpClientConnectionPool connectionPool = IOC.resolve(
+                                                                    Keys.getOrAdd(HttpClientConnectionPool.class.getCanonicalName())
+                                                            );
                                                             HttpClient client =
                                                                     new HttpClient(
                                                                             URI.create((String) request.getValue(uriFieldName)),
-                                                                            responseHandler
+                                                                            responseHandler,
+                                                                            connectionPool
                                                                     );
                                                             return client;
                                                         } catch (ReadValueException | ResolutionException | RequestSenderException e) {
@@ -188,5 +230,55 @@ public class HttpClientPlugin implements IPlugin {
         this.queueFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "queue");
         this.stackDepthFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "stackDepth");
         this.exceptionalMessageMapId = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "exceptionalMessageMapId");
+        this.maxConnectionsPerOriginFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "maxConnectionsPerOrigin");
+        this.connectionTimeoutFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "connectionTimeout");
+        this.readTimeoutFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "readTimeout");
+        this.idleTimeoutFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "idleTimeout");
+    }
+
+    /**
+     * Get the pool of client connections, create it using {@code "client"} configuration section if it is not created
+     * yet.
+     *
+     * @return the pool
+     * @throws ReadValueException if error occurs reading the configuration
+     * @throws InvalidArgumentException if the configuration contains invalid values
+     */
+    private synchronized HttpClientConnectionPool getConnectionPool()
+            throws ReadValueException, InvalidArgumentException {
+        if (null == connectionPool) {
+            IObject configuration;
+
+            try {
+                configuration = IOC.resolve(Keys.getOrAdd("responseHandlerConfiguration"));
+            } catch (ResolutionException e) {
+                // There is no "client" section, use default limits
+                configuration = null;
+            }
+
+            connectionPool = new HttpClientConnectionPool(
+                    getIntValue(configuration, maxConnectionsPerOriginFieldName, DEFAULT_MAX_CONNECTIONS_PER_ORIGIN),
+                    getIntValue(configuration, connectionTimeoutFieldName, DEFAULT_CONNECTION_TIMEOUT),
+                    getIntValue(configuration, readTimeoutFieldName, DEFAULT_READ_TIMEOUT),
+                    getIntValue(configuration, idleTimeoutFieldName, DEFAULT_IDLE_TIMEOUT)
+            );
+        }
+
+        return connectionPool;
+    }
+
+    private int getIntValue(final IObject configuration, final IFieldName fieldName, final int defaultValue)
+            throws ReadValueException, InvalidArgumentException {
+        Object value = (null != configuration) ? configuration.getValue(fieldName) : null;
+
+        if (null == value) {
+            return defaultValue;
+        }
+
+        if (!(value instanceof Number)) {
+            throw new InvalidArgumentException("Value of \"" + fieldName + "\" should be a number.");
+        }
+
+        return ((Number) value).intValue();
     }
 }
@@ -14,6 +14,7 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IPlugin;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.http_endpoint.http_client.HttpClient;
+import info.smart_tools.smartactors.http_endpoint.http_client.HttpClientConnectionPool;
 import info.smart_tools.smartactors.iobject.ds_object.DSObject;
 import info.smart_tools.smartactors.iobject.field_name.FieldName;
 import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
@@ -36,6 +37,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -158,6 +160,37 @@ public class HttpClientPluginTest {
         verify(client, times(1)).sendRequest(any());
         assertNotNull(client);
     }
+
+    @Test
+    public void checkConnectionPoolIsCreatedOnceWithLimitsFromClientSection()
+            throws Exception {
+        IBootstrap<IBootstrapItem<String>> bootstrap = mock(IBootstrap.class);
+        List<IBootstrapItem<String>> itemList = new ArrayList<>();
+        doAnswer(invocation -> itemList.add((IBootstrapItem<String>) invocation.getArguments()[0]))
+                .when(bootstrap)
+                .add(any(IBootstrapItem.class));
+        new HttpClientPlugin(bootstrap).load();
+        itemList.get(0).executeProcess();
+
+        IOC.register(Keys.getOrAdd("responseHandlerConfiguration"), new SingletonStrategy(
+                new DSObject("{\"maxConnectionsPerOrigin\": 0}")
+        ));
+
+        try {
+            IOC.resolve(Keys.getOrAdd(HttpClientConnectionPool.class.getCanonicalName()));
+            fail();
+        } catch (ResolutionException e) {
+            // pool limits are read from the configuration
+        }
+
+        IOC.register(Keys.getOrAdd("responseHandlerConfiguration"), new SingletonStrategy(
+                new DSObject("{\"maxConnectionsPerOrigin\": 2, \"readTimeout\": 1000}")
+        ));
+
+        HttpClientConnectionPool pool = IOC.resolve(Keys.getOrAdd(HttpClientConnectionPool.class.getCanonicalName()));
+        assertNotNull(pool);
+        assertSame(pool, IOC.resolve(Keys.getOrAdd(HttpClientConnectionPool.class.getCanonicalName())));
+    }
 }
 
 class Checker {
@@ -12,6 +12,8 @@ import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.C
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 import info.smart_tools.smartactors.http_endpoint.deserialize_strategy_post_form_urlencoded.DeserializeStrategyPostFormUrlencoded;
 import info.smart_tools.smartactors.http_endpoint.http_endpoint.HttpEndpoint;
+import info.smart_tools.smartactors.http_endpoint.http_server.HttpServer;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
 import info.smart_tools.smartactors.endpoint.interfaces.ideserialize_strategy.IDeserializeStrategy;
 import info.smart_tools.smartactors.http_endpoint.channel_handler_netty.ChannelHandlerNetty;
 import info.smart_tools.smartactors.http_endpoint.deserialize_strategy_get.DeserializeStrategyGet;
@@ -22,7 +24,8 @@ import info.smart_tools.smartactors.http_endpoint.environment_handler.Environmen
 import info.smart_tools.smartactors.http_endpoint.http_response_sender.HttpResponseSender;
 import info.smart_tools.smartactors.endpoint.interfaces.ienvironment_handler.IEnvironmentHandler;
 import info.smart_tools.smartactors.endpoint.interfaces.imessage_mapper.IMessageMapper;
-import info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper.MessageToBytesMapper;
+import info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper.LazyJsonMessageMapper;
+import info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper.MessageToByteBufMapper;
 import info.smart_tools.smartactors.feature_loading_system.bootstrap_item.BootstrapItem;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap.IBootstrap;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap_item.IBootstrapItem;
@@ -44,6 +47,7 @@ import info.smart_tools.smartactors.http_endpoint.cookies_setter.CookiesSetter;
 import info.smart_tools.smartactors.http_endpoint.http_headers_setter.HttpHeadersExtractor;
 import info.smart_tools.smartactors.http_endpoint.respons_status_extractor.ResponseStatusExtractor;
 import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -54,6 +58,7 @@ import java.util.List;
  * Plugin, that register {@link HttpEndpoint} and {@link HttpResponseSender} at {@link IOC}
  */
 public class HttpEndpointPlugin implements IPlugin {
+    private static final int MAX_COMPRESSION_LEVEL = 9;
 
     private final IBootstrap<IBootstrapItem<String>> bootstrap;
 
@@ -65,6 +70,11 @@ public class HttpEndpointPlugin implements IPlugin {
     private IFieldName endpointNameFieldName;
     private IFieldName queueFieldName;
     private IFieldName templatesFieldName;
+    private IFieldName keepAliveTimeoutFieldName;
+    private IFieldName maxPipelinedRequestsFieldName;
+    private IFieldName compressionLevelFieldName;
+    private IFieldName compressionThresholdFieldName;
+    private IFieldName lazyJsonBodyFieldName;
 
     /**
      * Constructor
@@ -126,7 +136,8 @@ public class HttpEndpointPlugin implements IPlugin {
                                                             IOC.resolve(
                                                                     Keys.getOrAdd("info.smart_tools.smartactors.endpoint.interfaces.ideserialize_strategy.IDeserializeStrategy"),
                                                                     "HTTP_application/json",
-                                                                    configuration.getValue(endpointNameFieldName));
+                                                                    configuration.getValue(endpointNameFieldName),
+                                                                    Boolean.TRUE.equals(configuration.getValue(lazyJsonBodyFieldName)));
                                                             IOC.resolve(
                                                                     Keys.getOrAdd("info.smart_tools.smartactors.endpoint.interfaces.ideserialize_strategy.IDeserializeStrategy"),
                                                                     "HTTP_application/x-www-form-urlencoded",
@@ -143,7 +154,12 @@ public class HttpEndpointPlugin implements IPlugin {
                                                                     ScopeProvider.getCurrentScope(), environmentHandler,
                                                                     (IReceiverChain) configuration.getValue(startChainNameFieldName),
                                                                     (String) configuration.getValue(endpointNameFieldName),
-                                                                    upCounter);
+                                                                    upCounter,
+                                                                    NettyTransportConfig.fromConfig(configuration),
+                                                                    getKeepAliveTimeout(configuration),
+                                                                    getMaxPipelinedRequests(configuration),
+                                                                    getCompressionLevel(configuration),
+                                                                    getCompressionThreshold(configuration));
 
                                                             upCounter.onShutdownComplete(endpoint::stop);
 
@@ -169,7 +185,11 @@ public class HttpEndpointPlugin implements IPlugin {
                                             new CreateNewInstanceStrategy(
                                                     (args) -> {
                                                         ChannelHandlerNetty channelHandlerNetty = new ChannelHandlerNetty();
-                                                        channelHandlerNetty.init((ChannelHandlerContext) args[0]);
+                                                        if (args.length > 1) {
+                                                            channelHandlerNetty.init((ChannelHandlerContext) args[0], args[1]);
+                                                        } else {
+                                                            channelHandlerNetty.init((ChannelHandlerContext) args[0]);
+                                                        }
                                                         return channelHandlerNetty;
                                                     }
                                             ));
@@ -232,6 +252,96 @@ public class HttpEndpointPlugin implements IPlugin {
                         IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
                         "templates"
                 );
+
+        keepAliveTimeoutFieldName =
+                IOC.resolve(
+                        IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                        "keepAliveTimeout"
+                );
+
+        maxPipelinedRequestsFieldName =
+                IOC.resolve(
+                        IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                        "maxPipelinedRequests"
+                );
+
+        compressionLevelFieldName =
+                IOC.resolve(
+                        IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                        "compressionLevel"
+                );
+
+        compressionThresholdFieldName =
+                IOC.resolve(
+                        IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                        "compressionThreshold"
+                );
+
+        lazyJsonBodyFieldName =
+                IOC.resolve(
+                        IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                        "lazyJsonBody"
+                );
+    }
+
+    private int getKeepAliveTimeout(final IObject configuration)
+            throws ReadValueException, InvalidArgumentException {
+        Integer keepAliveTimeout = (Integer) configuration.getValue(keepAliveTimeoutFieldName);
+
+        if (null == keepAliveTimeout) {
+            return HttpServer.DEFAULT_KEEP_ALIVE_TIMEOUT;
+        }
+
+        if (keepAliveTimeout < 0) {
+            throw new InvalidArgumentException("Keep-alive timeout should not be negative.");
+        }
+
+        return keepAliveTimeout;
+    }
+
+    private int getMaxPipelinedRequests(final IObject configuration)
+            throws ReadValueException, InvalidArgumentException {
+        Integer maxPipelinedRequests = (Integer) configuration.getValue(maxPipelinedRequestsFieldName);
+
+        if (null == maxPipelinedRequests) {
+            return HttpServer.DEFAULT_MAX_PIPELINED_REQUESTS;
+        }
+
+        if (maxPipelinedRequests <= 0) {
+            throw new InvalidArgumentException("Maximal amount of pipelined requests should be positive.");
+        }
+
+        return maxPipelinedRequests;
+    }
+
+    private int getCompressionLevel(final IObject configuration)
+            throws ReadValueException, InvalidArgumentException {
+        Integer compressionLevel = (Integer) configuration.getValue(compressionLevelFieldName);
+
+        if (null == compressionLevel) {
+            return 0;
+        }
+
+        if (compressionLevel < 0 || compressionLevel > MAX_COMPRESSION_LEVEL) {
+            throw new InvalidArgumentException("Compression level should be in range from 0 (disabled) to 9.");
+        }
+
+        return compressionLevel;
+    }
+
+    private int getCompressionThreshold(final IObject configuration)
+            throws ReadValueException, InvalidArgumentException {
+        Integer compressionThreshold = (Integer) configuration.getValue(compressionThresholdFieldName);
+
+        if (null == compressionThreshold) {
+            return HttpServer.DEFAULT_COMPRESSION_THRESHOLD;
+        }
+
+        if (compressionThreshold < 0) {
+            throw new InvalidArgumentException("Compression threshold should not be negative.");
+        }
+
+        return compressionThreshold;
     }
 
     private void registerResponseSenders() throws ResolutionException, InvalidArgumentException, RegistrationException,
@@ -327,7 +437,8 @@ public class HttpEndpointPlugin implements IPlugin {
         IAdditionDependencyStrategy deserializationStrategyChooser =
                 IOC.resolve(Keys.getOrAdd("DeserializationStrategyChooser"));
 
-        IMessageMapper messageMapper = new MessageToBytesMapper();
+        IMessageMapper<ByteBuf> messageMapper = new MessageToByteBufMapper();
+        IMessageMapper<ByteBuf> lazyMessageMapper = new LazyJsonMessageMapper();
 
         IOC.register(Keys.getOrAdd("http_request_key_for_deserialize"), new ApplyFunctionToArgumentsStrategy(
                         (args) -> {
@@ -344,7 +455,9 @@ public class HttpEndpointPlugin implements IPlugin {
                 new CreateNewInstanceStrategy(
                         //args[0] - type of the request
                         //args[1] - name of the endpoint
-                        (args) -> new DeserializeStrategyPostJson(messageMapper)
+                        //args[2] - (optional) true if the body should be parsed on first access
+                        (args) -> new DeserializeStrategyPostJson(
+                                args.length > 2 && Boolean.TRUE.equals(args[2]) ? lazyMessageMapper : messageMapper)
                 )
         );
         deserializationStrategyChooser.register("HTTP_application/x-www-form-urlencoded",
@@ -1,6 +1,7 @@
 package info.smart_tools.smartactors.http_endpoint.channel_handler_netty;
 
 import info.smart_tools.smartactors.endpoint.interfaces.ichannel_handler.IChannelHandler;
+import info.smart_tools.smartactors.http_endpoint.http_pipelining.PipelinedHttpResponse;
 import io.netty.channel.ChannelHandlerContext;
 
 /**
@@ -9,15 +10,28 @@ import io.netty.channel.ChannelHandlerContext;
 public class ChannelHandlerNetty implements IChannelHandler<ChannelHandlerContext> {
 
     private ChannelHandlerContext channelHandler;
+    private Object request;
 
     @Override
     public void init(final ChannelHandlerContext handler) {
         this.channelHandler = handler;
     }
 
+    /**
+     * Initialize the adapter sending responses to the given request.
+     * Responses to pipelined requests are marked so that they are written in order of the requests.
+     *
+     * @param handler    the channel handler context
+     * @param request    the request the responses are sent to
+     */
+    public void init(final ChannelHandlerContext handler, final Object request) {
+        this.channelHandler = handler;
+        this.request = request;
+    }
+
     @Override
     public void send(final Object response) {
-        channelHandler.writeAndFlush(response);
+        channelHandler.writeAndFlush(PipelinedHttpResponse.of(request, response));
     }
 
     @Override
@@ -7,26 +7,33 @@ import info.smart_tools.smartactors.endpoint.interfaces.imessage_mapper.IMessage
 import info.smart_tools.smartactors.iobject.iobject.IObject;
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.FullHttpRequest;
-
-import java.util.Arrays;
+import io.netty.util.ByteProcessor;
 
 /**
  * Strategy for deserialization message from post request with application/json content-type.
  * Default strategy.
  */
 public class DeserializeStrategyPostJson implements IDeserializeStrategy<FullHttpRequest> {
-    private final IMessageMapper<byte[]> messageMapper;
+    private final IMessageMapper<ByteBuf> messageMapper;
 
     /**
      * Constructor
      * @param messageMapper message mapper for deserialize
      */
-    public DeserializeStrategyPostJson(final IMessageMapper<byte[]> messageMapper) {
+    public DeserializeStrategyPostJson(final IMessageMapper<ByteBuf> messageMapper) {
         this.messageMapper = messageMapper;
     }
 
     /**
-     * Method, that deserialize json content of request
+     * Method, that deserialize json content of request.
+     *
+     * <p>
+     *     Only the readable part of the request content is used. The outermost JSON object is located directly in the
+     *     buffer and a slice of the buffer containing only bytes of the object is passed to the message mapper, so the
+     *     content is not copied here. The request (and its content buffer) is released as soon as the message is
+     *     created, so a mapper creating message that refers to the source bytes should copy them.
+     * </p>
+     *
      * @param request Http request, that should be deserialize
      * @return {@link IObject} deserializated json
      * @throws info.smart_tools.smartactors.endpoint.interfaces.ideserialize_strategy.exceptions.DeserializationException
@@ -35,12 +42,22 @@ public class DeserializeStrategyPostJson implements IDeserializeStrategy<FullHtt
     public IObject deserialize(final FullHttpRequest request) throws DeserializationException {
         ByteBuf content = request.content();
 
-        byte[] bytes = new byte[content.capacity()];
+        int start = content.readerIndex();
+        int end = content.writerIndex();
+
+        int objectStart = content.indexOf(start, end, (byte) '{');
 
-        content.getBytes(0, bytes);
+        if (objectStart >= 0) {
+            int objectEnd = content.forEachByteDesc(objectStart, end - objectStart, new ByteProcessor.IndexOfProcessor((byte) '}'));
+
+            if (objectEnd >= 0) {
+                start = objectStart;
+                end = objectEnd + 1;
+            }
+        }
 
         try {
-            return messageMapper.deserialize(bytes);
+            return messageMapper.deserialize(content.slice(start, end - start));
         } catch (ResolutionException e) {
             throw new DeserializationException("Failed to deserialize request. It should be json", e);
         }
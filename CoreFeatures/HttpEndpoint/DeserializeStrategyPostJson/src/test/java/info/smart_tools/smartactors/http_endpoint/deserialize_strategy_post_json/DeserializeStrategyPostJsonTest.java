@@ -7,13 +7,20 @@ import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionExcept
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
 import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -21,15 +28,46 @@ import static com.google.common.base.Verify.verify;
 
 
 public class DeserializeStrategyPostJsonTest {
-    protected IMessageMapper<byte[]> mapperStub;
+    protected IMessageMapper<ByteBuf> mapperStub;
     @Test
     public void testDeserializationResult() throws InvalidArgumentException, ResolutionException, URISyntaxException, DeserializationException, SerializeException {
         mapperStub = mock(IMessageMapper.class);
         DeserializeStrategyPostJson deserializeStrategy = new DeserializeStrategyPostJson(mapperStub);
-        when(mapperStub.deserialize(any(byte[].class))).thenReturn(new DSObject("{\"hello\": \"world\"}"));
+        when(mapperStub.deserialize(any(ByteBuf.class))).thenReturn(new DSObject("{\"hello\": \"world\"}"));
         IObject iObject = deserializeStrategy.deserialize(new DefaultFullHttpRequest(HttpVersion.HTTP_1_0, HttpMethod.POST, "http://localhost:9901"));
         String iObjectString = iObject.serialize().toString();
         verify(iObjectString.equals("{\"hello\":\"world\"}"));
     }
 
+    @Test
+    public void testDeserializationUsesOnlyReadableObjectBytes() throws Exception {
+        mapperStub = mock(IMessageMapper.class);
+        DeserializeStrategyPostJson deserializeStrategy = new DeserializeStrategyPostJson(mapperStub);
+        IObject result = new DSObject();
+        when(mapperStub.deserialize(any(ByteBuf.class))).thenReturn(result);
+
+        ByteBuf content = Unpooled.buffer(256);
+        content.writeBytes("{\"skipped\": 1}\uFEFF{\"hello\": \"wörld\"}\r\n".getBytes(StandardCharsets.UTF_8));
+        content.readerIndex("{\"skipped\": 1}".length());
+
+        assertSame(result, deserializeStrategy.deserialize(
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/", content)));
+
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        Mockito.verify(mapperStub).deserialize(captor.capture());
+        assertEquals("{\"hello\": \"wörld\"}", captor.getValue().toString(StandardCharsets.UTF_8));
+        assertSame(content, captor.getValue().unwrap());
+        assertEquals(content.readerIndex(), "{\"skipped\": 1}".length());
+    }
+
+    @Test
+    public void testDeserializationOfEmptyContent() throws Exception {
+        mapperStub = mock(IMessageMapper.class);
+        DeserializeStrategyPostJson deserializeStrategy = new DeserializeStrategyPostJson(mapperStub);
+        deserializeStrategy.deserialize(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        Mockito.verify(mapperStub).deserialize(captor.capture());
+        assertEquals(0, captor.getValue().readableBytes());
+    }
 }
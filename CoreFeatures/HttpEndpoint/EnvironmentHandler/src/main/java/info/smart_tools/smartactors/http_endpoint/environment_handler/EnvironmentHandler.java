@@ -15,7 +15,6 @@ import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageProcessorProcessException;
 import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
 import info.smart_tools.smartactors.task.interfaces.itask.ITask;
-import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
@@ -55,10 +54,8 @@ public class EnvironmentHandler implements IEnvironmentHandler {
     public void handle(final IObject environment, final IReceiverChain receiverChain, final IAction<Throwable> callback)
             throws EnvironmentHandleException {
         try {
-            IMessageProcessingSequence processingSequence =
-                    IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"), stackDepth, receiverChain);
             IMessageProcessor messageProcessor =
-                    IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"), taskQueue, processingSequence);
+                    IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"), taskQueue, stackDepth, receiverChain);
 
             IObject message = (IObject) environment.getValue(this.messageFieldName);
             IObject context = (IObject) environment.getValue(this.contextFieldName);
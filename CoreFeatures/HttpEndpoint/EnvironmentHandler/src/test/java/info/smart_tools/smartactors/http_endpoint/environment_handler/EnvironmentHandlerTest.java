@@ -124,7 +124,7 @@ public class EnvironmentHandlerTest {
     public void whenEnvironmentHandlerReceiveEnvironment_ItShouldProcessMessageProcessor()
             throws Exception {
         messageProcessor = mock(IMessageProcessor.class);
-        IKey keyIMessageProcessor = Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor");
+        IKey keyIMessageProcessor = Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled");
         IOC.register(
                 keyIMessageProcessor,
                 new SingletonStrategy(messageProcessor)
@@ -1,6 +1,7 @@
 package info.smart_tools.smartactors.http_endpoint.http_client;
 
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.endpoint.interfaces.iclient.IClient;
 import info.smart_tools.smartactors.endpoint.interfaces.iclient.IClientConfig;
 import info.smart_tools.smartactors.endpoint.interfaces.irequest_sender.exception.RequestSenderException;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_handler.IResponseHandler;
@@ -20,10 +21,14 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
 
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for HTTP server
@@ -39,6 +44,7 @@ public class HttpClient extends NettyClient<HttpRequest> {
     private IFieldName contentFieldName;
     private String messageMapId;
     private IResponseHandler inboundHandler;
+    private HttpClientConnectionPool connectionPool;
 
     /**
      * Constructor for http client
@@ -49,19 +55,24 @@ public class HttpClient extends NettyClient<HttpRequest> {
      */
     public HttpClient(final URI serverUri, final IResponseHandler inboundHandler) throws RequestSenderException {
         super(serverUri, NioSocketChannel.class, inboundHandler);
-        try {
-            uriFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "uri");
-            methodFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "method");
-            headersFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "headers");
-            nameFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "name");
-            valueFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "value");
-            cookiesFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "cookie");
-            messageMapIdFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "messageMapId");
-            contentFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "content");
-        } catch (ResolutionException e) {
-            throw new RequestSenderException(e);
-        }
+        initFieldNames();
+        this.inboundHandler = inboundHandler;
+    }
+
+    /**
+     * Constructor for http client sending requests through keep-alive connections taken from the pool
+     *
+     * @param serverUri      URI of the server, that will receive requests
+     * @param inboundHandler handler of the response
+     * @param connectionPool pool of the connections
+     * @throws RequestSenderException if there are exception on resolving IFieldName
+     */
+    public HttpClient(final URI serverUri, final IResponseHandler inboundHandler, final HttpClientConnectionPool connectionPool)
+            throws RequestSenderException {
+        super(serverUri, inboundHandler);
+        initFieldNames();
         this.inboundHandler = inboundHandler;
+        this.connectionPool = connectionPool;
     }
 
     /**
@@ -88,15 +99,72 @@ public class HttpClient extends NettyClient<HttpRequest> {
                 );
     }
 
+    @Override
+    public CompletableFuture<IClient<HttpRequest>> start() {
+        if (null != connectionPool) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        return super.start();
+    }
+
+    @Override
+    public CompletableFuture<Void> send(final HttpRequest request) {
+        if (null != connectionPool) {
+            return connectionPool.send(serverUri, request, inboundHandler);
+        }
+
+        return super.send(request);
+    }
+
+    @Override
+    public CompletableFuture<IClient<HttpRequest>> stop() {
+        if (null != connectionPool) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        return super.stop();
+    }
+
     @Override
     public void sendRequest(final IObject request) throws RequestSenderException {
         try {
             messageMapId = (String) request.getValue(messageMapIdFieldName);
             IRequestMaker<FullHttpRequest> requestMaker = IOC.resolve(Keys.getOrAdd(IRequestMaker.class.getCanonicalName()));
             FullHttpRequest httpRequest = requestMaker.make(request);
+            if (null != connectionPool && !hasConnectionHeader(request)) {
+                HttpUtil.setKeepAlive(httpRequest, true);
+            }
             send(httpRequest);
         } catch (RequestMakerException | ReadValueException | ResolutionException | InvalidArgumentException e) {
             throw new RequestSenderException(e);
         }
     }
+
+    private void initFieldNames() throws RequestSenderException {
+        try {
+            uriFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "uri");
+            methodFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "method");
+            headersFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "headers");
+            nameFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "name");
+            valueFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "value");
+            cookiesFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "cookie");
+            messageMapIdFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "messageMapId");
+            contentFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "content");
+        } catch (ResolutionException e) {
+            throw new RequestSenderException(e);
+        }
+    }
+
+    private boolean hasConnectionHeader(final IObject request) throws ReadValueException, InvalidArgumentException {
+        List<IObject> headers = (List<IObject>) request.getValue(headersFieldName);
+        if (null != headers) {
+            for (IObject header : headers) {
+                if (HttpHeaderNames.CONNECTION.contentEqualsIgnoreCase((String) header.getValue(nameFieldName))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
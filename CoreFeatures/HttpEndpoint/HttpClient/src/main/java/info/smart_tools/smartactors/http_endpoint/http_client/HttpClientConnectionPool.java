@@ -0,0 +1,330 @@
+package info.smart_tools.smartactors.http_endpoint.http_client;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.endpoint.interfaces.iresponse_handler.IResponseHandler;
+import info.smart_tools.smartactors.http_endpoint.netty_client.NettyClient;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of keep-alive HTTP connections to remote servers.
+ *
+ * <p>
+ *     Connections are grouped by origin (host and port of the server). A connection sends one request at a time and
+ *     returns to the pool when the whole response is received, unless the server asks to close it. When all connections
+ *     to the origin are busy and their amount reached the limit, the request waits for the first released connection.
+ * </p>
+ *
+ * <p>
+ *     Connections are closed and forgotten when the server closes them, when there is no response on a request during
+ *     the read timeout and when a connection stays idle in the pool longer than the idle timeout. The idle timeout should
+ *     be shorter than keep-alive timeout of the servers, otherwise the server may close the connection while a request is
+ *     being sent.
+ * </p>
+ *
+ * <p>
+ *     All connections are served by the worker group shared by {@link NettyClient netty clients} and use the transport
+ *     configured for them.
+ * </p>
+ */
+public class HttpClientConnectionPool {
+    private static final String RESPONSE_HANDLER_NAME = "handleResponse";
+    private static final String READ_TIMEOUT_HANDLER_NAME = "readTimeout";
+
+    /**
+     * Request waiting for a connection
+     */
+    private static final class PendingRequest {
+        private final HttpRequest request;
+        private final IResponseHandler responseHandler;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingRequest(final HttpRequest request, final IResponseHandler responseHandler) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+        }
+    }
+
+    /**
+     * Connections to a single origin
+     */
+    private static final class Origin {
+        private final String host;
+        private final int port;
+        private final ArrayDeque<Channel> idle = new ArrayDeque<>();
+        private final ArrayDeque<PendingRequest> pending = new ArrayDeque<>();
+        private int open;
+
+        private Origin(final String host, final int port) {
+            this.host = host;
+            this.port = port;
+        }
+    }
+
+    /**
+     * Handler passing the response to the response handler of the request and returning the connection to the pool
+     */
+    private final class ConnectionHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+        private final Origin origin;
+        private volatile IResponseHandler responseHandler;
+
+        private ConnectionHandler(final Origin origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final FullHttpResponse response)
+                throws Exception {
+            IResponseHandler handler = responseHandler;
+            responseHandler = null;
+
+            // The next response can not be read before this method returns, so the connection may be reused right now
+            if (null != handler && HttpUtil.isKeepAlive(response)) {
+                release(origin, ctx.channel());
+            } else {
+                ctx.close();
+            }
+
+            if (null != handler) {
+                handler.handle(ctx, response);
+            }
+        }
+
+        @Override
+        public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt)
+                throws Exception {
+            if (evt instanceof IdleStateEvent && null == responseHandler) {
+                ctx.close();
+            }
+
+            super.userEventTriggered(ctx, evt);
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            ctx.close();
+        }
+    }
+
+    private final ConcurrentMap<String, Origin> origins = new ConcurrentHashMap<>();
+    private final int maxConnectionsPerOrigin;
+    private final int connectionTimeout;
+    private final int readTimeout;
+    private final int idleTimeout;
+    private volatile Bootstrap bootstrap;
+
+    /**
+     * The constructor.
+     *
+     * @param maxConnectionsPerOrigin    maximal amount of connections to a single origin
+     * @param connectionTimeout          connection timeout in milliseconds
+     * @param readTimeout                maximal time in milliseconds to wait for the response
+     * @param idleTimeout                maximal time in milliseconds a connection stays idle in the pool
+     * @throws InvalidArgumentException if any of the arguments is not positive
+     */
+    public HttpClientConnectionPool(
+            final int maxConnectionsPerOrigin, final int connectionTimeout, final int readTimeout, final int idleTimeout)
+            throws InvalidArgumentException {
+        if (maxConnectionsPerOrigin <= 0) {
+            throw new InvalidArgumentException("Maximal amount of connections should be positive.");
+        }
+
+        if (connectionTimeout <= 0 || readTimeout <= 0 || idleTimeout <= 0) {
+            throw new InvalidArgumentException("Timeouts should be positive.");
+        }
+
+        this.maxConnectionsPerOrigin = maxConnectionsPerOrigin;
+        this.connectionTimeout = connectionTimeout;
+        this.readTimeout = readTimeout;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Send the request through a pooled connection to the server.
+     *
+     * @param serverUri          URI of the server
+     * @param request            the request, it should not ask the server to close the connection to let it be reused
+     * @param responseHandler    handler of the response on the request
+     * @return a future completed when the request is written to the connection
+     */
+    public CompletableFuture<Void> send(
+            final URI serverUri, final HttpRequest request, final IResponseHandler responseHandler) {
+        Origin origin = getOrigin(serverUri);
+        PendingRequest pendingRequest = new PendingRequest(request, responseHandler);
+        Channel channel;
+
+        synchronized (origin) {
+            do {
+                channel = origin.idle.pollLast();
+            } while (null != channel && !channel.isActive());
+
+            if (null == channel) {
+                if (origin.open >= maxConnectionsPerOrigin) {
+                    origin.pending.addLast(pendingRequest);
+                    return pendingRequest.future;
+                }
+
+                ++origin.open;
+            }
+        }
+
+        if (null == channel) {
+            connect(origin, pendingRequest);
+        } else {
+            write(channel, pendingRequest);
+        }
+
+        return pendingRequest.future;
+    }
+
+    /**
+     * Get amount of open connections to the server.
+     *
+     * @param serverUri    URI of the server
+     * @return amount of open (both idle and busy) connections
+     */
+    public int getOpenConnections(final URI serverUri) {
+        Origin origin = getOrigin(serverUri);
+
+        synchronized (origin) {
+            return origin.open;
+        }
+    }
+
+    /**
+     * Create the bootstrap on first connection, so the worker group of netty clients is created after the configuration
+     * of the transport is loaded.
+     */
+    private Bootstrap getBootstrap() {
+        Bootstrap result = bootstrap;
+
+        if (null == result) {
+            synchronized (this) {
+                result = bootstrap;
+
+                if (null == result) {
+                    NettyTransportConfig transportConfig = NettyClient.getTransportConfig();
+                    result = transportConfig.configure(new Bootstrap())
+                            .group(NettyClient.getWorkerGroup())
+                            .channel(transportConfig.getChannelClass())
+                            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout)
+                            .handler(new ChannelInitializer<Channel>() {
+                                @Override
+                                protected void initChannel(final Channel ch) throws Exception {
+                                    ch.pipeline().addLast(
+                                            new HttpClientCodec(),
+                                            new HttpObjectAggregator(Integer.MAX_VALUE),
+                                            new IdleStateHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS)
+                                    );
+                                }
+                            });
+                    bootstrap = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private Origin getOrigin(final URI serverUri) {
+        String host = serverUri.getHost();
+        int port = serverUri.getPort();
+
+        if (-1 == port) {
+            port = "https".equals(serverUri.getScheme()) ? 443 : 80;
+        }
+
+        int originPort = port;
+        return origins.computeIfAbsent(host + ":" + port, k -> new Origin(host, originPort));
+    }
+
+    private void connect(final Origin origin, final PendingRequest pendingRequest) {
+        getBootstrap().connect(origin.host, origin.port).addListener((ChannelFuture future) -> {
+            if (!future.isSuccess()) {
+                pendingRequest.future.completeExceptionally(future.cause());
+                onClose(origin, null);
+                return;
+            }
+
+            Channel channel = future.channel();
+            channel.pipeline().addLast(RESPONSE_HANDLER_NAME, new ConnectionHandler(origin));
+            channel.closeFuture().addListener(f -> onClose(origin, channel));
+            write(channel, pendingRequest);
+        });
+    }
+
+    private void write(final Channel channel, final PendingRequest pendingRequest) {
+        ((ConnectionHandler) channel.pipeline().get(RESPONSE_HANDLER_NAME)).responseHandler = pendingRequest.responseHandler;
+        channel.pipeline().addBefore(
+                RESPONSE_HANDLER_NAME,
+                READ_TIMEOUT_HANDLER_NAME,
+                new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS)
+        );
+        channel.writeAndFlush(pendingRequest.request).addListener((ChannelFuture future) -> {
+            if (future.isSuccess()) {
+                pendingRequest.future.complete(null);
+            } else {
+                pendingRequest.future.completeExceptionally(future.cause());
+                future.channel().close();
+            }
+        });
+    }
+
+    private void release(final Origin origin, final Channel channel) {
+        channel.pipeline().remove(READ_TIMEOUT_HANDLER_NAME);
+        PendingRequest next;
+
+        synchronized (origin) {
+            next = origin.pending.pollFirst();
+
+            if (null == next) {
+                origin.idle.addLast(channel);
+            }
+        }
+
+        if (null != next) {
+            write(channel, next);
+        }
+    }
+
+    private void onClose(final Origin origin, final Channel channel) {
+        PendingRequest next;
+
+        synchronized (origin) {
+            if (null != channel) {
+                origin.idle.remove(channel);
+            }
+
+            next = origin.pending.pollFirst();
+
+            if (null == next) {
+                --origin.open;
+            }
+        }
+
+        if (null != next) {
+            connect(origin, next);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package info.smart_tools.smartactors.http_endpoint.http_client;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.endpoint.interfaces.iresponse_handler.IResponseHandler;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests for {@link HttpClientConnectionPool}.
+ */
+public class HttpClientConnectionPoolTest {
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private AtomicInteger acceptedConnections;
+    private URI serverUri;
+
+    @Before
+    public void setUp() throws Exception {
+        serverGroup = new NioEventLoopGroup(1);
+        acceptedConnections = new AtomicInteger(0);
+        serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(final Channel ch) throws Exception {
+                        acceptedConnections.incrementAndGet();
+                        ch.pipeline().addLast(
+                                new HttpServerCodec(),
+                                new HttpObjectAggregator(1024),
+                                new SimpleChannelInboundHandler<FullHttpRequest>() {
+                                    @Override
+                                    protected void channelRead0(final ChannelHandlerContext ctx, final FullHttpRequest request) {
+                                        FullHttpResponse response = new DefaultFullHttpResponse(
+                                                HttpVersion.HTTP_1_1, HttpResponseStatus.OK
+                                        );
+                                        HttpUtil.setContentLength(response, 0);
+
+                                        if (HttpUtil.isKeepAlive(request)) {
+                                            HttpUtil.setKeepAlive(response, true);
+                                            ctx.writeAndFlush(response);
+                                        } else {
+                                            HttpUtil.setKeepAlive(response, false);
+                                            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+                                        }
+                                    }
+                                }
+                        );
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+        serverUri = URI.create("http://localhost:" + ((InetSocketAddress) serverChannel.localAddress()).getPort());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully().sync();
+    }
+
+    private static FullHttpRequest request(final boolean keepAlive) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        HttpUtil.setKeepAlive(request, keepAlive);
+        return request;
+    }
+
+    private static IResponseHandler<ChannelHandlerContext, FullHttpResponse> handler(
+            final BlockingQueue<FullHttpResponse> responses) {
+        return (ctx, response) -> responses.add(response.copy());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenMaxConnectionsIsNotPositive()
+            throws Exception {
+        assertNotNull(new HttpClientConnectionPool(0, 1000, 1000, 1000));
+    }
+
+    @Test
+    public void Should_reuseKeepAliveConnection()
+            throws Exception {
+        HttpClientConnectionPool pool = new HttpClientConnectionPool(4, 1000, 1000, 10000);
+        BlockingQueue<FullHttpResponse> responses = new LinkedBlockingQueue<>();
+
+        for (int i = 0; i < 3; ++i) {
+            pool.send(serverUri, request(true), handler(responses)).get(5, TimeUnit.SECONDS);
+            assertNotNull(responses.poll(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, acceptedConnections.get());
+        assertEquals(1, pool.getOpenConnections(serverUri));
+    }
+
+    @Test
+    public void Should_queueRequests_When_allConnectionsAreBusy()
+            throws Exception {
+        HttpClientConnectionPool pool = new HttpClientConnectionPool(1, 1000, 1000, 10000);
+        BlockingQueue<FullHttpResponse> responses = new LinkedBlockingQueue<>();
+
+        for (int i = 0; i < 5; ++i) {
+            pool.send(serverUri, request(true), handler(responses));
+        }
+
+        for (int i = 0; i < 5; ++i) {
+            assertNotNull(responses.poll(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, acceptedConnections.get());
+    }
+
+    @Test
+    public void Should_notReuseConnection_When_itIsClosedByServer()
+            throws Exception {
+        HttpClientConnectionPool pool = new HttpClientConnectionPool(4, 1000, 1000, 10000);
+        BlockingQueue<FullHttpResponse> responses = new LinkedBlockingQueue<>();
+
+        pool.send(serverUri, request(false), handler(responses));
+        assertNotNull(responses.poll(5, TimeUnit.SECONDS));
+        pool.send(serverUri, request(false), handler(responses));
+        assertNotNull(responses.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(2, acceptedConnections.get());
+    }
+
+    @Test
+    public void Should_closeIdleConnections()
+            throws Exception {
+        HttpClientConnectionPool pool = new HttpClientConnectionPool(4, 1000, 1000, 100);
+        BlockingQueue<FullHttpResponse> responses = new LinkedBlockingQueue<>();
+
+        pool.send(serverUri, request(true), handler(responses));
+        assertNotNull(responses.poll(5, TimeUnit.SECONDS));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getOpenConnections(serverUri) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, pool.getOpenConnections(serverUri));
+
+        pool.send(serverUri, request(true), handler(responses));
+        assertNotNull(responses.poll(5, TimeUnit.SECONDS));
+        assertEquals(2, acceptedConnections.get());
+    }
+}
@@ -5,6 +5,7 @@ import info.smart_tools.smartactors.base.iup_counter.exception.UpCounterCallback
 import info.smart_tools.smartactors.endpoint.endpoint_channel_inbound_handler.EndpointChannelInboundHandler;
 import info.smart_tools.smartactors.http_endpoint.http_request_handler.HttpRequestHandler;
 import info.smart_tools.smartactors.http_endpoint.http_server.HttpServer;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
 import info.smart_tools.smartactors.endpoint.interfaces.ienvironment_handler.IEnvironmentHandler;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
@@ -37,4 +38,35 @@ public class HttpEndpoint extends HttpServer {
                 FullHttpRequest.class
         ));
     }
+
+    /**
+     * Constructor for endpoint
+     *
+     * @param port             port of the endpoint
+     * @param maxContentLength max length of the content
+     * @param scope            scope for endpoint
+     * @param handler          handler for environment
+     * @param receiverChain    chain, that should receive {@link io.netty.channel.ChannelOutboundBuffer.MessageProcessor}
+     * @param name             name of the endpoint
+     * @param upCounter        up-counter to use to register shutdown callbacks
+     * @param transportConfig  configuration of the transport
+     * @param keepAliveTimeout time in milliseconds an idle connection is kept open, {@code 0} to keep it open forever
+     * @param maxPipelinedRequests max amount of requests waiting for responses on a connection, should be positive
+     * @param compressionLevel level of response compression from {@code 1} to {@code 9}, {@code 0} to disable it
+     * @param compressionThreshold minimal length of response content to compress
+     * @throws ResolutionException if IOC cant resolve smth
+     * @throws UpCounterCallbackExecutionException if error occurs setting shutdown callback
+     */
+    public HttpEndpoint(final int port, final int maxContentLength, final IScope scope,
+                        final IEnvironmentHandler handler, final IReceiverChain receiverChain,
+                        final String name, final IUpCounter upCounter, final NettyTransportConfig transportConfig,
+                        final int keepAliveTimeout, final int maxPipelinedRequests,
+                        final int compressionLevel, final int compressionThreshold
+    ) throws ResolutionException, UpCounterCallbackExecutionException {
+        super(port, maxContentLength, new EndpointChannelInboundHandler<>(
+                new HttpRequestHandler(scope, handler, receiverChain, name, upCounter),
+                FullHttpRequest.class
+        ), transportConfig, keepAliveTimeout, maxPipelinedRequests,
+                compressionLevel, compressionThreshold);
+    }
 }
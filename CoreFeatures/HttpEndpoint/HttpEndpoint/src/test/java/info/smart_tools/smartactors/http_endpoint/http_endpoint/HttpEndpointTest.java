@@ -30,6 +30,7 @@ import info.smart_tools.smartactors.message_processing_interfaces.message_proces
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandler;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -55,7 +56,7 @@ import static org.mockito.Mockito.mock;
 
 
 public class HttpEndpointTest {
-    protected IMessageMapper<byte[]> mapperStub;
+    protected IMessageMapper<ByteBuf> mapperStub;
     protected HttpServer endpoint;
     protected HttpClient client;
     protected IEnvironmentHandler environmentHandler;
@@ -172,7 +173,7 @@ public class HttpEndpointTest {
      public void whenEndpointHandlerReceivesRequest_ItShouldHandleEnvironmentHandler()
              throws ResolutionException, InvalidArgumentException, EnvironmentHandleException, RequestHandlerInternalException {
          IObject stubMessage = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), "{\"hello\": \"world\"}");
-         when(mapperStub.deserialize(any(byte[].class))).thenReturn(stubMessage);
+         when(mapperStub.deserialize(any(ByteBuf.class))).thenReturn(stubMessage);
          HttpRequest request = createTestRequest();
          sendRequest(request);
          verify(environmentHandler, timeout(1000)).handle(any(IObject.class), any(IReceiverChain.class), any(null));
@@ -183,7 +184,7 @@ public class HttpEndpointTest {
     }
 
     protected HttpServer createEndpoint(
-            IEnvironmentHandler environmentHandler, IReceiverChain receiver, IMessageMapper<byte[]> mapper
+            IEnvironmentHandler environmentHandler, IReceiverChain receiver, IMessageMapper<ByteBuf> mapper
     ) throws ResolutionException, ScopeProviderException, UpCounterCallbackExecutionException {
         Map<String, IDeserializeStrategy> strategies = new HashMap<>();
         strategies.put("application/json", new DeserializeStrategyPostJson(mapper));
@@ -0,0 +1,192 @@
+package info.smart_tools.smartactors.http_endpoint.http_pipelining;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handler of persistent HTTP connections.
+ *
+ * <p>
+ *     Handler passes every request further as {@link PipelinedHttpRequest} knowing its position on the connection and
+ *     expects responses wrapped by {@link PipelinedHttpResponse#of(Object, Object)}. Requests on the connection may be
+ *     processed concurrently but responses are written in order of the requests. Not wrapped {@link HttpResponse} is
+ *     taken as the response to the oldest request waiting for response, so the order of requests and responses stays
+ *     consistent even if some writer does not mark its responses. Other messages are written as is.
+ * </p>
+ *
+ * <p>
+ *     Connection is closed after the response if the client or the response asks to close it; requests received after
+ *     such request are ignored. When the amount of requests waiting for responses reaches the limit the handler stops
+ *     reading the connection until some responses are written. Idle connection is closed on {@link IdleStateEvent} if
+ *     there are no requests waiting for responses.
+ * </p>
+ */
+public class HttpPipeliningHandler extends ChannelDuplexHandler {
+    /**
+     * Response waiting for responses to previous requests
+     */
+    private static final class PendingResponse {
+        private final Object response;
+        private final ChannelPromise promise;
+
+        private PendingResponse(final Object response, final ChannelPromise promise) {
+            this.response = response;
+            this.promise = promise;
+        }
+    }
+
+    private final int maxPipelinedRequests;
+    private final ArrayDeque<Boolean> keepAliveFlags = new ArrayDeque<>();
+    private final Map<Integer, PendingResponse> pendingResponses = new HashMap<>();
+    private int nextRequestSequence;
+    private int nextResponseSequence;
+    private boolean closing;
+    private boolean closed;
+    private boolean readSuspended;
+
+    /**
+     * Constructor
+     *
+     * @param maxPipelinedRequests    maximal amount of requests waiting for responses on the connection, should be
+     *                                positive
+     */
+    public HttpPipeliningHandler(final int maxPipelinedRequests) {
+        this.maxPipelinedRequests = maxPipelinedRequests;
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        if (!(msg instanceof FullHttpRequest)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (closing) {
+            ReferenceCountUtil.release(msg);
+            return;
+        }
+
+        FullHttpRequest request = (FullHttpRequest) msg;
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
+
+        keepAliveFlags.addLast(keepAlive);
+        closing = !keepAlive;
+
+        if (keepAliveFlags.size() >= maxPipelinedRequests && !readSuspended) {
+            readSuspended = true;
+            ctx.channel().config().setAutoRead(false);
+        }
+
+        ctx.fireChannelRead(new PipelinedHttpRequest(request, nextRequestSequence++));
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+        if (!(msg instanceof PipelinedHttpResponse)) {
+            if (msg instanceof HttpResponse && nextResponseSequence != nextRequestSequence && !closed) {
+                pendingResponses.put(nextResponseSequence, new PendingResponse(msg, promise));
+                writePendingResponses(ctx);
+            } else {
+                ctx.write(msg, promise);
+            }
+            return;
+        }
+
+        PipelinedHttpResponse response = (PipelinedHttpResponse) msg;
+        int sequence = response.getSequence();
+
+        if (closed) {
+            response.release();
+            promise.setFailure(new ClosedChannelException());
+            return;
+        }
+
+        if (sequence - nextResponseSequence < 0 || sequence - nextRequestSequence >= 0
+                || pendingResponses.containsKey(sequence)) {
+            response.release();
+            promise.setFailure(new IllegalStateException("Response to the request is already sent."));
+            return;
+        }
+
+        pendingResponses.put(sequence, new PendingResponse(response.getResponse(), promise));
+        writePendingResponses(ctx);
+    }
+
+    private void writePendingResponses(final ChannelHandlerContext ctx) {
+        PendingResponse pending;
+
+        while (null != (pending = pendingResponses.remove(nextResponseSequence))) {
+            ++nextResponseSequence;
+            Boolean keepAliveFlag = keepAliveFlags.pollFirst();
+            boolean keepAlive = null != keepAliveFlag && keepAliveFlag;
+
+            if (pending.response instanceof HttpResponse) {
+                HttpResponse response = (HttpResponse) pending.response;
+                keepAlive = keepAlive && HttpUtil.isKeepAlive(response);
+                response.headers().set(
+                        HttpHeaderNames.CONNECTION,
+                        keepAlive ? HttpHeaderValues.KEEP_ALIVE : HttpHeaderValues.CLOSE
+                );
+            }
+
+            ctx.write(pending.response, pending.promise);
+
+            if (!keepAlive) {
+                closing = true;
+                closed = true;
+                pending.promise.addListener(ChannelFutureListener.CLOSE);
+                releasePendingResponses();
+                return;
+            }
+        }
+
+        if (readSuspended && keepAliveFlags.size() < maxPipelinedRequests) {
+            readSuspended = false;
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    private void releasePendingResponses() {
+        for (PendingResponse pending : pendingResponses.values()) {
+            ReferenceCountUtil.release(pending.response);
+            pending.promise.tryFailure(new ClosedChannelException());
+        }
+
+        pendingResponses.clear();
+        keepAliveFlags.clear();
+    }
+
+    @Override
+    public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            if (keepAliveFlags.isEmpty()) {
+                ctx.close();
+            }
+
+            return;
+        }
+
+        ctx.fireUserEventTriggered(evt);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        closed = true;
+        releasePendingResponses();
+        ctx.fireChannelInactive();
+    }
+}
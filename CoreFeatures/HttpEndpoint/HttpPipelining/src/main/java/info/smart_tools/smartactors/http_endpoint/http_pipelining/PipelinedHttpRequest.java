@@ -0,0 +1,34 @@
+package info.smart_tools.smartactors.http_endpoint.http_pipelining;
+
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+
+/**
+ * Request received through a connection served by {@link HttpPipeliningHandler}.
+ * Shares content and headers with the original request and knows the position of the request on the connection.
+ */
+public class PipelinedHttpRequest extends DefaultFullHttpRequest {
+    private final int sequence;
+
+    /**
+     * Constructor
+     *
+     * @param request     the original request, the reference to its content is taken by the new request
+     * @param sequence    position of the request on the connection
+     */
+    public PipelinedHttpRequest(final FullHttpRequest request, final int sequence) {
+        super(
+                request.protocolVersion(), request.method(), request.uri(), request.content(),
+                request.headers(), request.trailingHeaders()
+        );
+        setDecoderResult(request.decoderResult());
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return position of the request on the connection
+     */
+    public int getSequence() {
+        return sequence;
+    }
+}
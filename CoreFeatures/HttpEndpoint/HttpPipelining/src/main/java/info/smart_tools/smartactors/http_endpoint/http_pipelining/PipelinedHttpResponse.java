@@ -0,0 +1,88 @@
+package info.smart_tools.smartactors.http_endpoint.http_pipelining;
+
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * Response to a {@link PipelinedHttpRequest}, written by {@link HttpPipeliningHandler} in order of the requests.
+ * Reference counting is delegated to the wrapped response, so the response is released even if the message never
+ * reaches the pipelining handler (e.g. when it is written after the connection is closed).
+ */
+public final class PipelinedHttpResponse implements ReferenceCounted {
+    private final int sequence;
+    private final Object response;
+
+    private PipelinedHttpResponse(final int sequence, final Object response) {
+        this.sequence = sequence;
+        this.response = response;
+    }
+
+    /**
+     * Create a message to write in response to the request.
+     *
+     * @param request     the request
+     * @param response    the response
+     * @return the message wrapping the response if the request is a {@link PipelinedHttpRequest}, the response itself
+     *         otherwise
+     */
+    public static Object of(final Object request, final Object response) {
+        if (request instanceof PipelinedHttpRequest) {
+            return new PipelinedHttpResponse(((PipelinedHttpRequest) request).getSequence(), response);
+        }
+
+        return response;
+    }
+
+    /**
+     * @return position of the request on the connection
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the response
+     */
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public int refCnt() {
+        return response instanceof ReferenceCounted ? ((ReferenceCounted) response).refCnt() : 1;
+    }
+
+    @Override
+    public PipelinedHttpResponse retain() {
+        ReferenceCountUtil.retain(response);
+        return this;
+    }
+
+    @Override
+    public PipelinedHttpResponse retain(final int increment) {
+        ReferenceCountUtil.retain(response, increment);
+        return this;
+    }
+
+    @Override
+    public PipelinedHttpResponse touch() {
+        ReferenceCountUtil.touch(response);
+        return this;
+    }
+
+    @Override
+    public PipelinedHttpResponse touch(final Object hint) {
+        ReferenceCountUtil.touch(response, hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return ReferenceCountUtil.release(response);
+    }
+
+    @Override
+    public boolean release(final int decrement) {
+        return ReferenceCountUtil.release(response, decrement);
+    }
+}
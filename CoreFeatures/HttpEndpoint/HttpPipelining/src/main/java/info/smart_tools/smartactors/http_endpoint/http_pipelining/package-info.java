@@ -0,0 +1,4 @@
+/**
+ * Package contains support of persistent connections and pipelined requests for http server
+ */
+package info.smart_tools.smartactors.http_endpoint.http_pipelining;
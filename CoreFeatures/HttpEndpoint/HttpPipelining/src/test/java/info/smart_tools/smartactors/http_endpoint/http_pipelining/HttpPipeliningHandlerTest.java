@@ -0,0 +1,172 @@
+package info.smart_tools.smartactors.http_endpoint.http_pipelining;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HttpPipeliningHandler}.
+ */
+public class HttpPipeliningHandlerTest {
+
+    private static FullHttpRequest request(final String uri, final boolean keepAlive) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+        HttpUtil.setKeepAlive(request, keepAlive);
+        return request;
+    }
+
+    private static FullHttpResponse response(final String status) {
+        return new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, new HttpResponseStatus(200, status));
+    }
+
+    @Test
+    public void Should_writeResponsesInOrderOfRequests()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(16));
+
+        channel.writeInbound(request("/1", true), request("/2", true), request("/3", true));
+
+        PipelinedHttpRequest r1 = channel.readInbound();
+        PipelinedHttpRequest r2 = channel.readInbound();
+        PipelinedHttpRequest r3 = channel.readInbound();
+        assertEquals("/1", r1.uri());
+        assertEquals("/3", r3.uri());
+
+        channel.writeAndFlush(PipelinedHttpResponse.of(r3, response("3")));
+        channel.writeAndFlush(PipelinedHttpResponse.of(r2, response("2")));
+        assertNull(channel.readOutbound());
+
+        channel.writeAndFlush(PipelinedHttpResponse.of(r1, response("1")));
+
+        for (String status : new String[] {"1", "2", "3"}) {
+            FullHttpResponse response = channel.readOutbound();
+            assertEquals(status, response.status().reasonPhrase());
+            assertTrue(HttpUtil.isKeepAlive(response));
+        }
+
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void Should_dropSecondResponseToTheSameRequest()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(16));
+        channel.writeInbound(request("/", true));
+        PipelinedHttpRequest request = channel.readInbound();
+
+        channel.writeAndFlush(PipelinedHttpResponse.of(request, response("first")));
+        FullHttpResponse second = response("second");
+        assertFalse(channel.writeAndFlush(PipelinedHttpResponse.of(request, second)).isSuccess());
+
+        assertEquals("first", ((FullHttpResponse) channel.readOutbound()).status().reasonPhrase());
+        assertNull(channel.readOutbound());
+        assertEquals(0, second.refCnt());
+    }
+
+    @Test
+    public void Should_closeConnectionAfterResponse_When_clientAsksToCloseIt()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(16));
+        channel.writeInbound(request("/", false), request("/ignored", true));
+        PipelinedHttpRequest request = channel.readInbound();
+        assertNull(channel.readInbound());
+
+        channel.writeAndFlush(PipelinedHttpResponse.of(request, response("OK")));
+
+        FullHttpResponse response = channel.readOutbound();
+        assertEquals(HttpHeaderValues.CLOSE.toString(), response.headers().get(HttpHeaderNames.CONNECTION));
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void Should_stopReading_When_tooManyRequestsAreWaitingForResponses()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(2));
+        channel.writeInbound(request("/1", true), request("/2", true));
+        assertFalse(channel.config().isAutoRead());
+
+        PipelinedHttpRequest request = channel.readInbound();
+        channel.writeAndFlush(PipelinedHttpResponse.of(request, response("OK")));
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    @Test
+    public void Should_passNotPipelinedResponsesAsIs()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(16));
+        FullHttpResponse response = response("OK");
+        Object message = PipelinedHttpResponse.of(request("/", true), response);
+
+        channel.writeAndFlush(message);
+
+        assertSame(response, message);
+        assertSame(response, channel.readOutbound());
+    }
+
+    @Test
+    public void Should_takeNotPipelinedResponseAsResponseToOldestRequest()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(1));
+        channel.writeInbound(request("/", true));
+        PipelinedHttpRequest request = channel.readInbound();
+        assertFalse(channel.config().isAutoRead());
+
+        channel.writeAndFlush(response("plain"));
+        FullHttpResponse late = response("late");
+        assertFalse(channel.writeAndFlush(PipelinedHttpResponse.of(request, late)).isSuccess());
+
+        assertTrue(channel.config().isAutoRead());
+        assertEquals("plain", ((FullHttpResponse) channel.readOutbound()).status().reasonPhrase());
+        assertNull(channel.readOutbound());
+        assertEquals(0, late.refCnt());
+    }
+
+    @Test
+    public void Should_releaseResponse_When_itIsWrittenAfterConnectionIsClosed()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(16));
+        channel.writeInbound(request("/", true));
+        PipelinedHttpRequest request = channel.readInbound();
+        channel.close();
+
+        FullHttpResponse response = response("OK");
+        assertFalse(channel.writeAndFlush(PipelinedHttpResponse.of(request, response)).isSuccess());
+
+        assertEquals(0, response.refCnt());
+    }
+
+    @Test
+    public void Should_releaseResponse_When_itIsWrittenAfterServerDecidedToCloseConnection()
+            throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpPipeliningHandler(16));
+        channel.writeInbound(request("/1", true), request("/2", true));
+        PipelinedHttpRequest r1 = channel.readInbound();
+        PipelinedHttpRequest r2 = channel.readInbound();
+
+        FullHttpResponse closing = response("closing");
+        HttpUtil.setKeepAlive(closing, false);
+        channel.write(PipelinedHttpResponse.of(r1, closing));
+        FullHttpResponse late = response("late");
+        assertFalse(channel.write(PipelinedHttpResponse.of(r2, late)).isSuccess());
+        channel.flush();
+
+        assertEquals(0, late.refCnt());
+        assertEquals("closing", ((FullHttpResponse) channel.readOutbound()).status().reasonPhrase());
+        assertFalse(channel.isOpen());
+    }
+}
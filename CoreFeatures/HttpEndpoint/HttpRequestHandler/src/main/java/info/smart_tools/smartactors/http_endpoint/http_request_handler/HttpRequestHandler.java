@@ -5,6 +5,7 @@ import info.smart_tools.smartactors.base.iup_counter.IUpCounter;
 import info.smart_tools.smartactors.base.iup_counter.exception.UpCounterCallbackExecutionException;
 import info.smart_tools.smartactors.endpoint.interfaces.ideserialize_strategy.IDeserializeStrategy;
 import info.smart_tools.smartactors.http_endpoint.channel_handler_netty.ChannelHandlerNetty;
+import info.smart_tools.smartactors.http_endpoint.http_pipelining.PipelinedHttpResponse;
 import info.smart_tools.smartactors.endpoint.endpoint_handler.EndpointHandler;
 import info.smart_tools.smartactors.base.interfaces.iaction.IAction;
 import info.smart_tools.smartactors.base.interfaces.iaction.exception.ActionExecuteException;
@@ -70,6 +71,17 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
     private final IFieldName endpointName;
     private final IFieldName responseStrategyName;
 
+    /**
+     * Final action sending an error response if no response is sent when message processing is completed, the same
+     * instance is used for all requests to the endpoint
+     */
+    private final IAction<IObject> httpFinalAction;
+
+    /**
+     * Response strategy, resolved on first request
+     */
+    private Object responseStrategy;
+
     private boolean isShuttingDown = false;
 
     /**
@@ -100,6 +112,8 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
         endpointName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "endpointName");
         responseStrategyName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "responseStrategy");
 
+        httpFinalAction = this::sendResponseIfNotSent;
+
         upCounter.onShutdownRequest(mode -> isShuttingDown = true);
     }
 
@@ -120,7 +134,7 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
                     message = deserializeStrategy.deserialize(request);
                 } catch (DeserializationException e) {
                     IObject exception = IOC.resolve(Keys.getOrAdd("HttpPostParametersToIObjectException"));
-                    ctx.writeAndFlush(formExceptionalResponse(exception));
+                    ctx.writeAndFlush(PipelinedHttpResponse.of(request, formExceptionalResponse(exception)));
                     throw new RequestHandlerDataException(e);
                 }
             }
@@ -141,7 +155,7 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
 
             IObject environment = IOC.resolve(Keys.getOrAdd("EmptyIObject"));
 
-            IChannelHandler channelHandler = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.http_endpoint.channel_handler_netty.ChannelHandlerNetty"), ctx);
+            IChannelHandler channelHandler = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.http_endpoint.channel_handler_netty.ChannelHandlerNetty"), ctx, request);
             //create context of the MP
             IObject context = IOC.resolve(Keys.getOrAdd("EmptyIObject"));
             context.setValue(channelFieldName, channelHandler);
@@ -149,44 +163,11 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
             context.setValue(headersFieldName, new ArrayList<IObject>());
             context.setValue(requestFieldName, request);
             context.setValue(endpointName, name);
-            context.setValue(responseStrategyName, IOC.resolve(Keys.getOrAdd("endpoint response strategy")));
+            context.setValue(responseStrategyName, getResponseStrategy());
 
             context.setValue(httpResponseIsSentFieldName, false);
-            IAction<IObject> httpFinalAction = new IAction<IObject>() {
-                @Override
-                public void execute(final IObject environment) throws ActionExecuteException, InvalidArgumentException {
-                    try {
-                        IObject context = (IObject) environment.getValue(contextFieldName);
-                        if (null != context) {
-                            if ((boolean) context.getValue(httpResponseIsSentFieldName)) {
-                                return;
-                            }
-                        }
-                        IFieldName channelFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "channel");
-                        IChannelHandler channelHandler = (IChannelHandler)
-                                context.getValue(channelFieldName);
-
-                        IResponse response = IOC.resolve(Keys.getOrAdd(IResponse.class.getCanonicalName()));
-                        response.setContent("".getBytes());
-
-                        IResponseSender sender = IOC.resolve(Keys.getOrAdd(IResponseSender.class.getCanonicalName()),
-                                IOC.resolve(Keys.getOrAdd("http_request_key_for_response_sender"), environment),
-                                name);
-                        // ToDo: need refactoring. Need create hashMap - errorName to statusCode
-                        Boolean accessForbidden = (Boolean) context.getValue(accessForbiddenFieldName);
-                        if (accessForbidden != null && accessForbidden) {
-                            context.setValue(httpResponseStatusCodeFieldName, NOT_FOUND_ERROR_STATUS_CODE);
-                        } else {
-                            context.setValue(httpResponseStatusCodeFieldName, INTERNAL_SERVER_ERROR_STATUS_CODE);
-                        }
-                        sender.send(response, environment, channelHandler);
-                    } catch (ResolutionException | ReadValueException | ResponseSendingException | ChangeValueException e) {
-                        throw new ActionExecuteException("Could not execute final http action.");
-                    }
-                }
-            };
 
-            ArrayList<IAction<IObject>> finalActions = new ArrayList<>();
+            ArrayList<IAction<IObject>> finalActions = new ArrayList<>(1);
             finalActions.add(httpFinalAction);
             context.setValue(finalActionsFieldName, finalActions);
 
@@ -197,7 +178,7 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
         } catch (InvalidArgumentException | SerializeException | ChangeValueException | ResolutionException e) {
             try {
                 IObject exception = IOC.resolve(Keys.getOrAdd("HttpInternalException"), e);
-                ctx.writeAndFlush(formExceptionalResponse(exception));
+                ctx.writeAndFlush(PipelinedHttpResponse.of(request, formExceptionalResponse(exception)));
                 throw new RequestHandlerInternalException(e);
             } catch (SerializeException | ResolutionException | InvalidArgumentException e1) {
                 throw new RequestHandlerInternalException("Failed to send response", e);
@@ -207,11 +188,54 @@ public class HttpRequestHandler extends EndpointHandler<ChannelHandlerContext, F
         }
     }
 
+    private Object getResponseStrategy()
+            throws ResolutionException {
+        Object strategy = responseStrategy;
+
+        if (null == strategy) {
+            strategy = IOC.resolve(Keys.getOrAdd("endpoint response strategy"));
+            responseStrategy = strategy;
+        }
+
+        return strategy;
+    }
+
+    private void sendResponseIfNotSent(final IObject environment)
+            throws ActionExecuteException, InvalidArgumentException {
+        try {
+            IObject context = (IObject) environment.getValue(contextFieldName);
+            if (null != context) {
+                if ((boolean) context.getValue(httpResponseIsSentFieldName)) {
+                    return;
+                }
+            }
+            IChannelHandler channelHandler = (IChannelHandler)
+                    context.getValue(channelFieldName);
+
+            IResponse response = IOC.resolve(Keys.getOrAdd(IResponse.class.getCanonicalName()));
+            response.setContent("".getBytes());
+
+            IResponseSender sender = IOC.resolve(Keys.getOrAdd(IResponseSender.class.getCanonicalName()),
+                    IOC.resolve(Keys.getOrAdd("http_request_key_for_response_sender"), environment),
+                    name);
+            // ToDo: need refactoring. Need create hashMap - errorName to statusCode
+            Boolean accessForbidden = (Boolean) context.getValue(accessForbiddenFieldName);
+            if (accessForbidden != null && accessForbidden) {
+                context.setValue(httpResponseStatusCodeFieldName, NOT_FOUND_ERROR_STATUS_CODE);
+            } else {
+                context.setValue(httpResponseStatusCodeFieldName, INTERNAL_SERVER_ERROR_STATUS_CODE);
+            }
+            sender.send(response, environment, channelHandler);
+        } catch (ResolutionException | ReadValueException | ResponseSendingException | ChangeValueException e) {
+            throw new ActionExecuteException("Could not execute final http action.");
+        }
+    }
+
     @Override
     protected void sendExceptionalResponse(final ChannelHandlerContext ctx, final FullHttpRequest request,
                                            final IObject responseIObject) throws SerializeException,
             ReadValueException, InvalidArgumentException, ResolutionException {
-        ctx.writeAndFlush(formExceptionalResponse(responseIObject));
+        ctx.writeAndFlush(PipelinedHttpResponse.of(request, formExceptionalResponse(responseIObject)));
     }
 
     private FullHttpResponse formExceptionalResponse(final IObject iObjectResponse)
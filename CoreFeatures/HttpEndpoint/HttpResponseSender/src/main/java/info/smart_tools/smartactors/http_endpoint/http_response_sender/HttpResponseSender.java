@@ -7,13 +7,17 @@ import info.smart_tools.smartactors.http_endpoint.interfaces.iheaders_extractor.
 import info.smart_tools.smartactors.http_endpoint.interfaces.iheaders_extractor.exceptions.HeadersSetterException;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse.IResponse;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_sender.IResponseSender;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_sender.exceptions.ResponseSendingException;
 import info.smart_tools.smartactors.http_endpoint.interfaces.iresponse_status_extractor.IResponseStatusExtractor;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -22,6 +26,7 @@ import io.netty.handler.codec.http.HttpVersion;
 /**
  * Response sender object for received HTTP request.
  * It sends a response to the request and closes the connection.
+ * Content object of the response is serialized right into a buffer taken from the allocator of the channel.
  */
 public class HttpResponseSender implements IResponseSender {
     /**
@@ -56,20 +61,42 @@ public class HttpResponseSender implements IResponseSender {
                      final IChannelHandler ctx) throws ResponseSendingException {
         FullHttpResponse response = new DefaultFullHttpResponse(
                 HttpVersion.HTTP_1_1, getResponseStatus(environment),
-                Unpooled.wrappedBuffer(responseObject.getContent()));
+                getContent(responseObject, ctx));
         try {
             headersSetter.set(response, environment);
         } catch (HeadersSetterException e) {
+            response.release();
             throw new ResponseSendingException("Failed to set headers to response", e);
         }
         try {
             cookiesSetter.set(response, environment);
         } catch (CookieSettingException e) {
+            response.release();
             throw new ResponseSendingException("Failed to set cookies to response", e);
         }
         ctx.send(response);
     }
 
+    private ByteBuf getContent(final IResponse responseObject, final IChannelHandler ctx)
+            throws ResponseSendingException {
+        IObject contentObject = responseObject.getContentObject();
+        Object handler = ctx.getHandler();
+
+        if (null == contentObject) {
+            return Unpooled.wrappedBuffer(responseObject.getContent());
+        }
+
+        ByteBuf content = (handler instanceof ChannelHandlerContext)
+                ? ((ChannelHandlerContext) handler).alloc().buffer() : Unpooled.buffer();
+        try {
+            contentObject.serialize(new ByteBufOutputStream(content));
+        } catch (SerializeException e) {
+            content.release();
+            throw new ResponseSendingException("Failed to serialize content of the response", e);
+        }
+        return content;
+    }
+
     private HttpResponseStatus getResponseStatus(final IObject environment) {
         Integer responseStatusCode = responseStatusSetter.extract(environment);
         if (null != responseStatusCode) {
@@ -14,6 +14,7 @@ import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionExcept
 import info.smart_tools.smartactors.ioc.ikey.IKey;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
 import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse.IResponse;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_sender.exceptions.ResponseSendingException;
@@ -26,13 +27,22 @@ import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
 
@@ -148,4 +158,43 @@ public class HttpResponseSenderTest {
         verify(headersExtractor, times(1)).set(any(FullHttpResponse.class), any(IObject.class));
         verify(ctx, times(1)).send(any(FullHttpResponse.class));
     }
+
+    @Test
+    public void Should_serializeContentObjectIntoBufferOfChannel() throws Exception {
+        HttpResponseSender sender = new HttpResponseSender("123");
+        IObject environment = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), "{}");
+        IObject content = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), "{\"foo\":\"bar\"}");
+        ChannelHandlerContext channelHandlerContext = mock(ChannelHandlerContext.class);
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(ctx.getHandler()).thenReturn(channelHandlerContext);
+        when(response.getContentObject()).thenReturn(content);
+
+        sender.send(response, environment, ctx);
+
+        ArgumentCaptor<FullHttpResponse> captor = ArgumentCaptor.forClass(FullHttpResponse.class);
+        verify(ctx, times(1)).send(captor.capture());
+        verify(response, never()).getContent();
+        assertEquals("{\"foo\":\"bar\"}", captor.getValue().content().toString(StandardCharsets.UTF_8));
+        captor.getValue().release();
+    }
+
+    @Test
+    public void Should_throwResponseSendingException_When_contentObjectCannotBeSerializedWithoutChannel() throws Exception {
+        HttpResponseSender sender = new HttpResponseSender("123");
+        IObject environment = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), "{}");
+        IObject content = mock(IObject.class);
+        SerializeException serializeException = new SerializeException("failed");
+        doThrow(serializeException).when(content).serialize(any(OutputStream.class));
+        when(response.getContentObject()).thenReturn(content);
+
+        try {
+            sender.send(response, environment, ctx);
+            fail();
+        } catch (ResponseSendingException e) {
+            assertSame(serializeException, e.getCause());
+        }
+
+        verify(response, never()).getContent();
+        verify(ctx, never()).send(any(FullHttpResponse.class));
+    }
 }
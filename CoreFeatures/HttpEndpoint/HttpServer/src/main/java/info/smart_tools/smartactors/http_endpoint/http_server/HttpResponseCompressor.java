@@ -0,0 +1,43 @@
+package info.smart_tools.smartactors.http_endpoint.http_server;
+
+import io.netty.buffer.ByteBufHolder;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+
+/**
+ * Compressor of HTTP responses.
+ * Responses are compressed with gzip or deflate negotiated from "Accept-Encoding" header of the request, responses
+ * with content shorter than the threshold are sent as is.
+ */
+public class HttpResponseCompressor extends HttpContentCompressor {
+    private final int contentSizeThreshold;
+
+    /**
+     * Constructor
+     * @param compressionLevel compression level, from {@code 1} (fastest) to {@code 9} (best compression)
+     * @param contentSizeThreshold minimal length of the content to compress
+     */
+    public HttpResponseCompressor(final int compressionLevel, final int contentSizeThreshold) {
+        super(compressionLevel);
+        this.contentSizeThreshold = contentSizeThreshold;
+    }
+
+    @Override
+    protected Result beginEncode(final HttpResponse headers, final String acceptEncoding)
+            throws Exception {
+        long contentLength;
+
+        if (headers instanceof ByteBufHolder) {
+            contentLength = ((ByteBufHolder) headers).content().readableBytes();
+        } else {
+            contentLength = headers.headers().getInt(HttpHeaderNames.CONTENT_LENGTH, Integer.MAX_VALUE);
+        }
+
+        if (contentLength < contentSizeThreshold) {
+            return null;
+        }
+
+        return super.beginEncode(headers, acceptEncoding);
+    }
+}
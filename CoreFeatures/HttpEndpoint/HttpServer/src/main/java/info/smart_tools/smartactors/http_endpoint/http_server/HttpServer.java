@@ -1,18 +1,46 @@
 package info.smart_tools.smartactors.http_endpoint.http_server;
 
+import info.smart_tools.smartactors.http_endpoint.http_pipelining.HttpPipeliningHandler;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
 import info.smart_tools.smartactors.http_endpoint.tcp_server.TcpServer;
 import io.netty.channel.ChannelInboundHandler;
 import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * A server which handles HTTP requests.
+ * Connections are persistent: the client may send next requests without waiting for responses to previous ones, the
+ * responses are written in order of the requests. Idle connections are closed after keep-alive timeout.
+ * Compressed (gzip or deflate) request bodies are decompressed before aggregation, so the length limit applies to
+ * decompressed content. Responses are compressed only if compression is enabled.
  * TODO: handle OPTION requests to allow cross-domain requests
- * TODO: handle input/output compression (e.g. gzip, deflate etc.)
  */
 public class HttpServer extends TcpServer {
+    /**
+     * Default time in milliseconds an idle connection is kept open
+     */
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT = 60000;
+
+    /**
+     * Default maximal amount of requests waiting for responses on a single connection
+     */
+    public static final int DEFAULT_MAX_PIPELINED_REQUESTS = 16;
+
+    /**
+     * Default minimal length of response content to compress
+     */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
     private final int maxContentLength;
+    private final int keepAliveTimeout;
+    private final int maxPipelinedRequests;
+    private final int compressionLevel;
+    private final int compressionThreshold;
 
     /**
      * Constructor for HttpServer
@@ -21,15 +49,49 @@ public class HttpServer extends TcpServer {
      * @param requestHandler channel, that handle request
      */
     public HttpServer(final int port, final int maxContentLength, final ChannelInboundHandler requestHandler) {
-        super(port, requestHandler);
+        this(port, maxContentLength, requestHandler, new NettyTransportConfig(),
+                DEFAULT_KEEP_ALIVE_TIMEOUT, DEFAULT_MAX_PIPELINED_REQUESTS, 0, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Constructor for HttpServer
+     * @param port port of the http server
+     * @param maxContentLength max length of the content
+     * @param requestHandler channel, that handle request
+     * @param transportConfig configuration of the transport
+     * @param keepAliveTimeout time in milliseconds an idle connection is kept open, {@code 0} to keep it open forever
+     * @param maxPipelinedRequests max amount of requests waiting for responses on a connection, should be positive
+     * @param compressionLevel level of response compression from {@code 1} to {@code 9}, {@code 0} to disable it
+     * @param compressionThreshold minimal length of response content to compress
+     */
+    public HttpServer(final int port, final int maxContentLength, final ChannelInboundHandler requestHandler,
+                      final NettyTransportConfig transportConfig,
+                      final int keepAliveTimeout, final int maxPipelinedRequests,
+                      final int compressionLevel, final int compressionThreshold) {
+        super(port, requestHandler, transportConfig);
         this.maxContentLength = maxContentLength;
+        this.keepAliveTimeout = keepAliveTimeout;
+        this.maxPipelinedRequests = maxPipelinedRequests;
+        this.compressionLevel = compressionLevel;
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
     protected ChannelPipeline setupPipeline(final ChannelPipeline pipeline) {
-        return super.setupPipeline(pipeline).addLast(
+        super.setupPipeline(pipeline).addLast(
                 new HttpServerCodec(),
+                new HttpContentDecompressor(),
                 new HttpObjectAggregator(maxContentLength)
         );
+
+        if (compressionLevel > 0) {
+            pipeline.addLast(new HttpResponseCompressor(compressionLevel, compressionThreshold));
+        }
+
+        if (keepAliveTimeout > 0) {
+            pipeline.addLast(new IdleStateHandler(0, 0, keepAliveTimeout, TimeUnit.MILLISECONDS));
+        }
+
+        return pipeline.addLast(new HttpPipeliningHandler(maxPipelinedRequests));
     }
 }
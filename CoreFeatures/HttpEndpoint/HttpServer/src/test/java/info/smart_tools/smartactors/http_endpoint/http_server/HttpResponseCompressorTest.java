@@ -0,0 +1,98 @@
+package info.smart_tools.smartactors.http_endpoint.http_server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HttpResponseCompressor}.
+ */
+public class HttpResponseCompressorTest {
+
+    private static FullHttpRequest request(final String acceptEncoding) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static FullHttpResponse response(final int length) {
+        char[] chars = new char[length];
+        Arrays.fill(chars, 'a');
+        ByteBuf content = Unpooled.copiedBuffer(chars, StandardCharsets.UTF_8);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+        HttpUtil.setContentLength(response, length);
+        return response;
+    }
+
+    private static HttpResponse writeResponse(final EmbeddedChannel channel, final int length) {
+        channel.writeOutbound(response(length));
+        HttpResponse response = channel.readOutbound();
+        Object content;
+
+        while (null != (content = channel.readOutbound())) {
+            ReferenceCountUtil.release(content);
+        }
+
+        if (response instanceof HttpContent) {
+            ((HttpContent) response).release();
+        }
+
+        return response;
+    }
+
+    @Test
+    public void Should_compressResponse_When_clientAcceptsGzip() {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseCompressor(6, 100));
+        channel.writeInbound(request("gzip, deflate"));
+        ((FullHttpRequest) channel.readInbound()).release();
+
+        HttpResponse response = writeResponse(channel, 1000);
+
+        assertEquals(HttpHeaderValues.GZIP.toString(), response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void Should_notCompressResponse_When_contentIsShorterThanThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseCompressor(6, 100));
+        channel.writeInbound(request("gzip"));
+        ((FullHttpRequest) channel.readInbound()).release();
+
+        HttpResponse response = writeResponse(channel, 99);
+
+        assertNull(response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+        assertEquals(99, HttpUtil.getContentLength(response));
+    }
+
+    @Test
+    public void Should_notCompressResponse_When_clientDoesNotAcceptCompression() {
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseCompressor(6, 100));
+        channel.writeInbound(request("identity"));
+        ((FullHttpRequest) channel.readInbound()).release();
+
+        HttpResponse response = writeResponse(channel, 1000);
+
+        assertNull(response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+        assertTrue(HttpUtil.isContentLengthSet(response));
+    }
+}
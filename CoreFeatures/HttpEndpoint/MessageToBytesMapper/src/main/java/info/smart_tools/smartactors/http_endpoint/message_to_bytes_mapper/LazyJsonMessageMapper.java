@@ -0,0 +1,58 @@
+package info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper;
+
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Extension of {@link MessageToByteBufMapper} that does not parse the buffer but creates the
+ * {@code "info.smart_tools.smartactors.iobject.iobject.IObject#lazy-json"} object backed by a byte array. As the object
+ * may be parsed after the buffer (e.g. content of HTTP request) is released, readable bytes of the buffer are copied
+ * (once) to the array. The content is not parsed here, so malformed JSON is reported only when the object is first
+ * accessed. HTTP endpoint uses this mapper only if its configuration contains {@code "lazyJsonBody": true}.
+ */
+public class LazyJsonMessageMapper extends MessageToByteBufMapper {
+
+    /**
+     * Deserialize readable bytes of the buffer containing json object to IObject
+     *
+     * @param serializedInput buffer, that should be deserialize
+     * @return {@link IObject} interpretation of serializedInput
+     * @throws ResolutionException if the input contains no JSON object or any error occurs creating the object
+     */
+    @Override
+    public IObject deserialize(final ByteBuf serializedInput) throws ResolutionException {
+        byte[] bytes = new byte[serializedInput.readableBytes()];
+        serializedInput.readBytes(bytes);
+
+        return deserialize(bytes);
+    }
+
+    /**
+     * Deserialize bytes array of json string to IObject
+     *
+     * @param serializedInput Array of bytes, that should be deserialize
+     * @return {@link IObject} interpretation of serializedInput
+     * @throws ResolutionException if the input contains no JSON object or any error occurs creating the object
+     */
+    public IObject deserialize(final byte[] serializedInput) throws ResolutionException {
+        if (serializedInput.length == 0) {
+            return IOC.resolve(Keys.getOrAdd("EmptyIObject"));
+        }
+
+        int start = 0;
+        while (start < serializedInput.length && '{' != serializedInput[start]) {
+            ++start;
+        }
+
+        int end = serializedInput.length;
+        while (end > start && '}' != serializedInput[end - 1]) {
+            --end;
+        }
+
+        return IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject#lazy-json"),
+                serializedInput, start, end);
+    }
+}
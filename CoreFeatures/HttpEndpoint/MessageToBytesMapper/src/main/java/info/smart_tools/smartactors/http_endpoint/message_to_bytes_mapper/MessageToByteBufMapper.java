@@ -0,0 +1,61 @@
+package info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper;
+
+import info.smart_tools.smartactors.endpoint.interfaces.imessage_mapper.IMessageMapper;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Implementation of {@link IMessageMapper} which map message to {@link ByteBuf}.
+ *
+ * <p>
+ *     The message is parsed directly from readable bytes of the buffer (through {@link ByteBufInputStream}), so
+ *     neither a byte array nor a string is created for the source. Reader index of the given buffer is moved to its
+ *     writer index.
+ * </p>
+ */
+public class MessageToByteBufMapper implements IMessageMapper<ByteBuf> {
+
+    /**
+     * Deserialize readable bytes of the buffer containing json object to IObject
+     *
+     * @param serializedInput buffer, that should be deserialize
+     * @return {@link IObject} interpretation of serializedInput
+     * @throws ResolutionException if the buffer does not contain json object or any error occurs creating the object
+     */
+    @Override
+    public IObject deserialize(final ByteBuf serializedInput) throws ResolutionException {
+        if (!serializedInput.isReadable()) {
+            return IOC.resolve(Keys.getOrAdd("EmptyIObject"));
+        }
+
+        return IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"),
+                new ByteBufInputStream(serializedInput));
+    }
+
+    /**
+     * Serialize message to a new buffer
+     *
+     * @param message message to be serialized
+     * @return the buffer
+     * @throws IllegalStateException if the message could not be serialized
+     */
+    @Override
+    public ByteBuf serialize(final IObject message) {
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            message.serialize(new ByteBufOutputStream(buffer));
+        } catch (SerializeException e) {
+            throw new IllegalStateException("Could not serialize message.", e);
+        }
+
+        return buffer;
+    }
+}
@@ -26,8 +26,17 @@ public class MessageToBytesMapper implements IMessageMapper<byte[]> {
         if (serializedInput.length == 0) {
             return IOC.resolve(Keys.getOrAdd("EmptyIObject"));
         }
-        String string = new String(serializedInput);
-        string = string.substring(string.indexOf('{'), string.lastIndexOf('}') + 1);
+        int start = 0;
+        while (start < serializedInput.length && '{' != serializedInput[start]) {
+            ++start;
+        }
+
+        int end = serializedInput.length;
+        while (end > start && '}' != serializedInput[end - 1]) {
+            --end;
+        }
+
+        String string = new String(serializedInput, start, end - start, Charsets.UTF_8);
         return IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), string);
     }
 
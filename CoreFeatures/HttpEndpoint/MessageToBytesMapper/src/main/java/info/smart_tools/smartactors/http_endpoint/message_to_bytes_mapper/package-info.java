@@ -1,5 +1,5 @@
 /**
  * Package contains {@link info.smart_tools.smartactors.endpoint.interfaces.imessage_mapper.IMessageMapper}
- * implementation, which map message to bytes array
+ * implementations, which map message to bytes array or to {@link io.netty.buffer.ByteBuf}
  */
 package info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper;
\ No newline at end of file
@@ -0,0 +1,100 @@
+package info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.CreateNewInstanceStrategy;
+import info.smart_tools.smartactors.iobject.ds_object.DSObject;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.lazy_json_object.LazyJsonObject;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_strategy.ResolveByNameIocStrategy;
+import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyJsonMessageMapperTest {
+    @Before
+    public void setUp() throws ScopeProviderException, RegistrationException, ResolutionException, InvalidArgumentException {
+        ScopeProvider.subscribeOnCreationNewScope(
+                scope -> {
+                    try {
+                        scope.setValue(IOC.getIocKey(), new StrategyContainer());
+                    } catch (Exception e) {
+                        throw new Error(e);
+                    }
+                }
+        );
+
+        Object keyOfMainScope = ScopeProvider.createScope(null);
+        IScope mainScope = ScopeProvider.getScope(keyOfMainScope);
+        ScopeProvider.setCurrentScope(mainScope);
+
+        IOC.register(
+                IOC.getKeyForKeyStorage(),
+                new ResolveByNameIocStrategy()
+        );
+        IOC.register(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject#lazy-json"),
+                new CreateNewInstanceStrategy(
+                        (args) -> {
+                            try {
+                                return new LazyJsonObject((byte[]) args[0], (Integer) args[1], (Integer) args[2]);
+                            } catch (InvalidArgumentException e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                )
+        );
+        IOC.register(Keys.getOrAdd("EmptyIObject"),
+                new CreateNewInstanceStrategy(
+                        (args) -> new DSObject()
+                )
+        );
+    }
+
+    @Test
+    public void lazyJsonMessageMapperShouldReturnEmptyIObject_WhenByteArrayOnDeserializationIsEmpty() throws ResolutionException {
+        IObject iObject = new LazyJsonMessageMapper().deserialize(new byte[0]);
+        assertFalse(iObject.iterator().hasNext());
+    }
+
+    @Test
+    public void lazyJsonMessageMapperShouldReturnObjectBackedByInputBytes() throws Exception {
+        byte[] bytes = "\uFEFF{\"hello\": \"world\"}\n".getBytes(StandardCharsets.UTF_8);
+        IObject iObject = new LazyJsonMessageMapper().deserialize(bytes);
+        assertTrue(iObject instanceof LazyJsonObject);
+        assertEquals("{\"hello\": \"world\"}", iObject.serialize());
+        assertEquals("world", iObject.getValue(new FieldName("hello")));
+    }
+
+    @Test
+    public void lazyJsonMessageMapperShouldCopyReadableBytesOfBuffer() throws Exception {
+        ByteBuf buffer = Unpooled.buffer(64);
+        buffer.writeBytes("{\"a\": 1}{\"hello\": \"world\"}".getBytes(StandardCharsets.UTF_8));
+        buffer.readerIndex("{\"a\": 1}".length());
+
+        IObject iObject = new LazyJsonMessageMapper().deserialize(buffer);
+
+        buffer.setZero(0, buffer.writerIndex());
+        assertTrue(iObject instanceof LazyJsonObject);
+        assertEquals("world", iObject.getValue(new FieldName("hello")));
+    }
+
+    @Test(expected = ResolutionException.class)
+    public void lazyJsonMessageMapperShouldThrow_WhenInputContainsNoObject() throws ResolutionException {
+        new LazyJsonMessageMapper().deserialize("[1, 2]".getBytes(StandardCharsets.UTF_8));
+    }
+}
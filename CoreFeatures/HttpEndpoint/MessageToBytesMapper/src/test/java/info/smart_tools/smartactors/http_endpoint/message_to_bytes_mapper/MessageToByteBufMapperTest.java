@@ -0,0 +1,100 @@
+package info.smart_tools.smartactors.http_endpoint.message_to_bytes_mapper;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.CreateNewInstanceStrategy;
+import info.smart_tools.smartactors.iobject.ds_object.DSObject;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_strategy.ResolveByNameIocStrategy;
+import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MessageToByteBufMapperTest {
+    @Before
+    public void setUp() throws ScopeProviderException, RegistrationException, ResolutionException, InvalidArgumentException {
+        ScopeProvider.subscribeOnCreationNewScope(
+                scope -> {
+                    try {
+                        scope.setValue(IOC.getIocKey(), new StrategyContainer());
+                    } catch (Exception e) {
+                        throw new Error(e);
+                    }
+                }
+        );
+
+        Object keyOfMainScope = ScopeProvider.createScope(null);
+        IScope mainScope = ScopeProvider.getScope(keyOfMainScope);
+        ScopeProvider.setCurrentScope(mainScope);
+
+        IOC.register(
+                IOC.getKeyForKeyStorage(),
+                new ResolveByNameIocStrategy()
+        );
+        IOC.register(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"),
+                new CreateNewInstanceStrategy(
+                        (args) -> {
+                            try {
+                                return new DSObject((InputStream) args[0]);
+                            } catch (InvalidArgumentException e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                )
+        );
+        IOC.register(Keys.getOrAdd("EmptyIObject"),
+                new CreateNewInstanceStrategy(
+                        (args) -> new DSObject()
+                )
+        );
+    }
+
+    @Test
+    public void messageToByteBufMapperShouldReturnEmptyIObject_WhenBufferIsNotReadable() throws ResolutionException {
+        IObject iObject = new MessageToByteBufMapper().deserialize(Unpooled.EMPTY_BUFFER);
+        assertFalse(iObject.iterator().hasNext());
+    }
+
+    @Test
+    public void messageToByteBufMapperShouldParseReadableBytesOfBuffer() throws Exception {
+        ByteBuf buffer = Unpooled.buffer(64);
+        buffer.writeBytes("{\"a\": 1}{\"hello\": \"wörld\"}".getBytes(StandardCharsets.UTF_8));
+        buffer.readerIndex("{\"a\": 1}".length());
+
+        IObject iObject = new MessageToByteBufMapper().deserialize(buffer);
+
+        assertEquals("wörld", iObject.getValue(new FieldName("hello")));
+        assertEquals(null, iObject.getValue(new FieldName("a")));
+    }
+
+    @Test(expected = ResolutionException.class)
+    public void messageToByteBufMapperShouldThrow_WhenBufferContainsMalformedJson() throws ResolutionException {
+        new MessageToByteBufMapper().deserialize(Unpooled.copiedBuffer("{\"hello\": ", StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void messageToByteBufMapperShouldSerializeMessageToBuffer() throws Exception {
+        IObject message = new DSObject("{\"hello\": \"wörld\"}");
+
+        ByteBuf buffer = new MessageToByteBufMapper().serialize(message);
+
+        assertTrue(buffer.isReadable());
+        assertEquals("{\"hello\":\"wörld\"}", buffer.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -6,6 +6,7 @@ import info.smart_tools.smartactors.endpoint.interfaces.irequest_sender.IRequest
 import info.smart_tools.smartactors.endpoint.interfaces.irequest_sender.exception.RequestSenderException;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_handler.IResponseHandler;
 import info.smart_tools.smartactors.http_endpoint.completable_netty_future.CompletableNettyFuture;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
 import info.smart_tools.smartactors.iobject.iobject.exception.ChangeValueException;
 import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
 import io.netty.bootstrap.Bootstrap;
@@ -15,7 +16,6 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.concurrent.Future;
 
@@ -25,13 +25,14 @@ import java.util.concurrent.ExecutionException;
 
 /**
  * Base class for a client to netty server.
- * TODO:: Check if worker group has been shut down
  * TODO:: Remove constructor without client config
  *
  * @param <TRequest> type of the request which client can send
  */
 public abstract class NettyClient<TRequest> implements IClient<TRequest>, IRequestSender {
-    private static EventLoopGroup workerGroup = new NioEventLoopGroup(1);
+    private static final int DEFAULT_WORKER_THREADS = 1;
+    private static NettyTransportConfig transportConfig = new NettyTransportConfig();
+    private static EventLoopGroup workerGroup;
     private Channel channel;
     protected URI serverUri;
     private Class<? extends Channel> channelClass;
@@ -68,6 +69,22 @@ public abstract class NettyClient<TRequest> implements IClient<TRequest>, IReque
         }
     }
 
+    /**
+     * Constructor for netty client sending requests through connections it does not own (e.g. taken from a connection
+     * pool). Does not connect to the server, so subclasses using this constructor should override {@link #send(Object)}.
+     *
+     * @param serverUri      URI of the server
+     * @param inboundHandler response handler
+     */
+    protected NettyClient(final URI serverUri, final IResponseHandler inboundHandler) {
+        this.serverUri = serverUri;
+        this.inboundHandler = inboundHandler;
+        this.port = serverUri.getPort();
+        if (port == -1) {
+            this.port = serverUri.getScheme().equals("http") ? DEFAULT_HTTP_PORT : DEFAULT_HTTPS_PORT;
+        }
+    }
+
     public NettyClient(final Class<? extends Channel> channelClass, final IClientConfig clientConfig) {
         if (clientConfig == null) {
             throw new RuntimeException("Can't create NettyClient: client config is null");
@@ -111,10 +128,71 @@ public abstract class NettyClient<TRequest> implements IClient<TRequest>, IReque
 
     }
 
+    /**
+     * Close the connection of the client. The worker group is shared by all clients, so it is not shut down (see
+     * {@link #shutdownWorkerGroup()}).
+     *
+     * @return a future completed when the connection is closed
+     */
     @Override
     public CompletableFuture<IClient<TRequest>> stop() {
-        return wrapToCompletableFuture(channel.close())
-                .thenCompose(x -> wrapToCompletableFuture(workerGroup.shutdownGracefully()));
+        return wrapToCompletableFuture(channel.close());
+    }
+
+    /**
+     * Set configuration of the transport used by all netty clients. The worker group is created by the first client, so
+     * the configuration should be set before any client is created.
+     *
+     * @param config the configuration
+     * @throws IllegalStateException if the worker group is already created
+     */
+    public static synchronized void setTransportConfig(final NettyTransportConfig config) {
+        if (null != workerGroup) {
+            throw new IllegalStateException("Worker group of netty clients is already created.");
+        }
+
+        transportConfig = config;
+    }
+
+    /**
+     * Get configuration of the transport used by all netty clients.
+     *
+     * @return the configuration
+     */
+    public static synchronized NettyTransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
+    /**
+     * Get the event loop group shared by all netty clients, create it if it is not created yet.
+     *
+     * @return the worker group
+     */
+    public static synchronized EventLoopGroup getWorkerGroup() {
+        if (null == workerGroup) {
+            workerGroup = transportConfig.newEventLoopGroup(
+                    0 != transportConfig.getWorkerThreads() ? transportConfig.getWorkerThreads() : DEFAULT_WORKER_THREADS
+            );
+        }
+
+        return workerGroup;
+    }
+
+    /**
+     * Shut down the event loop group shared by all netty clients closing connections of all the clients. A client
+     * created after that creates a new group.
+     *
+     * @return a future completed when the group is terminated
+     */
+    public static synchronized CompletableFuture<Void> shutdownWorkerGroup() {
+        if (null == workerGroup) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        EventLoopGroup group = workerGroup;
+        workerGroup = null;
+
+        return CompletableNettyFuture.from(group.shutdownGracefully()).thenApply(x -> null);
     }
 
     /**
@@ -135,9 +213,10 @@ public abstract class NettyClient<TRequest> implements IClient<TRequest>, IReque
      * @return a bootstrap object
      */
     protected Bootstrap bootstrapClient() {
-        return new Bootstrap()
-                .group(workerGroup)
-                .channel(channelClass)
+        NettyTransportConfig config = getTransportConfig();
+        return config.configure(new Bootstrap())
+                .group(getWorkerGroup())
+                .channel(config.isEpollUsed() ? config.getChannelClass() : channelClass)
                 .handler(new ChannelInitializer<Channel>() {
                     @Override
                     protected void initChannel(final Channel ch) throws Exception {
@@ -0,0 +1,250 @@
+package info.smart_tools.smartactors.http_endpoint.netty_transport;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Configuration of netty transport: event loop groups, channel classes and socket options.
+ *
+ * <p>
+ *     Native epoll transport is used only if it is enabled in configuration and is available on the current platform,
+ *     otherwise NIO transport is used.
+ * </p>
+ *
+ * <p>
+ *     The configuration is read from endpoint or client configuration section, all fields are optional:
+ * </p>
+ * <pre>
+ *     {
+ *         "epoll": true,                       // use native epoll transport when available
+ *         "bossThreads": 1,                    // threads accepting connections (servers only)
+ *         "workerThreads": 8,                  // threads serving connections, 0 for default amount
+ *         "backlog": 1024,                     // size of accept queue (servers only)
+ *         "reusePort": true,                   // SO_REUSEPORT, epoll transport only (servers only)
+ *         "tcpNoDelay": true,                  // TCP_NODELAY
+ *         "writeBufferLowWaterMark": 32768,    // channel becomes writable again below this amount of pending bytes
+ *         "writeBufferHighWaterMark": 65536    // channel becomes not writable above this amount of pending bytes
+ *     }
+ * </pre>
+ */
+public class NettyTransportConfig {
+    private static final int DEFAULT_BOSS_THREADS = 1;
+    private static final int DEFAULT_BACKLOG = 128;
+
+    private final boolean epoll;
+    private final int bossThreads;
+    private final int workerThreads;
+    private final int backlog;
+    private final boolean reusePort;
+    private final boolean tcpNoDelay;
+    private final int writeBufferLowWaterMark;
+    private final int writeBufferHighWaterMark;
+
+    /**
+     * Constructor.
+     * Creates configuration of NIO transport with default settings.
+     */
+    public NettyTransportConfig() {
+        this(false, DEFAULT_BOSS_THREADS, 0, DEFAULT_BACKLOG, false, true, 0, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param epoll                       {@code true} if native epoll transport should be used when available
+     * @param bossThreads                 amount of threads accepting connections
+     * @param workerThreads               amount of threads serving connections, {@code 0} for default amount
+     * @param backlog                     size of accept queue
+     * @param reusePort                   {@code true} if SO_REUSEPORT should be set (epoll transport only)
+     * @param tcpNoDelay                  value of TCP_NODELAY
+     * @param writeBufferLowWaterMark     low water mark of write buffer, {@code 0} for default one
+     * @param writeBufferHighWaterMark    high water mark of write buffer, {@code 0} for default one
+     */
+    public NettyTransportConfig(
+            final boolean epoll, final int bossThreads, final int workerThreads, final int backlog,
+            final boolean reusePort, final boolean tcpNoDelay,
+            final int writeBufferLowWaterMark, final int writeBufferHighWaterMark) {
+        this.epoll = epoll;
+        this.bossThreads = bossThreads;
+        this.workerThreads = workerThreads;
+        this.backlog = backlog;
+        this.reusePort = reusePort;
+        this.tcpNoDelay = tcpNoDelay;
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    /**
+     * Read the transport configuration from endpoint or client configuration.
+     *
+     * @param config    the configuration, may be {@code null}
+     * @return the transport configuration, default values are used for absent fields
+     * @throws ResolutionException if fails to resolve field names
+     * @throws ReadValueException if fails to read the configuration
+     * @throws InvalidArgumentException if the configuration is not valid
+     */
+    public static NettyTransportConfig fromConfig(final IObject config)
+            throws ResolutionException, ReadValueException, InvalidArgumentException {
+        if (null == config) {
+            return new NettyTransportConfig();
+        }
+
+        int bossThreads = intValue(config, "bossThreads", DEFAULT_BOSS_THREADS);
+        int workerThreads = intValue(config, "workerThreads", 0);
+        int backlog = intValue(config, "backlog", DEFAULT_BACKLOG);
+        int lowWaterMark = intValue(config, "writeBufferLowWaterMark", 0);
+        int highWaterMark = intValue(config, "writeBufferHighWaterMark", 0);
+
+        if (bossThreads <= 0 || workerThreads < 0 || backlog <= 0 || lowWaterMark < 0 || highWaterMark < 0) {
+            throw new InvalidArgumentException("Thread counts, backlog and water marks should not be negative.");
+        }
+
+        if ((0 == lowWaterMark) != (0 == highWaterMark) || lowWaterMark > highWaterMark) {
+            throw new InvalidArgumentException("Both write buffer water marks should be set and low one should not exceed high one.");
+        }
+
+        return new NettyTransportConfig(
+                booleanValue(config, "epoll", false),
+                bossThreads,
+                workerThreads,
+                backlog,
+                booleanValue(config, "reusePort", false),
+                booleanValue(config, "tcpNoDelay", true),
+                lowWaterMark,
+                highWaterMark
+        );
+    }
+
+    private static IFieldName fieldName(final String name)
+            throws ResolutionException {
+        return IOC.resolve(
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                name
+        );
+    }
+
+    private static int intValue(final IObject config, final String name, final int defaultValue)
+            throws ResolutionException, ReadValueException, InvalidArgumentException {
+        Object value = config.getValue(fieldName(name));
+
+        try {
+            return null == value ? defaultValue : Integer.valueOf(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid value of \"" + name + "\": " + value, e);
+        }
+    }
+
+    private static boolean booleanValue(final IObject config, final String name, final boolean defaultValue)
+            throws ResolutionException, ReadValueException, InvalidArgumentException {
+        Object value = config.getValue(fieldName(name));
+        return null == value ? defaultValue : Boolean.valueOf(String.valueOf(value));
+    }
+
+    /**
+     * @return {@code true} if native epoll transport is enabled and available
+     */
+    public boolean isEpollUsed() {
+        return epoll && Epoll.isAvailable();
+    }
+
+    /**
+     * Create a group of event loops of the transport.
+     *
+     * @param threads    amount of threads, {@code 0} for default amount
+     * @return the event loop group
+     */
+    public EventLoopGroup newEventLoopGroup(final int threads) {
+        return isEpollUsed() ? new EpollEventLoopGroup(threads) : new NioEventLoopGroup(threads);
+    }
+
+    /**
+     * @return class of server channels of the transport
+     */
+    public Class<? extends ServerChannel> getServerChannelClass() {
+        return isEpollUsed() ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    /**
+     * @return class of client channels of the transport
+     */
+    public Class<? extends Channel> getChannelClass() {
+        return isEpollUsed() ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    /**
+     * Apply socket options to the server bootstrap.
+     *
+     * @param bootstrap    the bootstrap
+     * @return the same bootstrap
+     */
+    public ServerBootstrap configure(final ServerBootstrap bootstrap) {
+        bootstrap
+                .option(ChannelOption.SO_BACKLOG, backlog)
+                .childOption(ChannelOption.TCP_NODELAY, tcpNoDelay);
+
+        if (reusePort && isEpollUsed()) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+
+        if (0 != writeBufferHighWaterMark) {
+            bootstrap.childOption(
+                    ChannelOption.WRITE_BUFFER_WATER_MARK,
+                    new WriteBufferWaterMark(writeBufferLowWaterMark, writeBufferHighWaterMark)
+            );
+        }
+
+        return bootstrap;
+    }
+
+    /**
+     * Apply socket options to the client bootstrap.
+     *
+     * @param bootstrap    the bootstrap
+     * @return the same bootstrap
+     */
+    public Bootstrap configure(final Bootstrap bootstrap) {
+        bootstrap.option(ChannelOption.TCP_NODELAY, tcpNoDelay);
+
+        if (0 != writeBufferHighWaterMark) {
+            bootstrap.option(
+                    ChannelOption.WRITE_BUFFER_WATER_MARK,
+                    new WriteBufferWaterMark(writeBufferLowWaterMark, writeBufferHighWaterMark)
+            );
+        }
+
+        return bootstrap;
+    }
+
+    /**
+     * @return amount of threads accepting connections
+     */
+    public int getBossThreads() {
+        return bossThreads;
+    }
+
+    /**
+     * @return amount of threads serving connections, {@code 0} for default amount
+     */
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+}
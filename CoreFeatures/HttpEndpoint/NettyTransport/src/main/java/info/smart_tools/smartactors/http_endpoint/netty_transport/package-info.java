@@ -0,0 +1,4 @@
+/**
+ * Package contains configuration of netty transport shared by servers and clients
+ */
+package info.smart_tools.smartactors.http_endpoint.netty_transport;
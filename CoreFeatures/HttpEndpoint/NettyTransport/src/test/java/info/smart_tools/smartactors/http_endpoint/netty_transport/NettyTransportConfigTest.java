@@ -0,0 +1,93 @@
+package info.smart_tools.smartactors.http_endpoint.netty_transport;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.CreateNewInstanceStrategy;
+import info.smart_tools.smartactors.iobject.ds_object.DSObject;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_strategy.ResolveByNameIocStrategy;
+import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link NettyTransportConfig}.
+ */
+public class NettyTransportConfigTest {
+
+    @Before
+    public void setUp() throws Exception {
+        Object keyOfMainScope = ScopeProvider.createScope(null);
+        IScope scope = ScopeProvider.getScope(keyOfMainScope);
+        scope.setValue(IOC.getIocKey(), new StrategyContainer());
+        ScopeProvider.setCurrentScope(scope);
+        IOC.register(IOC.getKeyForKeyStorage(), new ResolveByNameIocStrategy());
+        IOC.register(
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                new CreateNewInstanceStrategy(
+                        (args) -> {
+                            try {
+                                return new FieldName((String) args[0]);
+                            } catch (InvalidArgumentException e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                )
+        );
+    }
+
+    @Test
+    public void Should_useNioTransport_When_epollIsNotEnabled()
+            throws Exception {
+        NettyTransportConfig config = NettyTransportConfig.fromConfig(new DSObject("{\"epoll\": false}"));
+
+        assertFalse(config.isEpollUsed());
+        assertSame(NioServerSocketChannel.class, config.getServerChannelClass());
+        assertSame(NioSocketChannel.class, config.getChannelClass());
+    }
+
+    @Test
+    public void Should_readThreadCounts()
+            throws Exception {
+        NettyTransportConfig config = NettyTransportConfig.fromConfig(
+                new DSObject("{\"bossThreads\": 2, \"workerThreads\": 3}")
+        );
+
+        assertEquals(2, config.getBossThreads());
+        assertEquals(3, config.getWorkerThreads());
+
+        EventLoopGroup group = config.newEventLoopGroup(config.getWorkerThreads());
+        group.shutdownGracefully();
+    }
+
+    @Test
+    public void Should_useDefaults_When_configurationIsEmpty()
+            throws Exception {
+        NettyTransportConfig config = NettyTransportConfig.fromConfig(new DSObject("{}"));
+
+        assertEquals(1, config.getBossThreads());
+        assertEquals(0, config.getWorkerThreads());
+        assertFalse(config.isEpollUsed());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenOnlyOneWaterMarkIsSet()
+            throws Exception {
+        NettyTransportConfig.fromConfig(new DSObject("{\"writeBufferHighWaterMark\": 65536}"));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenThreadCountIsNotANumber()
+            throws Exception {
+        NettyTransportConfig.fromConfig(new DSObject("{\"workerThreads\": \"many\"}"));
+    }
+}
@@ -5,18 +5,14 @@ import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse.IResponse;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_content_strategy.IResponseContentStrategy;
 
-import java.nio.charset.Charset;
-
 /**
- * Class for setting json content of the response
+ * Class for setting json content of the response.
+ * The object is serialized to json by the response or by the response sender, so the sender may write it right into
+ * the buffer of the outgoing message.
  */
 public class ResponseContentJsonStrategy implements IResponseContentStrategy {
     @Override
     public void setContent(final IObject responseObject, final IResponse response) throws SerializeException {
-        response.setContent(serializeIObjectToJson(responseObject));
-    }
-
-    private byte[] serializeIObjectToJson(final IObject responseObject) throws SerializeException {
-        return ((String) responseObject.serialize()).getBytes(Charset.forName("UTF-8"));
+        response.setContentObject(responseObject);
     }
 }
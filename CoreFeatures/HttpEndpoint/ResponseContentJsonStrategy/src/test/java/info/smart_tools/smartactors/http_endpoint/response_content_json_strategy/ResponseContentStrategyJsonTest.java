@@ -6,10 +6,12 @@ import info.smart_tools.smartactors.base.exception.invalid_argument_exception.In
 import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse.IResponse;
+import info.smart_tools.smartactors.endpoint.response.Response;
 import org.junit.Test;
 
 import java.nio.charset.Charset;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
@@ -20,19 +22,28 @@ public class ResponseContentStrategyJsonTest {
     public void testSerialization() throws InvalidArgumentException, SerializeException {
         String iObjectString = "{\"foo\":\"bar\"}";
         ResponseContentJsonStrategy strategy = new ResponseContentJsonStrategy();
-        IResponse response = mock(IResponse.class);
+        IResponse response = new Response();
         IObject responseObject = new DSObject(iObjectString);
         strategy.setContent(responseObject, response);
-        verify(response, times(1)).setContent(iObjectString.getBytes(Charset.forName("UTF-8")));
+        assertArrayEquals(iObjectString.getBytes(Charset.forName("UTF-8")), response.getContent());
     }
 
     @Test
     public void testEmptyObject() throws InvalidArgumentException, SerializeException {
         String iObjectString = "{}";
         ResponseContentJsonStrategy strategy = new ResponseContentJsonStrategy();
-        IResponse response = mock(IResponse.class);
+        IResponse response = new Response();
         IObject responseObject = new DSObject(iObjectString);
         strategy.setContent(responseObject, response);
-        verify(response, times(1)).setContent(iObjectString.getBytes(Charset.forName("UTF-8")));
+        assertArrayEquals(iObjectString.getBytes(Charset.forName("UTF-8")), response.getContent());
+    }
+
+    @Test
+    public void Should_passObjectToResponse() throws InvalidArgumentException, SerializeException {
+        ResponseContentJsonStrategy strategy = new ResponseContentJsonStrategy();
+        IResponse response = mock(IResponse.class);
+        IObject responseObject = new DSObject("{\"foo\":\"bar\"}");
+        strategy.setContent(responseObject, response);
+        verify(response, times(1)).setContentObject(responseObject);
     }
 }
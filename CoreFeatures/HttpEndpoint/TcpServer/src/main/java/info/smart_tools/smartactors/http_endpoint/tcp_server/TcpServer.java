@@ -1,6 +1,7 @@
 package info.smart_tools.smartactors.http_endpoint.tcp_server;
 
 import info.smart_tools.smartactors.http_endpoint.netty_server.NettyServer;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
@@ -8,8 +9,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 
 import java.util.Arrays;
 import java.util.List;
@@ -19,14 +18,13 @@ import java.util.List;
  * Server is based on two thread groups:
  *   * master - for accepting and releasing connections
  *   * child - for concrete requests handling
- * TODO: configuration
- * TODO: restrict size of a thread pool for child group?
+ * Sizes of the groups, transport and socket options are defined by {@link NettyTransportConfig}.
  */
 public class TcpServer extends NettyServer {
-    private static final int BACKLOG_SIZE = 128;
     private static final boolean KEEP_ALIVE = true;
-    private final NioEventLoopGroup masterGroup = new NioEventLoopGroup(1);
-    private final NioEventLoopGroup childGroup = new NioEventLoopGroup();
+    private final NettyTransportConfig transportConfig;
+    private EventLoopGroup masterGroup;
+    private EventLoopGroup childGroup;
     private ChannelHandler requestHandler;
 
     /**
@@ -35,8 +33,19 @@ public class TcpServer extends NettyServer {
      * @param requestHandler channel for tcp server
      */
     public TcpServer(final int port, final ChannelHandler requestHandler) {
+        this(port, requestHandler, new NettyTransportConfig());
+    }
+
+    /**
+     * Constructor
+     * @param port port of the tcp server
+     * @param requestHandler channel for tcp server
+     * @param transportConfig configuration of the transport
+     */
+    public TcpServer(final int port, final ChannelHandler requestHandler, final NettyTransportConfig transportConfig) {
         super(port);
         this.requestHandler = requestHandler;
+        this.transportConfig = transportConfig;
     }
 
     protected ChannelPipeline setupPipeline(final ChannelPipeline pipeline) {
@@ -45,16 +54,18 @@ public class TcpServer extends NettyServer {
 
     @Override
     protected ServerBootstrap bootstrapServer() {
-        return new ServerBootstrap()
+        masterGroup = transportConfig.newEventLoopGroup(transportConfig.getBossThreads());
+        childGroup = transportConfig.newEventLoopGroup(transportConfig.getWorkerThreads());
+
+        return transportConfig.configure(new ServerBootstrap())
                 .group(masterGroup, childGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transportConfig.getServerChannelClass())
                 .childHandler(new ChannelInitializer<Channel>() {
                     @Override
                     protected void initChannel(final Channel ch) throws Exception {
                         setupPipeline(ch.pipeline()).addLast(requestHandler);
                     }
                 })
-                .option(ChannelOption.SO_BACKLOG, BACKLOG_SIZE)
                 .childOption(ChannelOption.SO_KEEPALIVE, KEEP_ALIVE);
     }
 
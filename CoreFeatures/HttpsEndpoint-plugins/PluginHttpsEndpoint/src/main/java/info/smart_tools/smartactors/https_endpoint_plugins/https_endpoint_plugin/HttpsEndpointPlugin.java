@@ -134,7 +134,11 @@ public class HttpsEndpointPlugin implements IPlugin {
                                             new CreateNewInstanceStrategy(
                                                     (args) -> {
                                                         ChannelHandlerNetty channelHandlerNetty = new ChannelHandlerNetty();
-                                                        channelHandlerNetty.init((ChannelHandlerContext) args[0]);
+                                                        if (args.length > 1) {
+                                                            channelHandlerNetty.init((ChannelHandlerContext) args[0], args[1]);
+                                                        } else {
+                                                            channelHandlerNetty.init((ChannelHandlerContext) args[0]);
+                                                        }
                                                         return channelHandlerNetty;
                                                     }
                                             ));
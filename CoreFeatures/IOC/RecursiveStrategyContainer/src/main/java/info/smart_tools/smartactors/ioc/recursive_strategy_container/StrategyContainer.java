@@ -6,6 +6,7 @@ import info.smart_tools.smartactors.ioc.istrategy_container.exception.StrategyCo
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of {@link IStrategyContainer}
@@ -20,15 +21,45 @@ import java.util.concurrent.ConcurrentHashMap;
  * Stores the link to the parent container to make the recursive resolving
  * when the strategy doesn't exist in the current container.
  * </p>
+ * <p>
+ * Strategies resolved from parent containers are cached. All containers of one hierarchy share a version counter
+ * which is incremented on every registration or removal in any of them, so the cache is dropped as soon as any
+ * container of the hierarchy changes. Results are not cached when the parent container is not a
+ * {@link StrategyContainer} as changes of such container cannot be tracked.
+ * </p>
  */
 public class StrategyContainer implements IStrategyContainer {
 
+    /**
+     * Strategies resolved from parent containers while the hierarchy version was equal to {@link #version}.
+     */
+    private static class ResolutionCache {
+        private final long version;
+        private final Map<Object, IResolveDependencyStrategy> strategies = new ConcurrentHashMap<>();
+
+        ResolutionCache(final long version) {
+            this.version = version;
+        }
+    }
+
     private IStrategyContainer parentContainer = new EmptyStrategyContainer();
     /**
      * Local storage
      */
     private Map<Object, IResolveDependencyStrategy> strategyStorage = new ConcurrentHashMap<Object, IResolveDependencyStrategy>();
 
+    /**
+     * Version counter shared by all containers of the hierarchy
+     */
+    private final AtomicLong version;
+
+    /**
+     * {@code true} if strategies resolved from parent container may be cached
+     */
+    private final boolean cacheable;
+
+    private volatile ResolutionCache cache;
+
     /**
      *  Constructs the container.
      *  @param parent   parent container to do the recursive resolve, can be null for empty parent
@@ -37,6 +68,16 @@ public class StrategyContainer implements IStrategyContainer {
         if (parent != null) {
             parentContainer = parent;
         }
+
+        if (parentContainer instanceof StrategyContainer) {
+            version = ((StrategyContainer) parentContainer).version;
+            cacheable = true;
+        } else {
+            version = new AtomicLong(0);
+            cacheable = parentContainer instanceof EmptyStrategyContainer;
+        }
+
+        cache = new ResolutionCache(version.get());
     }
 
     /**
@@ -50,8 +91,36 @@ public class StrategyContainer implements IStrategyContainer {
             throws StrategyContainerException {
         IResolveDependencyStrategy strategy = strategyStorage.get(key);
         if (strategy == null) {
-            strategy = parentContainer.resolve(key);    // ask parent ONLY AFTER local resolution failed
+            strategy = resolveFromParent(key);    // ask parent ONLY AFTER local resolution failed
+        }
+        return strategy;
+    }
+
+    private IResolveDependencyStrategy resolveFromParent(final Object key)
+            throws StrategyContainerException {
+        if (!cacheable) {
+            return parentContainer.resolve(key);
+        }
+
+        long currentVersion = version.get();
+        ResolutionCache currentCache = cache;
+
+        if (currentCache.version != currentVersion) {
+            currentCache = new ResolutionCache(currentVersion);
+            cache = currentCache;
+        }
+
+        IResolveDependencyStrategy strategy = currentCache.strategies.get(key);
+
+        if (strategy == null) {
+            strategy = parentContainer.resolve(key);
+
+            // Do not cache the strategy if the hierarchy has changed during resolution
+            if (strategy != null && version.get() == currentVersion) {
+                currentCache.strategies.put(key, strategy);
+            }
         }
+
         return strategy;
     }
 
@@ -64,6 +133,7 @@ public class StrategyContainer implements IStrategyContainer {
     public void register(final Object key, final IResolveDependencyStrategy strategy)
             throws StrategyContainerException {
         strategyStorage.put(key, strategy);
+        version.incrementAndGet();
     }
 
     /**
@@ -76,5 +146,6 @@ public class StrategyContainer implements IStrategyContainer {
     public void remove(final Object key)
             throws StrategyContainerException {
         strategyStorage.remove(key);
+        version.incrementAndGet();
     }
 }
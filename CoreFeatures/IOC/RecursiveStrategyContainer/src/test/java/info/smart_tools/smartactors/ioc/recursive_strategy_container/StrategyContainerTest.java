@@ -8,6 +8,7 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for Strategy
@@ -58,4 +59,43 @@ public class StrategyContainerTest {
         assertNull(child.resolve(key));
     }
 
+    @Test
+    public void testCachedResolutionInvalidation() throws StrategyContainerException {
+        IStrategyContainer root = new StrategyContainer(null);
+        IStrategyContainer parent = new StrategyContainer(root);
+        IStrategyContainer child = new StrategyContainer(parent);
+
+        Object key = new Object();
+        IResolveDependencyStrategy rootStrategy = mock(IResolveDependencyStrategy.class);
+        IResolveDependencyStrategy parentStrategy = mock(IResolveDependencyStrategy.class);
+
+        root.register(key, rootStrategy);
+        assertSame(rootStrategy, child.resolve(key));
+        assertSame(rootStrategy, child.resolve(key));
+
+        parent.register(key, parentStrategy);
+        assertSame(parentStrategy, child.resolve(key));
+
+        parent.remove(key);
+        assertSame(rootStrategy, child.resolve(key));
+
+        root.remove(key);
+        assertNull(child.resolve(key));
+    }
+
+    @Test
+    public void testResolutionFromForeignParentContainer() throws StrategyContainerException {
+        IStrategyContainer parent = mock(IStrategyContainer.class);
+        IStrategyContainer child = new StrategyContainer(parent);
+
+        Object key = new Object();
+        IResolveDependencyStrategy strategy1 = mock(IResolveDependencyStrategy.class);
+        IResolveDependencyStrategy strategy2 = mock(IResolveDependencyStrategy.class);
+
+        when(parent.resolve(key)).thenReturn(strategy1);
+        assertSame(strategy1, child.resolve(key));
+
+        when(parent.resolve(key)).thenReturn(strategy2);
+        assertSame(strategy2, child.resolve(key));
+    }
 }
@@ -1,6 +1,7 @@
 package info.smart_tools.smartactors.iobject_extension_plugins.wds_object_plugin;
 
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iaction.IFunction;
 import info.smart_tools.smartactors.base.interfaces.iaction.exception.FunctionExecutionException;
 import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
 import info.smart_tools.smartactors.base.strategy.apply_function_to_arguments.ApplyFunctionToArgumentsStrategy;
@@ -9,6 +10,7 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap
 import info.smart_tools.smartactors.iobject.ifield.IField;
 import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
 import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject_extension.wds_object.CompiledWDSObjectField;
 import info.smart_tools.smartactors.iobject_extension.wds_object.WDSObject;
 import info.smart_tools.smartactors.iobject_extension.wds_object.WDSObjectFieldSet;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationException;
@@ -18,6 +20,7 @@ import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_with_lambda_strategy.ResolveByNameIocStrategy;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentSkipListMap;
 
@@ -62,9 +65,21 @@ public class PluginWDSObject extends BootstrapPlugin {
         );
     }
 
+    @Item("wds_object_field_factory")
+    public void registerFieldFactory()
+            throws ResolutionException, RegistrationException, InvalidArgumentException {
+        // Rules are compiled once per field; register WDSObjectField::new instead to interpret them on every access
+        IFunction<List<IObject>, IField> factory = CompiledWDSObjectField::new;
+        IOC.register(
+                Keys.getOrAdd("WDSObject field factory"),
+                new ApplyFunctionToArgumentsStrategy(args -> factory)
+        );
+    }
+
     @Item("wds_object_field_set_strategy")
     @After({
-        "wds_object_field_set_map_strategies"
+        "wds_object_field_set_map_strategies",
+        "wds_object_field_factory"
     })
     public void registerFieldSetCreationStrategy()
             throws ResolutionException, RegistrationException, InvalidArgumentException {
@@ -74,7 +89,8 @@ public class PluginWDSObject extends BootstrapPlugin {
                     try {
                         Map<IFieldName, IField> inMap = IOC.resolve(Keys.getOrAdd("WDSObject field set thread safe map"));
                         Map<IFieldName, IField[]> outMap = IOC.resolve(Keys.getOrAdd("WDSObject field set thread safe map"));
-                        return new WDSObjectFieldSet((IObject) args[0], inMap, outMap);
+                        IFunction<List<IObject>, IField> fieldFactory = IOC.resolve(Keys.getOrAdd("WDSObject field factory"));
+                        return new WDSObjectFieldSet((IObject) args[0], inMap, outMap, fieldFactory);
                     } catch (Exception e) {
                         throw new FunctionExecutionException(e);
                     }
@@ -87,7 +103,8 @@ public class PluginWDSObject extends BootstrapPlugin {
                     try {
                         Map<IFieldName, IField> inMap = IOC.resolve(Keys.getOrAdd("WDSObject field set non thread safe map"));
                         Map<IFieldName, IField[]> outMap = IOC.resolve(Keys.getOrAdd("WDSObject field set non thread safe map"));
-                        return new WDSObjectFieldSet((IObject) args[0], inMap, outMap);
+                        IFunction<List<IObject>, IField> fieldFactory = IOC.resolve(Keys.getOrAdd("WDSObject field factory"));
+                        return new WDSObjectFieldSet((IObject) args[0], inMap, outMap, fieldFactory);
                     } catch (Exception e) {
                         throw new FunctionExecutionException(e);
                     }
@@ -15,6 +15,8 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IP
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 
+import java.io.InputStream;
+
 /**
  *
  */
@@ -48,6 +50,12 @@ public class PluginDSObject implements IPlugin {
                                             } catch (InvalidArgumentException e) {
                                                 throw new RuntimeException(e);
                                             }
+                                        } else if (args.length == 1 && args[0] instanceof InputStream) {
+                                            try {
+                                                return new DSObject((InputStream) args[0]);
+                                            } catch (InvalidArgumentException e) {
+                                                throw new RuntimeException(e);
+                                            }
                                         } else {
                                             throw new RuntimeException("Invalid arguments for IObject creation.");
                                         }
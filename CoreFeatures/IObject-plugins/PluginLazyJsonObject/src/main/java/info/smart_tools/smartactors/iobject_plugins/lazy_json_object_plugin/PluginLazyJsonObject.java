@@ -0,0 +1,78 @@
+package info.smart_tools.smartactors.iobject_plugins.lazy_json_object_plugin;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.ActionExecuteException;
+import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.CreateNewInstanceStrategy;
+import info.smart_tools.smartactors.feature_loading_system.bootstrap_item.BootstrapItem;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap.IBootstrap;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap_item.IBootstrapItem;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IPlugin;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
+import info.smart_tools.smartactors.iobject.lazy_json_object.LazyJsonObject;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+
+/**
+ * Plugin registering strategy creating {@link LazyJsonObject} by the
+ * {@code "info.smart_tools.smartactors.iobject.iobject.IObject#lazy-json"} key.
+ *
+ * <p>
+ *     The strategy accepts either a JSON string or an array of UTF-8 encoded bytes optionally followed by start and
+ *     end indexes of the object in that array.
+ * </p>
+ */
+public class PluginLazyJsonObject implements IPlugin {
+    private final IBootstrap<IBootstrapItem<String>> bootstrap;
+
+    /**
+     * The constructor
+     * @param bootstrap    the bootstrap
+     */
+    public PluginLazyJsonObject(final IBootstrap<IBootstrapItem<String>> bootstrap) {
+        this.bootstrap = bootstrap;
+    }
+
+    @Override
+    public void load() throws PluginException {
+        try {
+            IBootstrapItem<String> lazyJsonObjectItem = new BootstrapItem("lazy_json_iobject");
+
+            lazyJsonObjectItem
+                    .after("IOC")
+                    .after("iobject")
+                    .process(() -> {
+                        try {
+                            IOC.register(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject#lazy-json"),
+                                    new CreateNewInstanceStrategy(args -> {
+                                        try {
+                                            if (args.length == 1 && args[0] instanceof String) {
+                                                return new LazyJsonObject((String) args[0]);
+                                            } else if (args.length == 1 && args[0] instanceof byte[]) {
+                                                byte[] bytes = (byte[]) args[0];
+                                                return new LazyJsonObject(bytes, 0, bytes.length);
+                                            } else if (args.length == 3 && args[0] instanceof byte[]) {
+                                                return new LazyJsonObject((byte[]) args[0], (Integer) args[1], (Integer) args[2]);
+                                            } else {
+                                                throw new RuntimeException("Invalid arguments for IObject creation.");
+                                            }
+                                        } catch (InvalidArgumentException | ClassCastException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                    }));
+                        } catch (ResolutionException e) {
+                            throw new ActionExecuteException("LazyJsonObject plugin can't load: can't get LazyJsonObject key", e);
+                        } catch (InvalidArgumentException e) {
+                            throw new ActionExecuteException("LazyJsonObject plugin can't load: can't create strategy", e);
+                        } catch (RegistrationException e) {
+                            throw new ActionExecuteException("LazyJsonObject plugin can't load: can't register new strategy", e);
+                        }
+                    });
+
+            bootstrap.add(lazyJsonObjectItem);
+        } catch (InvalidArgumentException e) {
+            throw new PluginException(e);
+        }
+    }
+}
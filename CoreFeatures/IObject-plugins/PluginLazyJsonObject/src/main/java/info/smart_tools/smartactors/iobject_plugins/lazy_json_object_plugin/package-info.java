@@ -0,0 +1,5 @@
+/**
+ * Package contains plugin registering strategy creating
+ * {@link info.smart_tools.smartactors.iobject.lazy_json_object.LazyJsonObject}
+ */
+package info.smart_tools.smartactors.iobject_plugins.lazy_json_object_plugin;
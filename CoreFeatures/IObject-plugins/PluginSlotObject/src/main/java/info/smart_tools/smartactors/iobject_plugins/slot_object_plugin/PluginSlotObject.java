@@ -0,0 +1,84 @@
+package info.smart_tools.smartactors.iobject_plugins.slot_object_plugin;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.ActionExecuteException;
+import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.CreateNewInstanceStrategy;
+import info.smart_tools.smartactors.feature_loading_system.bootstrap_item.BootstrapItem;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap.IBootstrap;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap_item.IBootstrapItem;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IPlugin;
+import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
+import info.smart_tools.smartactors.iobject.slot_object.SlotObject;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+
+import java.io.InputStream;
+
+/**
+ * Plugin registering strategy creating {@link SlotObject} by the
+ * {@code "info.smart_tools.smartactors.iobject.iobject.IObject#slot"} key.
+ *
+ * <p>
+ *     The strategy accepts the same arguments as the default {@code IObject} strategy (no arguments, a JSON string or
+ *     a stream of JSON) so it may be registered by the {@code "info.smart_tools.smartactors.iobject.iobject.IObject"}
+ *     key to replace {@code DSObject}.
+ * </p>
+ */
+public class PluginSlotObject implements IPlugin {
+    private final IBootstrap<IBootstrapItem<String>> bootstrap;
+
+    /**
+     * The constructor
+     * @param bootstrap    the bootstrap
+     */
+    public PluginSlotObject(final IBootstrap<IBootstrapItem<String>> bootstrap) {
+        this.bootstrap = bootstrap;
+    }
+
+    @Override
+    public void load() throws PluginException {
+        try {
+            IBootstrapItem<String> slotObjectItem = new BootstrapItem("slot_iobject");
+
+            slotObjectItem
+                    .after("IOC")
+                    .after("iobject")
+                    .process(() -> {
+                        try {
+                            IOC.register(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject#slot"),
+                                    new CreateNewInstanceStrategy(args -> {
+                                        if (args.length == 0) {
+                                            return new SlotObject();
+                                        } else if (args.length == 1 && args[0] instanceof String) {
+                                            try {
+                                                return new SlotObject((String) args[0]);
+                                            } catch (InvalidArgumentException e) {
+                                                throw new RuntimeException(e);
+                                            }
+                                        } else if (args.length == 1 && args[0] instanceof InputStream) {
+                                            try {
+                                                return new SlotObject((InputStream) args[0]);
+                                            } catch (InvalidArgumentException e) {
+                                                throw new RuntimeException(e);
+                                            }
+                                        } else {
+                                            throw new RuntimeException("Invalid arguments for IObject creation.");
+                                        }
+                                    }));
+                        } catch (ResolutionException e) {
+                            throw new ActionExecuteException("SlotObject plugin can't load: can't get SlotObject key", e);
+                        } catch (InvalidArgumentException e) {
+                            throw new ActionExecuteException("SlotObject plugin can't load: can't create strategy", e);
+                        } catch (RegistrationException e) {
+                            throw new ActionExecuteException("SlotObject plugin can't load: can't register new strategy", e);
+                        }
+                    });
+
+            bootstrap.add(slotObjectItem);
+        } catch (InvalidArgumentException e) {
+            throw new PluginException(e);
+        }
+    }
+}
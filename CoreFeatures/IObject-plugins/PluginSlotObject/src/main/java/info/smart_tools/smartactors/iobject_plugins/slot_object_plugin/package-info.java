@@ -0,0 +1,4 @@
+/**
+ * Package contains plugin registering strategy creating {@link info.smart_tools.smartactors.iobject.slot_object.SlotObject}
+ */
+package info.smart_tools.smartactors.iobject_plugins.slot_object_plugin;
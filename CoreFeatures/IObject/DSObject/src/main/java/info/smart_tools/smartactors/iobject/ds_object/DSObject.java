@@ -22,6 +22,8 @@ import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException
 import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -44,8 +46,13 @@ public class DSObject implements IObject {
                     final SerializerProvider serializerProvider
             )
                     throws IOException {
-                try {
+                if (iObject instanceof DSObject) {
+                    // Write nested object with the same generator instead of serializing it to an intermediate string
+                    serializerProvider.defaultSerializeValue(((DSObject) iObject).body, jsonGenerator);
+                    return;
+                }
 
+                try {
                     jsonGenerator.writeRawValue((String) iObject.serialize());
                 } catch (SerializeException e) {
                     throw new IOException("Could not serialize DSObject.", e);
@@ -54,6 +61,8 @@ public class DSObject implements IObject {
         });
         module.addDeserializer(Object.class, new ObjectDeserializer());
         OBJECT_MAPPER.registerModule(module);
+        OBJECT_MAPPER.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        OBJECT_MAPPER.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
     }
 
     /**
@@ -84,6 +93,20 @@ public class DSObject implements IObject {
         }
     }
 
+    /**
+     * Parse JSON read from incoming stream and create new instance of {@link DSObject}
+     * @param body stream of JSON encoded in one of encodings detected by Jackson (e.g. UTF-8), is not closed
+     * @throws InvalidArgumentException if any errors occurred on object creation
+     */
+    public DSObject(final InputStream body)
+            throws InvalidArgumentException {
+        try {
+            this.body = OBJECT_MAPPER.reader(new TypeReference<Map<FieldName, Object>>() { }).readValue(body);
+        } catch (Throwable e) {
+            throw new InvalidArgumentException(e);
+        }
+    }
+
     /**
      * Create empty instance of {@link DSObject}
      */
@@ -128,6 +151,16 @@ public class DSObject implements IObject {
         }
     }
 
+    @Override
+    public void serialize(final OutputStream outputStream)
+            throws SerializeException {
+        try {
+            OBJECT_MAPPER.writer().writeValue(outputStream, body);
+        } catch (Throwable e) {
+            throw new SerializeException(e);
+        }
+    }
+
     @Override
     public Iterator<Map.Entry<IFieldName, Object>> iterator() {
         return new DSObjectIterator();
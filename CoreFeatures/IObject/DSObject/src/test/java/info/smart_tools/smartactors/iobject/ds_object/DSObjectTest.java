@@ -7,6 +7,10 @@ import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -18,6 +22,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for DSObject
@@ -42,6 +47,22 @@ public class DSObjectTest {
         assertEquals("foo", obj.getValue(new FieldName("string")));
     }
 
+    @Test
+    public void checkCreationByStream()
+            throws Exception {
+        InputStream stream = new ByteArrayInputStream("{\"value\": 1, \"string\": \"фу\"}".getBytes(StandardCharsets.UTF_8));
+        IObject obj = new DSObject(stream);
+        assertEquals(1, obj.getValue(new FieldName("value")));
+        assertEquals("фу", obj.getValue(new FieldName("string")));
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnCreationByStream()
+            throws Exception {
+        new DSObject(new ByteArrayInputStream("{\"value\": ".getBytes(StandardCharsets.UTF_8)));
+        fail();
+    }
+
     @Test
     public void checkCreationByMap()
             throws Exception {
@@ -132,6 +153,38 @@ public class DSObjectTest {
         assertNotNull(result);
     }
 
+    @Test
+    public void checkSerializationToStream()
+            throws Exception {
+        String json = "{\"value\":1,\"nested\":{\"list\":[{\"a\":\"b\"}]}}";
+        IObject obj = new DSObject(json);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        obj.serialize(outputStream);
+        assertEquals(json, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(json, obj.serialize());
+    }
+
+    @Test
+    public void checkSerializationWithNestedForeignIObject()
+            throws Exception {
+        IObject nested = mock(IObject.class);
+        when(nested.serialize()).thenReturn("{\"a\":1}");
+        IObject obj = new DSObject();
+        obj.setValue(new FieldName("nested"), nested);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        obj.serialize(outputStream);
+        assertEquals("{\"nested\":{\"a\":1}}", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test (expected = SerializeException.class)
+    public void checkExceptionOnSerializationToStream()
+            throws Exception {
+        IObject obj = new DSObject();
+        obj.setValue(new FieldName("value"), new Object());
+        obj.serialize(new ByteArrayOutputStream());
+        fail();
+    }
+
     @Test
     public void checkIterator()
             throws Exception {
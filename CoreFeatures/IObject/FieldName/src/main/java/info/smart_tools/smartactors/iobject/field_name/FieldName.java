@@ -18,6 +18,13 @@ public class FieldName implements IFieldName, Comparable<IFieldName> {
 
     private String name;
 
+    /**
+     * Slot identifier of the name, assigned on first access
+     */
+    private int slot = UNASSIGNED_SLOT;
+
+    private static final int UNASSIGNED_SLOT = -2;
+
     /**
      * Base constructor for {@code FieldName}
      * @param name is name of field, it must not be {@code null} and
@@ -52,6 +59,23 @@ public class FieldName implements IFieldName, Comparable<IFieldName> {
         return name;
     }
 
+    /**
+     * Get the global slot identifier of this name.
+     *
+     * @return the slot identifier or {@link FieldNameSlots#NO_SLOT} if the name has no slot
+     * @see FieldNameSlots#slotOf(String)
+     */
+    public int getSlot() {
+        int s = slot;
+
+        if (UNASSIGNED_SLOT == s) {
+            s = FieldNameSlots.slotOf(name);
+            slot = s;
+        }
+
+        return s;
+    }
+
     /**
      * Initialize class property {@code FieldName}
      * @param nameValue pretender name for {@code FieldName}
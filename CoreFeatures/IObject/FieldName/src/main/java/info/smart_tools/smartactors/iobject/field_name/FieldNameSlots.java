@@ -0,0 +1,56 @@
+package info.smart_tools.smartactors.iobject.field_name;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Global storage of integer slot identifiers of field names.
+ *
+ * <p>
+ *     Every distinct field name gets a small non-negative integer identifier so {@code IObject} implementations may
+ *     use it instead of hash code and {@link String#equals(Object)}. Amount of identifiers is limited by {@link
+ *     #MAX_SLOTS} as field names may come from external sources (e.g. JSON documents received over network); names
+ *     that do not fit get {@link #NO_SLOT}.
+ * </p>
+ */
+public final class FieldNameSlots {
+    /**
+     * Slot identifier of names that have no slot assigned
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * Maximal amount of slot identifiers
+     */
+    public static final int MAX_SLOTS = 1 << 16;
+
+    private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger(0);
+
+    private FieldNameSlots() {
+    }
+
+    /**
+     * Get slot identifier of the field name.
+     *
+     * @param name    the field name
+     * @return slot identifier or {@link #NO_SLOT} if there are no free identifiers left
+     */
+    public static int slotOf(final String name) {
+        Integer slot = SLOTS.get(name);
+
+        if (null != slot) {
+            return slot;
+        }
+
+        if (NEXT_SLOT.get() >= MAX_SLOTS) {
+            return NO_SLOT;
+        }
+
+        return SLOTS.computeIfAbsent(name, n -> {
+            int next = NEXT_SLOT.getAndIncrement();
+            return next < MAX_SLOTS ? next : NO_SLOT;
+        });
+    }
+}
@@ -65,4 +65,16 @@ public class FieldNameTest {
             throws Exception {
         assertEquals(new FieldName("asd").compareTo(new FieldName("qwe")), "asd".compareTo("qwe"));
     }
+
+    @Test
+    public void checkSlot()
+            throws Exception {
+        FieldName fieldName1 = new FieldName("slot_test");
+        FieldName fieldName2 = new FieldName("slot_test");
+        FieldName fieldNameOther = new FieldName("slot_test_other");
+        assertTrue(fieldName1.getSlot() >= 0);
+        assertEquals(fieldName1.getSlot(), fieldName2.getSlot());
+        assertEquals(fieldName1.getSlot(), FieldNameSlots.slotOf("slot_test"));
+        assertNotEquals(fieldName1.getSlot(), fieldNameOther.getSlot());
+    }
 }
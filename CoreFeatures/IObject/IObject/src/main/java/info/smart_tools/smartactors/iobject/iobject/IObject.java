@@ -7,6 +7,9 @@ import info.smart_tools.smartactors.iobject.iobject.exception.DeleteValueExcepti
 import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
 import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -60,6 +63,27 @@ public interface IObject extends Iterable<Map.Entry<IFieldName, Object>> {
     <T> T serialize()
             throws SerializeException;
 
+    /**
+     * Write UTF-8 encoded JSON representation of instance of {@link IObject} to the given stream.
+     *
+     * <p>
+     *     Default implementation writes the result of {@link #serialize()}, implementations should override it to write
+     *     the object (including nested objects) in a single pass without building intermediate strings. The stream is not
+     *     closed.
+     * </p>
+     *
+     * @param outputStream the stream to write to
+     * @throws SerializeException if any errors occurred on serialization
+     */
+    default void serialize(final OutputStream outputStream)
+            throws SerializeException {
+        try {
+            outputStream.write(String.valueOf((Object) serialize()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new SerializeException("Could not write serialized object.", e);
+        }
+    }
+
     /**
      * Returns new iterator over set of fields of the object.
      * @return an iterator.
@@ -0,0 +1,409 @@
+package info.smart_tools.smartactors.iobject.lazy_json_object;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ChangeValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.DeleteValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link IObject} backed by UTF-8 encoded JSON bytes.
+ *
+ * <p>
+ *     Nothing is parsed on creation. On first access to any field the top level of the object is scanned: scalar values
+ *     are read, nested objects and arrays are only skipped and their positions in the source are remembered. Nested
+ *     object is created (as another {@link LazyJsonObject} sharing the same source) and array is parsed only when the
+ *     field is read.
+ * </p>
+ *
+ * <p>
+ *     {@link #serialize()} returns the source text as is if the object was never accessed and writes nested objects and
+ *     arrays that were never read verbatim otherwise.
+ * </p>
+ *
+ * <p>
+ *     As the source is not parsed on creation, malformed JSON is detected on first access to the object only, in that
+ *     case {@link ReadValueException} (or {@link ChangeValueException}, {@link DeleteValueException},
+ *     {@link SerializeException}) is thrown.
+ * </p>
+ */
+public class LazyJsonObject implements IObject {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
+    static {
+        SimpleModule module = new SimpleModule("LazyJsonObject serialization module");
+        module.addSerializer(new StdSerializer<IObject>(IObject.class) {
+            @Override
+            public void serialize(
+                    final IObject iObject,
+                    final JsonGenerator jsonGenerator,
+                    final SerializerProvider serializerProvider
+            )
+                    throws IOException {
+                if (iObject instanceof LazyJsonObject) {
+                    ((LazyJsonObject) iObject).writeNestedTo(jsonGenerator);
+                    return;
+                }
+
+                try {
+                    jsonGenerator.writeRawValue((String) iObject.serialize());
+                } catch (SerializeException e) {
+                    throw new IOException("Could not serialize nested IObject.", e);
+                }
+            }
+        });
+        OBJECT_MAPPER.registerModule(module);
+    }
+
+    /**
+     * Position of a nested object or array in the source that was not read yet
+     */
+    private static final class RawValue {
+        private final int start;
+        private final int end;
+
+        private RawValue(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final byte[] source;
+    private final int start;
+    private final int end;
+
+    /**
+     * Fields of the object, {@code null} until the source is scanned
+     */
+    private Map<IFieldName, Object> fields;
+
+    /**
+     * Create new instance of {@link LazyJsonObject} backed by a part of given byte array
+     * @param source    the array containing UTF-8 encoded JSON
+     * @param start     index of the first byte (the opening brace) of the object
+     * @param end       index of the byte following the last byte (the closing brace) of the object
+     * @throws InvalidArgumentException if source is null or the range is invalid
+     */
+    public LazyJsonObject(final byte[] source, final int start, final int end)
+            throws InvalidArgumentException {
+        if (null == source) {
+            throw new InvalidArgumentException("Source should not be null.");
+        }
+
+        if (start < 0 || end > source.length || end - start < 2) {
+            throw new InvalidArgumentException("Invalid range of the source.");
+        }
+
+        if ('{' != source[start] || '}' != source[end - 1]) {
+            throw new InvalidArgumentException("Source range should contain a JSON object.");
+        }
+
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Create new instance of {@link LazyJsonObject} from JSON string
+     * @param body    the JSON string
+     * @throws InvalidArgumentException if body is null or is not a JSON object
+     */
+    public LazyJsonObject(final String body)
+            throws InvalidArgumentException {
+        this(toBytes(body));
+    }
+
+    private LazyJsonObject(final byte[] source)
+            throws InvalidArgumentException {
+        this(source, 0, source.length);
+    }
+
+    private static byte[] toBytes(final String body)
+            throws InvalidArgumentException {
+        if (null == body) {
+            throw new InvalidArgumentException("Body should not be null.");
+        }
+
+        return body.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object getValue(final IFieldName name)
+            throws ReadValueException, InvalidArgumentException {
+        if (null == name) {
+            throw new InvalidArgumentException("Name parameter should not be null.");
+        }
+
+        try {
+            Map<IFieldName, Object> f = getFields();
+            Object value = f.get(name);
+
+            if (value instanceof RawValue) {
+                value = materialize((RawValue) value);
+                f.put(name, value);
+            }
+
+            return value;
+        } catch (IOException | InvalidArgumentException e) {
+            throw new ReadValueException("Error reading value of field " + name, e);
+        }
+    }
+
+    @Override
+    public void setValue(final IFieldName name, final Object value)
+            throws ChangeValueException, InvalidArgumentException {
+        if (null == name) {
+            throw new InvalidArgumentException("Name parameter should not be null.");
+        }
+
+        try {
+            getFields().put(name, value);
+        } catch (IOException | InvalidArgumentException e) {
+            throw new ChangeValueException("Error changing value of field " + name, e);
+        }
+    }
+
+    @Override
+    public void deleteField(final IFieldName name)
+            throws DeleteValueException, InvalidArgumentException {
+        if (null == name) {
+            throw new InvalidArgumentException("Name parameter should not be null.");
+        }
+
+        try {
+            getFields().remove(name);
+        } catch (IOException | InvalidArgumentException e) {
+            throw new DeleteValueException("Error deleting field " + name, e);
+        }
+    }
+
+    @Override
+    public <T> T serialize()
+            throws SerializeException {
+        if (null == fields) {
+            return (T) new String(source, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        try {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream(end - start);
+
+            try (JsonGenerator generator = createGenerator(stream)) {
+                writeTo(generator);
+            }
+
+            return (T) new String(stream.toByteArray(), StandardCharsets.UTF_8);
+        } catch (Throwable e) {
+            throw new SerializeException("Could not serialize LazyJsonObject.", e);
+        }
+    }
+
+    @Override
+    public void serialize(final OutputStream outputStream)
+            throws SerializeException {
+        try {
+            if (null == fields) {
+                outputStream.write(source, start, end - start);
+                return;
+            }
+
+            try (JsonGenerator generator = createGenerator(outputStream)) {
+                writeTo(generator);
+            }
+        } catch (Throwable e) {
+            throw new SerializeException("Could not serialize LazyJsonObject.", e);
+        }
+    }
+
+    private static JsonGenerator createGenerator(final OutputStream outputStream)
+            throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // The generator is flushed before each raw value, that should not flush the target stream
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        return generator;
+    }
+
+    private void writeNestedTo(final JsonGenerator generator)
+            throws IOException {
+        if (null == fields) {
+            writeRawValue(generator, start, end);
+        } else {
+            writeTo(generator);
+        }
+    }
+
+    /**
+     * Write a range of the source as a value. If the generator writes to a byte stream (it is so for all generators
+     * created by this class) the generator writes only the separator preceding the value and the bytes are copied to
+     * the stream as is, otherwise they are decoded to a string.
+     */
+    private void writeRawValue(final JsonGenerator generator, final int from, final int to)
+            throws IOException {
+        Object target = generator.getOutputTarget();
+
+        if (target instanceof OutputStream) {
+            generator.writeRawValue("");
+            generator.flush();
+            ((OutputStream) target).write(source, from, to - from);
+        } else {
+            generator.writeRawValue(new String(source, from, to - from, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeTo(final JsonGenerator generator)
+            throws IOException {
+        generator.setCodec(OBJECT_MAPPER);
+        generator.writeStartObject();
+
+        for (Map.Entry<IFieldName, Object> entry : fields.entrySet()) {
+            generator.writeFieldName(entry.getKey().toString());
+
+            if (entry.getValue() instanceof RawValue) {
+                RawValue raw = (RawValue) entry.getValue();
+                writeRawValue(generator, raw.start, raw.end);
+            } else {
+                generator.writeObject(entry.getValue());
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the source is not a valid JSON object
+     */
+    @Override
+    public Iterator<Map.Entry<IFieldName, Object>> iterator() {
+        try {
+            Map<IFieldName, Object> f = getFields();
+
+            for (Map.Entry<IFieldName, Object> entry : f.entrySet()) {
+                if (entry.getValue() instanceof RawValue) {
+                    entry.setValue(materialize((RawValue) entry.getValue()));
+                }
+            }
+
+            return f.entrySet().iterator();
+        } catch (IOException | InvalidArgumentException e) {
+            throw new IllegalStateException("Error reading fields of the object.", e);
+        }
+    }
+
+    /**
+     * Scan the top level of the source if it is not scanned yet.
+     */
+    private Map<IFieldName, Object> getFields()
+            throws IOException, InvalidArgumentException {
+        if (null != fields) {
+            return fields;
+        }
+
+        Map<IFieldName, Object> scanned = new LinkedHashMap<>();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(source, start, end - start)) {
+            if (JsonToken.START_OBJECT != parser.nextToken()) {
+                throw new IOException("Source does not contain a JSON object.");
+            }
+
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                IFieldName name = new FieldName(parser.getCurrentName());
+                JsonToken token = parser.nextToken();
+
+                if (token.isStructStart()) {
+                    // Parser counts byte offsets from the beginning of the parsed range, not of the source array
+                    int valueStart = start + (int) parser.getTokenLocation().getByteOffset();
+                    parser.skipChildren();
+                    int valueEnd = start + (int) parser.getCurrentLocation().getByteOffset();
+                    scanned.put(name, new RawValue(valueStart, valueEnd));
+                } else {
+                    scanned.put(name, readScalar(parser));
+                }
+            }
+        }
+
+        fields = scanned;
+
+        return fields;
+    }
+
+    private Object materialize(final RawValue raw)
+            throws IOException, InvalidArgumentException {
+        if ('{' == source[raw.start]) {
+            return new LazyJsonObject(source, raw.start, raw.end);
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(source, raw.start, raw.end - raw.start)) {
+            parser.nextToken();
+            return readArray(parser, raw.start);
+        }
+    }
+
+    private List<Object> readArray(final JsonParser parser, final int base)
+            throws IOException, InvalidArgumentException {
+        List<Object> list = new ArrayList<>();
+        JsonToken token;
+
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            if (null == token) {
+                throw new IOException("Unexpected end of array.");
+            }
+
+            if (JsonToken.START_OBJECT == token) {
+                int valueStart = base + (int) parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                int valueEnd = base + (int) parser.getCurrentLocation().getByteOffset();
+                list.add(new LazyJsonObject(source, valueStart, valueEnd));
+            } else if (JsonToken.START_ARRAY == token) {
+                list.add(readArray(parser, base));
+            } else {
+                list.add(readScalar(parser));
+            }
+        }
+
+        return list;
+    }
+
+    private static Object readScalar(final JsonParser parser)
+            throws IOException {
+        switch (parser.getCurrentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new IOException("Unexpected token " + parser.getCurrentToken());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package contains implementation of {@link info.smart_tools.smartactors.iobject.iobject.IObject} parsing JSON lazily
+ */
+package info.smart_tools.smartactors.iobject.lazy_json_object;
@@ -0,0 +1,230 @@
+package info.smart_tools.smartactors.iobject.lazy_json_object;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link LazyJsonObject}
+ */
+public class LazyJsonObjectTest {
+
+    @Test
+    public void checkReadingValues()
+            throws Exception {
+        byte[] bytes = "xx{\"int\": 1, \"str\": \"hé\\n\", \"obj\": {\"a\": [1, {\"b\": true}]}, \"nul\": null, \"dbl\": 1.5}yy"
+                .getBytes(StandardCharsets.UTF_8);
+        IObject obj = new LazyJsonObject(bytes, 2, bytes.length - 2);
+
+        assertEquals(1, obj.getValue(new FieldName("int")));
+        assertEquals("hé\n", obj.getValue(new FieldName("str")));
+        assertEquals(1.5, obj.getValue(new FieldName("dbl")));
+        assertNull(obj.getValue(new FieldName("nul")));
+        assertNull(obj.getValue(new FieldName("absent")));
+
+        IObject nested = (IObject) obj.getValue(new FieldName("obj"));
+        assertSame(nested, obj.getValue(new FieldName("obj")));
+        List list = (List) nested.getValue(new FieldName("a"));
+        assertEquals(1, list.get(0));
+        assertEquals(true, ((IObject) list.get(1)).getValue(new FieldName("b")));
+    }
+
+    @Test
+    public void checkNestedObjectsAtNonZeroOffset()
+            throws Exception {
+        String prefix = "prefix é ";
+        String json = "{\"x\": \"ééé\", \"o\": {\"p\": 1, \"q\": {\"r\": \"s\"}}}";
+        byte[] bytes = (prefix + json + " suffix").getBytes(StandardCharsets.UTF_8);
+        int start = prefix.getBytes(StandardCharsets.UTF_8).length;
+        IObject obj = new LazyJsonObject(bytes, start, start + json.getBytes(StandardCharsets.UTF_8).length);
+
+        assertEquals("ééé", obj.getValue(new FieldName("x")));
+
+        IObject o = (IObject) obj.getValue(new FieldName("o"));
+        assertEquals("{\"p\": 1, \"q\": {\"r\": \"s\"}}", o.serialize());
+
+        IObject q = (IObject) o.getValue(new FieldName("q"));
+        assertEquals("{\"r\": \"s\"}", q.serialize());
+        assertEquals("s", q.getValue(new FieldName("r")));
+        assertEquals(1, o.getValue(new FieldName("p")));
+    }
+
+    @Test
+    public void checkVerbatimSerialization()
+            throws Exception {
+        String json = "{ \"a\" : { \"b\" : [1,  2] },\n \"c\": \"d\" }";
+        IObject obj = new LazyJsonObject(json);
+        assertEquals(json, obj.serialize());
+
+        obj.getValue(new FieldName("c"));
+        assertEquals("{\"a\":{ \"b\" : [1,  2] },\"c\":\"d\"}", obj.serialize());
+    }
+
+    @Test
+    public void checkSerializationOfModifiedObject()
+            throws Exception {
+        IObject obj = new LazyJsonObject("{\"a\": {\"b\": 1, \"c\": [ 1 ]}, \"d\": 2}");
+        IObject nested = (IObject) obj.getValue(new FieldName("a"));
+        nested.setValue(new FieldName("b"), "x");
+        obj.deleteField(new FieldName("d"));
+        obj.setValue(new FieldName("e"), Arrays.asList(1, nested));
+
+        assertEquals(
+                "{\"a\":{\"b\":\"x\",\"c\":[ 1 ]},\"e\":[1,{\"b\":\"x\",\"c\":[ 1 ]}]}",
+                obj.serialize()
+        );
+    }
+
+    @Test
+    public void checkSerializationFailureKeepsCause()
+            throws Exception {
+        IObject obj = new LazyJsonObject("{\"a\": 1}");
+        obj.setValue(new FieldName("b"), new Object());
+
+        try {
+            obj.serialize();
+            fail();
+        } catch (SerializeException e) {
+            assertNotNull(e.getMessage());
+            assertNotNull(e.getCause());
+        }
+
+        try {
+            obj.serialize(new ByteArrayOutputStream());
+            fail();
+        } catch (SerializeException e) {
+            assertNotNull(e.getMessage());
+            assertNotNull(e.getCause());
+        }
+    }
+
+    @Test
+    public void checkSerializationToStream()
+            throws Exception {
+        byte[] bytes = "xx{\"a\": {\"b\": 1}, \"c\": [ 2 ]}yy".getBytes(StandardCharsets.UTF_8);
+        IObject obj = new LazyJsonObject(bytes, 2, bytes.length - 2);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        obj.serialize(outputStream);
+        assertEquals("{\"a\": {\"b\": 1}, \"c\": [ 2 ]}", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+
+        obj.setValue(new FieldName("d"), obj.getValue(new FieldName("a")));
+        outputStream.reset();
+        obj.serialize(outputStream);
+        assertEquals(
+                "{\"a\":{\"b\": 1},\"c\":[ 2 ],\"d\":{\"b\": 1}}",
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    public void checkRawValuesAreWrittenToStreamAsIsWithoutFlushingIt()
+            throws Exception {
+        byte[] bytes = "{\"a\": {\"é\" : \"\\u00e9\"}, \"b\": [ \"é\" ], \"c\": 1}".getBytes(StandardCharsets.UTF_8);
+        IObject obj = new LazyJsonObject(bytes, 0, bytes.length);
+        obj.setValue(new FieldName("c"), 2);
+        int[] flushes = new int[1];
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                ++flushes[0];
+            }
+        };
+
+        obj.serialize(outputStream);
+
+        assertEquals(
+                "{\"a\":{\"é\" : \"\\u00e9\"},\"b\":[ \"é\" ],\"c\":2}",
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8)
+        );
+        assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), obj.serialize());
+        assertEquals(0, flushes[0]);
+    }
+
+    @Test
+    public void checkIllegalStateExceptionOnIterationOverMalformedSource()
+            throws Exception {
+        IObject obj = new LazyJsonObject("{\"a\": }");
+
+        try {
+            obj.iterator();
+            fail();
+        } catch (IllegalStateException e) {
+            assertNotNull(e.getCause());
+        }
+    }
+
+    @Test
+    public void checkIteration()
+            throws Exception {
+        IObject obj = new LazyJsonObject("{\"a\": [1], \"b\": 2}");
+        Iterator<Map.Entry<IFieldName, Object>> iterator = obj.iterator();
+
+        Map.Entry<IFieldName, Object> entry = iterator.next();
+        assertEquals("a", entry.getKey().toString());
+        assertEquals(Arrays.asList(1), entry.getValue());
+        entry = iterator.next();
+        assertEquals("b", entry.getKey().toString());
+        assertEquals(2, entry.getValue());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void checkExceptionOnMalformedSourceAccess()
+            throws Exception {
+        IObject obj = new LazyJsonObject("{\"a\": }");
+
+        try {
+            obj.getValue(new FieldName("a"));
+            fail();
+        } catch (ReadValueException e) {
+            assertTrue(true);
+        }
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnCreationByNonObject()
+            throws Exception {
+        new LazyJsonObject("[1, 2]");
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnCreationByNullString()
+            throws Exception {
+        new LazyJsonObject((String) null);
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnInvalidRange()
+            throws Exception {
+        new LazyJsonObject("{}".getBytes(StandardCharsets.UTF_8), 0, 3);
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkExceptionOnGetValue()
+            throws Exception {
+        (new LazyJsonObject("{}")).getValue(null);
+        fail();
+    }
+}
@@ -0,0 +1,418 @@
+package info.smart_tools.smartactors.iobject.slot_object;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.UntypedObjectDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.field_name.FieldNameSlots;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ChangeValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.DeleteValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of {@link IObject} storing values in an open-addressed table indexed by global slot identifiers of
+ * field names (see {@link FieldName#getSlot()}).
+ *
+ * <p>
+ *     Lookup of a field costs a read of slot identifier cached in the {@link FieldName} instance and (usually) a single
+ *     probe of the table, there is no {@link String#hashCode()}/{@link String#equals(Object)} call unless the name has
+ *     no slot. The table is allocated on first write.
+ * </p>
+ *
+ * <p>
+ *     The object may be created from and serialized to JSON string in the same way as {@code DSObject}.
+ * </p>
+ */
+public class SlotObject implements IObject {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    static {
+        SimpleModule module = new SimpleModule("SlotObject serialization module");
+        module.addSerializer(new StdSerializer<SlotObject>(SlotObject.class) {
+            @Override
+            public void serialize(
+                    final SlotObject object,
+                    final JsonGenerator jsonGenerator,
+                    final SerializerProvider serializerProvider
+            )
+                    throws IOException {
+                object.writeTo(jsonGenerator, serializerProvider);
+            }
+        });
+        module.addSerializer(new StdSerializer<IObject>(IObject.class) {
+            @Override
+            public void serialize(
+                    final IObject iObject,
+                    final JsonGenerator jsonGenerator,
+                    final SerializerProvider serializerProvider
+            )
+                    throws IOException {
+                try {
+                    jsonGenerator.writeRawValue((String) iObject.serialize());
+                } catch (SerializeException e) {
+                    throw new IOException("Could not serialize nested IObject.", e);
+                }
+            }
+        });
+        module.addDeserializer(Object.class, new SlotObjectDeserializer());
+        OBJECT_MAPPER.registerModule(module);
+        OBJECT_MAPPER.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        OBJECT_MAPPER.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+    }
+
+    private IFieldName[] names;
+    private int[] slots;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Create empty instance of {@link SlotObject}
+     */
+    public SlotObject() {
+        this.size = 0;
+    }
+
+    /**
+     * Parse JSON read from incoming stream and create new instance of {@link SlotObject}
+     * @param body stream of JSON encoded in one of encodings detected by Jackson (e.g. UTF-8), is not closed
+     * @throws InvalidArgumentException if the stream does not contain a valid JSON object
+     */
+    public SlotObject(final InputStream body)
+            throws InvalidArgumentException {
+        this();
+
+        Object parsed;
+
+        try {
+            parsed = OBJECT_MAPPER.readValue(body, Object.class);
+        } catch (Throwable e) {
+            throw new InvalidArgumentException(e);
+        }
+
+        copyFrom(parsed);
+    }
+
+    /**
+     * Parse incoming JSON string and create new instance of {@link SlotObject}
+     * @param body incoming string data
+     * @throws InvalidArgumentException if the string is not a valid JSON object
+     */
+    public SlotObject(final String body)
+            throws InvalidArgumentException {
+        this();
+
+        Object parsed;
+
+        try {
+            parsed = OBJECT_MAPPER.readValue(body, Object.class);
+        } catch (Throwable e) {
+            throw new InvalidArgumentException(e);
+        }
+
+        copyFrom(parsed);
+    }
+
+    private void copyFrom(final Object parsed)
+            throws InvalidArgumentException {
+        if (!(parsed instanceof SlotObject)) {
+            throw new InvalidArgumentException("JSON should contain an object.");
+        }
+
+        SlotObject source = (SlotObject) parsed;
+        this.names = source.names;
+        this.slots = source.slots;
+        this.values = source.values;
+        this.size = source.size;
+    }
+
+    @Override
+    public Object getValue(final IFieldName name)
+            throws ReadValueException, InvalidArgumentException {
+        if (null == name) {
+            throw new InvalidArgumentException("Name parameter should not be null.");
+        }
+
+        if (0 == size) {
+            return null;
+        }
+
+        int index = find(name, slotOf(name));
+
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public void setValue(final IFieldName name, final Object value)
+            throws ChangeValueException, InvalidArgumentException {
+        if (null == name) {
+            throw new InvalidArgumentException("Name parameter should not be null.");
+        }
+
+        put(name, slotOf(name), value);
+    }
+
+    @Override
+    public void deleteField(final IFieldName name)
+            throws DeleteValueException, InvalidArgumentException {
+        if (null == name) {
+            throw new InvalidArgumentException("Name parameter should not be null.");
+        }
+
+        if (0 == size) {
+            return;
+        }
+
+        int index = find(name, slotOf(name));
+
+        if (index >= 0) {
+            remove(index);
+        }
+    }
+
+    @Override
+    public <T> T serialize()
+            throws SerializeException {
+        try {
+            return (T) OBJECT_MAPPER.writer().writeValueAsString(this);
+        } catch (Throwable e) {
+            throw new SerializeException();
+        }
+    }
+
+    @Override
+    public void serialize(final OutputStream outputStream)
+            throws SerializeException {
+        try {
+            OBJECT_MAPPER.writer().writeValue(outputStream, this);
+        } catch (Throwable e) {
+            throw new SerializeException(e);
+        }
+    }
+
+    @Override
+    public Iterator<Map.Entry<IFieldName, Object>> iterator() {
+        return new SlotObjectIterator();
+    }
+
+    private static int slotOf(final IFieldName name) {
+        if (name instanceof FieldName) {
+            return ((FieldName) name).getSlot();
+        }
+
+        return FieldNameSlots.NO_SLOT;
+    }
+
+    private static int hash(final IFieldName name, final int slot) {
+        int h = (FieldNameSlots.NO_SLOT == slot ? name.hashCode() : slot) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int find(final IFieldName name, final int slot) {
+        int mask = names.length - 1;
+        int i = hash(name, slot) & mask;
+
+        while (null != names[i]) {
+            if (slots[i] == slot && (FieldNameSlots.NO_SLOT != slot || names[i].equals(name))) {
+                return i;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private void put(final IFieldName name, final int slot, final Object value) {
+        if (null == names) {
+            allocate(INITIAL_CAPACITY);
+        } else if ((size + 1) * 2 > names.length) {
+            rehash(names.length * 2);
+        }
+
+        int mask = names.length - 1;
+        int i = hash(name, slot) & mask;
+
+        while (null != names[i]) {
+            if (slots[i] == slot && (FieldNameSlots.NO_SLOT != slot || names[i].equals(name))) {
+                values[i] = value;
+                return;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        names[i] = name;
+        slots[i] = slot;
+        values[i] = value;
+        ++size;
+    }
+
+    /**
+     * Remove the entry at given position shifting following entries of the same cluster back.
+     */
+    private void remove(final int index) {
+        int mask = names.length - 1;
+        int hole = index;
+        int i = index;
+
+        while (true) {
+            i = (i + 1) & mask;
+
+            if (null == names[i]) {
+                break;
+            }
+
+            int home = hash(names[i], slots[i]) & mask;
+
+            // Entry at i may fill the hole only if its home position is not in cyclic range (hole, i]
+            boolean inRange = (hole <= i) ? (hole < home && home <= i) : (hole < home || home <= i);
+
+            if (!inRange) {
+                names[hole] = names[i];
+                slots[hole] = slots[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+
+        names[hole] = null;
+        values[hole] = null;
+        --size;
+    }
+
+    private void allocate(final int capacity) {
+        names = new IFieldName[capacity];
+        slots = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    private void rehash(final int capacity) {
+        IFieldName[] oldNames = names;
+        int[] oldSlots = slots;
+        Object[] oldValues = values;
+
+        allocate(capacity);
+        size = 0;
+
+        for (int i = 0; i < oldNames.length; i++) {
+            if (null != oldNames[i]) {
+                put(oldNames[i], oldSlots[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void writeTo(final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider)
+            throws IOException {
+        jsonGenerator.writeStartObject();
+
+        if (null != names) {
+            for (int i = 0; i < names.length; i++) {
+                if (null != names[i]) {
+                    jsonGenerator.writeFieldName(names[i].toString());
+                    serializerProvider.defaultSerializeValue(values[i], jsonGenerator);
+                }
+            }
+        }
+
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Iterator over non-empty positions of the table
+     */
+    private final class SlotObjectIterator implements Iterator<Map.Entry<IFieldName, Object>> {
+
+        private int next;
+
+        private SlotObjectIterator() {
+            this.next = advance(0);
+        }
+
+        private int advance(final int from) {
+            if (null == names) {
+                return -1;
+            }
+
+            for (int i = from; i < names.length; i++) {
+                if (null != names[i]) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public Map.Entry<IFieldName, Object> next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+
+            Map.Entry<IFieldName, Object> entry = new AbstractMap.SimpleImmutableEntry<>(names[next], values[next]);
+            next = advance(next + 1);
+
+            return entry;
+        }
+    }
+
+    /**
+     * Custom deserializer.
+     * Reads all nested json objects as {@link SlotObject}.
+     */
+    private static class SlotObjectDeserializer extends UntypedObjectDeserializer {
+
+        @Override
+        public Object deserialize(final JsonParser jp, final DeserializationContext ctxt)
+                throws IOException {
+            JsonToken token = jp.getCurrentToken();
+
+            if (JsonToken.START_OBJECT == token) {
+                token = jp.nextToken();
+            } else if (JsonToken.FIELD_NAME != token && JsonToken.END_OBJECT != token) {
+                return super.deserialize(jp, ctxt);
+            }
+
+            SlotObject object = new SlotObject();
+
+            for (; JsonToken.FIELD_NAME == token; token = jp.nextToken()) {
+                FieldName name;
+
+                try {
+                    name = new FieldName(jp.getCurrentName());
+                } catch (InvalidArgumentException e) {
+                    throw new IOException(e);
+                }
+
+                jp.nextToken();
+                object.put(name, name.getSlot(), deserialize(jp, ctxt));
+            }
+
+            return object;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Package contains implementation of {@link info.smart_tools.smartactors.iobject.iobject.IObject} storing values in
+ * slots addressed by global identifiers of field names
+ */
+package info.smart_tools.smartactors.iobject.slot_object;
@@ -0,0 +1,178 @@
+package info.smart_tools.smartactors.iobject.slot_object;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link SlotObject}
+ */
+public class SlotObjectTest {
+
+    @Test
+    public void checkCreationByString()
+            throws Exception {
+        IObject obj = new SlotObject("{\"value\": 1, \"string\": \"foo\", \"nested\": {\"a\": [1, {\"b\": null}]}}");
+        assertEquals(1, obj.getValue(new FieldName("value")));
+        assertEquals("foo", obj.getValue(new FieldName("string")));
+
+        IObject nested = (IObject) obj.getValue(new FieldName("nested"));
+        List list = (List) nested.getValue(new FieldName("a"));
+        assertEquals(1, list.get(0));
+        assertTrue(list.get(1) instanceof SlotObject);
+    }
+
+    @Test
+    public void checkCreationByStream()
+            throws Exception {
+        InputStream stream = new ByteArrayInputStream("{\"value\": 1, \"string\": \"фу\"}".getBytes(StandardCharsets.UTF_8));
+        IObject obj = new SlotObject(stream);
+        assertEquals(1, obj.getValue(new FieldName("value")));
+        assertEquals("фу", obj.getValue(new FieldName("string")));
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnCreationByNonObjectStream()
+            throws Exception {
+        new SlotObject(new ByteArrayInputStream("[1, 2]".getBytes(StandardCharsets.UTF_8)));
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnCreationByNullString()
+            throws Exception {
+        new SlotObject((String) null);
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnCreationByNonObjectString()
+            throws Exception {
+        new SlotObject("[1, 2]");
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkExceptionOnGetValue()
+            throws Exception {
+        (new SlotObject()).getValue(null);
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkExceptionOnSetValue()
+            throws Exception {
+        (new SlotObject()).setValue(null, new Object());
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkExceptionOnDeleteValue()
+            throws Exception {
+        (new SlotObject()).deleteField(null);
+        fail();
+    }
+
+    @Test
+    public void checkSetGetAndDeleteValue()
+            throws Exception {
+        IFieldName fieldName = new FieldName("field");
+        IFieldName foreignFieldName = mock(IFieldName.class);
+        Object value = new Object();
+        IObject obj = new SlotObject();
+        assertNull(obj.getValue(fieldName));
+        obj.setValue(fieldName, value);
+        obj.setValue(foreignFieldName, value);
+        assertSame(value, obj.getValue(new FieldName("field")));
+        assertSame(value, obj.getValue(foreignFieldName));
+        obj.deleteField(fieldName);
+        obj.deleteField(foreignFieldName);
+        assertNull(obj.getValue(fieldName));
+        assertNull(obj.getValue(foreignFieldName));
+    }
+
+    @Test
+    public void checkManyFields()
+            throws Exception {
+        IObject obj = new SlotObject();
+        Map<String, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 100; i++) {
+            obj.setValue(new FieldName("f" + i), i);
+            expected.put("f" + i, i);
+        }
+
+        for (int i = 0; i < 100; i += 3) {
+            obj.deleteField(new FieldName("f" + i));
+            expected.remove("f" + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.get("f" + i), obj.getValue(new FieldName("f" + i)));
+        }
+
+        Map<String, Object> actual = new HashMap<>();
+
+        for (Map.Entry<IFieldName, Object> entry : obj) {
+            actual.put(entry.getKey().toString(), entry.getValue());
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void checkSerialization()
+            throws Exception {
+        String json = "{\"value\":1,\"nested\":{\"list\":[1,{\"a\":\"b\"}],\"empty\":null}}";
+        IObject obj = new SlotObject(json);
+        IObject copy = new SlotObject((String) obj.serialize());
+
+        assertEquals(1, copy.getValue(new FieldName("value")));
+        IObject nested = (IObject) copy.getValue(new FieldName("nested"));
+        assertTrue(((List) nested.getValue(new FieldName("list"))).get(1) instanceof SlotObject);
+        assertNull(nested.getValue(new FieldName("empty")));
+
+        Iterator<Map.Entry<IFieldName, Object>> iterator = nested.iterator();
+        iterator.next();
+        iterator.next();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void checkSerializationToStream()
+            throws Exception {
+        IObject obj = new SlotObject("{\"nested\":{\"list\":[1]}}");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        obj.serialize(outputStream);
+        assertEquals("{\"nested\":{\"list\":[1]}}", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test (expected = SerializeException.class)
+    public void checkExceptionOnSerialization()
+            throws Exception {
+        IObject obj = new SlotObject();
+        obj.setValue(new FieldName("object"), new Object());
+        obj.serialize();
+        fail();
+    }
+}
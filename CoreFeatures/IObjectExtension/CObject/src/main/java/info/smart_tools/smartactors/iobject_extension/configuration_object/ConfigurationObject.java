@@ -53,9 +53,15 @@ public class ConfigurationObject implements IObject {
             )
                     throws IOException {
                 try {
+                    if (iObject instanceof ConfigurationObject) {
+                        // Write nested object with the same generator instead of serializing it to an intermediate string
+                        serializerProvider.defaultSerializeValue(((ConfigurationObject) iObject).canonize(), jsonGenerator);
+                        return;
+                    }
+
                     jsonGenerator.writeRawValue((String) iObject.serialize());
-                } catch (SerializeException e) {
-                    throw new IOException("Could not serialize DSObject.");
+                } catch (SerializeException | ReadValueException | InvalidArgumentException e) {
+                    throw new IOException("Could not serialize DSObject.", e);
                 }
             }
         });
@@ -148,18 +154,27 @@ public class ConfigurationObject implements IObject {
     public <T> T serialize()
             throws SerializeException {
         try {
-            for (IFieldName fieldName : body.keySet()) {
-                if (!canonizedBody.containsKey(fieldName)) {
-                    getValue(fieldName);
-                }
-            }
-
-            return (T) OBJECT_MAPPER.writer().writeValueAsString(canonizedBody);
+            return (T) OBJECT_MAPPER.writer().writeValueAsString(canonize());
         } catch (ReadValueException | InvalidArgumentException | JsonProcessingException e) {
             throw new SerializeException(e);
         }
     }
 
+    /**
+     * Lead all the fields of the object to the canonical form.
+     * @return map of canonized fields
+     */
+    private Map<IFieldName, Object> canonize()
+            throws ReadValueException, InvalidArgumentException {
+        for (IFieldName fieldName : body.keySet()) {
+            if (!canonizedBody.containsKey(fieldName)) {
+                getValue(fieldName);
+            }
+        }
+
+        return canonizedBody;
+    }
+
     @Override
     public Iterator<Map.Entry<IFieldName, Object>> iterator() {
         return null;
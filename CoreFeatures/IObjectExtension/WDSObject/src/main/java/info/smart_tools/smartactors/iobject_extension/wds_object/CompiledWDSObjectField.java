@@ -0,0 +1,207 @@
+package info.smart_tools.smartactors.iobject_extension.wds_object;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.ifield.IField;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ChangeValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link IField} applying the same transformation rules as {@link WDSObjectField} does, but compiled
+ * once on creation.
+ *
+ * <p>
+ *     Every rule is translated into a step with pre-resolved field names, constants and strategies, so reading or
+ *     writing the field does not parse rule arguments, split paths or resolve field names and strategies in IOC.
+ * </p>
+ */
+public class CompiledWDSObjectField implements IField {
+
+    private static final String FIELD_ARGS = "args";
+    private static final String FIELD_NAME = "name";
+    private static final String LOCAL_KEYWORD = "local";
+    private static final String CONST_KEYWORD = "const";
+    private static final String SPLITTER = "\\/";
+    private static final String INNER_SETTER_STRATEGY_NAME = "wds_target_strategy";
+    private static final String INNER_GETTER_STRATEGY_NAME = "wds_getter_strategy";
+    private static final String SLASH = "/";
+
+    /**
+     * Compiled transformation rule
+     */
+    @FunctionalInterface
+    private interface Step {
+        Object apply(IObject env, Object localValue) throws Exception;
+    }
+
+    /**
+     * Compiled rule argument
+     */
+    @FunctionalInterface
+    private interface Argument {
+        Object resolve(IObject env, Object localValue) throws Exception;
+    }
+
+    private final Step[] steps;
+
+    /**
+     * Constructor.
+     * Create instance of {@link CompiledWDSObjectField}
+     * @param methodRules the configuration of current method
+     * @throws InvalidArgumentException if incoming arguments are incorrect
+     */
+    public CompiledWDSObjectField(final List<IObject> methodRules)
+            throws InvalidArgumentException {
+        if (null == methodRules) {
+            throw new InvalidArgumentException("Method configuration should not be null.");
+        }
+        try {
+            IFieldName strategyName = new FieldName(FIELD_NAME);
+            IFieldName args = new FieldName(FIELD_ARGS);
+            this.steps = new Step[methodRules.size()];
+            for (int i = 0; i < this.steps.length; ++i) {
+                IObject rule = methodRules.get(i);
+                this.steps[i] = compileRule(
+                        (String) rule.getValue(strategyName),
+                        (List<String>) rule.getValue(args)
+                );
+            }
+        } catch (Throwable e) {
+            throw new InvalidArgumentException("Could not create instance of CompiledWDSObjectField." , e);
+        }
+    }
+
+    @Override
+    public <T> T in(final IObject env)
+            throws ReadValueException, InvalidArgumentException {
+        if (null == env) {
+            throw new InvalidArgumentException("Environment should not be null.");
+        }
+        try {
+            return (T) apply(env, null);
+        } catch (Exception e) {
+            throw new ReadValueException("Could not apply rules.", e);
+        }
+    }
+
+    @Override
+    public <T> T in(final IObject env, final Class type)
+            throws ReadValueException, InvalidArgumentException {
+        throw new ReadValueException("Method not implemented.");
+    }
+
+    @Override
+    public <T> void out(final IObject env, final T in)
+            throws ChangeValueException, InvalidArgumentException {
+        if (null == env) {
+            throw new InvalidArgumentException("Environment should not be null.");
+        }
+        try {
+            apply(env, in);
+        } catch (Exception e) {
+            throw new ChangeValueException("Could not apply rules.", e);
+        }
+    }
+
+    private Object apply(final IObject env, final Object initialValue)
+            throws Exception {
+        Object value = initialValue;
+        for (Step step : this.steps) {
+            value = step.apply(env, value);
+        }
+        return value;
+    }
+
+    private static Step compileRule(final String name, final List<String> args)
+            throws ResolutionException, InvalidArgumentException {
+        if (INNER_GETTER_STRATEGY_NAME.equals(name)) {
+            Argument argument = compileArgument(args.get(0));
+            return argument::resolve;
+        }
+
+        if (INNER_SETTER_STRATEGY_NAME.equals(name)) {
+            Argument argument = compileArgument(args.get(0));
+            String target = args.get(1);
+            Argument targetObject = compilePath(target.substring(0, target.lastIndexOf(SLASH)));
+            String[] split = target.split(SPLITTER);
+            IFieldName targetField = resolveFieldName(split[split.length - 1]);
+            return (env, localValue) -> {
+                Object value = argument.resolve(env, localValue);
+                ((IObject) targetObject.resolve(env, localValue)).setValue(targetField, value);
+                return null;
+            };
+        }
+
+        IResolveDependencyStrategy strategy = IOC.resolve(
+                Keys.getOrAdd(IResolveDependencyStrategy.class.getCanonicalName()), name
+        );
+        Argument[] arguments = new Argument[args.size()];
+        for (int i = 0; i < arguments.length; ++i) {
+            arguments[i] = compileArgument(args.get(i));
+        }
+        return (env, localValue) -> {
+            Object[] resolvedArgs = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; ++i) {
+                resolvedArgs[i] = arguments[i].resolve(env, localValue);
+            }
+            return strategy.resolve(resolvedArgs);
+        };
+    }
+
+    private static Argument compileArgument(final String arg)
+            throws ResolutionException, InvalidArgumentException {
+        String key = arg.split(SPLITTER)[0];
+
+        if (LOCAL_KEYWORD.equals(key)) {
+            return (env, localValue) -> localValue;
+        }
+
+        if (CONST_KEYWORD.equals(key)) {
+            String[] split = arg.split(SPLITTER, 2);
+            if (split.length < 2) {
+                throw new InvalidArgumentException("Constant argument should contain a value: " + arg);
+            }
+            String constant = split[1];
+            return (env, localValue) -> constant;
+        }
+
+        return compilePath(arg);
+    }
+
+    private static Argument compilePath(final String path)
+            throws ResolutionException {
+        String[] separated = path.split(SPLITTER);
+        IFieldName[] names = new IFieldName[separated.length];
+        for (int i = 0; i < names.length; ++i) {
+            names[i] = resolveFieldName(separated[i]);
+        }
+
+        switch (names.length) {
+            case 1:
+                return (env, localValue) -> env.getValue(names[0]);
+            case 2:
+                return (env, localValue) -> ((IObject) env.getValue(names[0])).getValue(names[1]);
+            default:
+                return (env, localValue) -> {
+                    IObject object = env;
+                    for (int i = 0; i < names.length - 1; ++i) {
+                        object = (IObject) object.getValue(names[i]);
+                    }
+                    return object.getValue(names[names.length - 1]);
+                };
+        }
+    }
+
+    private static IFieldName resolveFieldName(final String name)
+            throws ResolutionException {
+        return IOC.resolve(Keys.getOrAdd(IFieldName.class.getCanonicalName()), name);
+    }
+}
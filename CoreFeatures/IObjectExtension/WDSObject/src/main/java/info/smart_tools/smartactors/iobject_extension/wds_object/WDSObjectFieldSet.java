@@ -1,6 +1,7 @@
 package info.smart_tools.smartactors.iobject_extension.wds_object;
 
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iaction.IFunction;
 import info.smart_tools.smartactors.iobject.ifield.IField;
 import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
 import info.smart_tools.smartactors.iobject.iobject.IObject;
@@ -17,6 +18,7 @@ public class WDSObjectFieldSet {
     private final IObject wrapperConfig;
     private final Map<IFieldName, IField> inFields;
     private final Map<IFieldName, IField[]> outFields;
+    private final IFunction<List<IObject>, IField> fieldFactory;
 
     /**
      * The constructor.
@@ -26,9 +28,27 @@ public class WDSObjectFieldSet {
      * @param outFieldsMap    map to store output fields in
      */
     public WDSObjectFieldSet(final IObject config, final Map<IFieldName, IField> inFieldsMap, final Map<IFieldName, IField[]> outFieldsMap) {
+        this(config, inFieldsMap, outFieldsMap, WDSObjectField::new);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param config          wrapper configuration object
+     * @param inFieldsMap     map to store input fields in
+     * @param outFieldsMap    map to store output fields in
+     * @param fieldFactory    function creating a field from list of its rules, e.g. {@code CompiledWDSObjectField::new}
+     */
+    public WDSObjectFieldSet(
+            final IObject config,
+            final Map<IFieldName, IField> inFieldsMap,
+            final Map<IFieldName, IField[]> outFieldsMap,
+            final IFunction<List<IObject>, IField> fieldFactory
+    ) {
         this.wrapperConfig = config;
         this.inFields = inFieldsMap;
         this.outFields = outFieldsMap;
+        this.fieldFactory = fieldFactory;
     }
 
     /**
@@ -44,7 +64,7 @@ public class WDSObjectFieldSet {
         IField field = inFields.get(fieldName);
         if (null == field) {
             try {
-                field = new WDSObjectField((List<IObject>) this.wrapperConfig.getValue(fieldName));
+                field = fieldFactory.execute((List<IObject>) this.wrapperConfig.getValue(fieldName));
             } catch (Throwable e) {
                 throw new ReadValueException("Can't read configuration for current field name " + fieldName);
             }
@@ -69,7 +89,7 @@ public class WDSObjectFieldSet {
                 Object config = this.wrapperConfig.getValue(fieldName);
                 fields = new IField[((List) config).size()];
                 for (int i = 0; i < fields.length; ++i) {
-                    fields[i] = new WDSObjectField((List<IObject>) ((List) config).get(i));
+                    fields[i] = fieldFactory.execute((List<IObject>) ((List) config).get(i));
                 }
             } catch (Throwable e) {
                 throw new ChangeValueException("Can't read configuration for current field name " + fieldName);
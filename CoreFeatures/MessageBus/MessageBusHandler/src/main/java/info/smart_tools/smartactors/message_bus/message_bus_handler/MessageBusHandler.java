@@ -16,12 +16,13 @@ import info.smart_tools.smartactors.message_processing_interfaces.iresponse_stra
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageProcessorProcessException;
 import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
 import info.smart_tools.smartactors.task.interfaces.itask.ITask;
-import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -40,6 +41,10 @@ public class MessageBusHandler implements IMessageBusHandler {
     private final IResponseStrategy messageBusResponseStrategy;
     private final IResponseStrategy nullResponseStrategy;
 
+    // Handles of chains the messages were sent to, the chain storage is resolved on first send to a named chain
+    private final Map<Object, Integer> chainHandles = new ConcurrentHashMap<>();
+    private volatile IChainStorage chainStorage;
+
     /**
      *
      * @param taskQueue Queue of the tasks
@@ -121,26 +126,37 @@ public class MessageBusHandler implements IMessageBusHandler {
 
     private IReceiverChain resolveChain(final Object chainName)
             throws MessageBusHandlerException {
+        if (null == chainName) {
+            throw new MessageBusHandlerException("Target chain name should not be null.");
+        }
+
         try {
-            Object chainId = IOC.resolve(Keys.getOrAdd("chain_id_from_map_name"), chainName);
-            IChainStorage chainStorage = IOC.resolve(Keys.getOrAdd(IChainStorage.class.getCanonicalName()));
+            IChainStorage storage = chainStorage;
+
+            if (null == storage) {
+                storage = IOC.resolve(Keys.getOrAdd(IChainStorage.class.getCanonicalName()));
+                chainStorage = storage;
+            }
+
+            Integer handle = chainHandles.get(chainName);
+
+            if (null == handle) {
+                handle = storage.getHandle(IOC.resolve(Keys.getOrAdd("chain_id_from_map_name"), chainName));
+                chainHandles.put(chainName, handle);
+            }
 
-            return chainStorage.resolve(chainId);
+            return storage.resolveByHandle(handle);
         } catch (ResolutionException | ChainNotFoundException e) {
             throw new MessageBusHandlerException("Error occurred resolving target chain.", e);
         }
     }
 
     private IMessageProcessor resolveMessageProcessor(final IReceiverChain mpChain) throws ResolutionException {
-        IMessageProcessingSequence processingSequence = IOC.resolve(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
-                this.stackDepth,
-                mpChain
-        );
         return IOC.resolve(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"),
                 this.taskQueue,
-                processingSequence
+                this.stackDepth,
+                mpChain
         );
     }
 
@@ -16,7 +16,6 @@ import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
 import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.ioc.istrategy_container.IStrategyContainer;
-import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
 import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_with_lambda_strategy.ResolveByNameIocStrategy;
@@ -124,14 +123,9 @@ public class MessageBusHandlerTest {
     @Test
     public void checkMessageHandle()
             throws Exception {
-        IResolveDependencyStrategy sequenceStrategy = mock(IResolveDependencyStrategy.class);
-        IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
-                sequenceStrategy
-        );
         IResolveDependencyStrategy messageProcessorStrategy = mock(IResolveDependencyStrategy.class);
         IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"),
                 messageProcessorStrategy
         );
         IResolveDependencyStrategy iobjectStrategy = mock(IResolveDependencyStrategy.class);
@@ -139,10 +133,8 @@ public class MessageBusHandlerTest {
                 IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.iobject.IObject"),
                 iobjectStrategy
         );
-        IMessageProcessingSequence sequence = mock(IMessageProcessingSequence.class);
-        when(sequenceStrategy.resolve(1, this.chain)).thenReturn(sequence);
         IMessageProcessor processor = mock(IMessageProcessor.class);
-        when(messageProcessorStrategy.resolve(this.queue, sequence)).thenReturn(processor);
+        when(messageProcessorStrategy.resolve(this.queue, 1, this.chain)).thenReturn(processor);
         IObject context = mock(IObject.class);
         when(iobjectStrategy.resolve()).thenReturn(context);
         IObject message = mock(IObject.class);
@@ -150,8 +142,7 @@ public class MessageBusHandlerTest {
         IMessageBusHandler handler = new MessageBusHandler(this.queue, 1, this.chain, mock(IAction.class));
         handler.handle(message);
         verify(context, times(1)).setValue(eq(new FieldName("responseStrategy")), same(nullResponseStrategy));
-        verify(sequenceStrategy, times(1)).resolve(1, this.chain);
-        verify(messageProcessorStrategy, times(1)).resolve(this.queue, sequence);
+        verify(messageProcessorStrategy, times(1)).resolve(this.queue, 1, this.chain);
         verify(iobjectStrategy, times(1)).resolve();
         verify(processor, times(1)).process(message, context);
     }
@@ -167,14 +158,9 @@ public class MessageBusHandlerTest {
     @Test
     public void checkMessageHandleWithSpecificChain()
             throws Exception {
-        IResolveDependencyStrategy sequenceStrategy = mock(IResolveDependencyStrategy.class);
-        IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
-                sequenceStrategy
-        );
         IResolveDependencyStrategy messageProcessorStrategy = mock(IResolveDependencyStrategy.class);
         IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"),
                 messageProcessorStrategy
         );
         IResolveDependencyStrategy iobjectStrategy = mock(IResolveDependencyStrategy.class);
@@ -198,24 +184,29 @@ public class MessageBusHandlerTest {
         IReceiverChain chain = mock(IReceiverChain.class);
         when(chainIdStrategy.resolve(chainName)).thenReturn(chainId);
         when(chainStorageStrategy.resolve()).thenReturn(storage);
-        when(storage.resolve(chainId)).thenReturn(chain);
-        IMessageProcessingSequence sequence = mock(IMessageProcessingSequence.class);
-        when(sequenceStrategy.resolve(1, chain)).thenReturn(sequence);
+        when(storage.getHandle(chainId)).thenReturn(3);
+        when(storage.resolveByHandle(3)).thenReturn(chain);
         IMessageProcessor processor = mock(IMessageProcessor.class);
-        when(messageProcessorStrategy.resolve(this.queue, sequence)).thenReturn(processor);
+        when(messageProcessorStrategy.resolve(this.queue, 1, chain)).thenReturn(processor);
         IObject context = mock(IObject.class);
         when(iobjectStrategy.resolve()).thenReturn(context);
         IObject message = mock(IObject.class);
 
         IMessageBusHandler handler = new MessageBusHandler(this.queue, 1, this.chain, mock(IAction.class));
         handler.handle(message, chainName);
-        verify(sequenceStrategy, times(1)).resolve(1, chain);
-        verify(messageProcessorStrategy, times(1)).resolve(this.queue, sequence);
+        verify(messageProcessorStrategy, times(1)).resolve(this.queue, 1, chain);
         verify(iobjectStrategy, times(1)).resolve();
         verify(processor, times(1)).process(message, context);
         verify(chainIdStrategy, times(1)).resolve(chainName);
         verify(chainStorageStrategy, times(1)).resolve();
-        verify(storage, times(1)).resolve(chainId);
+        verify(storage, times(1)).getHandle(chainId);
+        verify(storage, times(1)).resolveByHandle(3);
+
+        handler.handle(message, chainName);
+        verify(chainIdStrategy, times(1)).resolve(chainName);
+        verify(chainStorageStrategy, times(1)).resolve();
+        verify(storage, times(1)).getHandle(chainId);
+        verify(storage, times(2)).resolveByHandle(3);
     }
 
     @Test (expected = MessageBusHandlerException.class)
@@ -229,14 +220,9 @@ public class MessageBusHandlerTest {
     @Test
     public void checkMessageHandleWithReply()
             throws Exception {
-        IResolveDependencyStrategy sequenceStrategy = mock(IResolveDependencyStrategy.class);
-        IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
-                sequenceStrategy
-        );
         IResolveDependencyStrategy messageProcessorStrategy = mock(IResolveDependencyStrategy.class);
         IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"),
                 messageProcessorStrategy
         );
         IResolveDependencyStrategy iobjectStrategy = mock(IResolveDependencyStrategy.class);
@@ -254,10 +240,8 @@ public class MessageBusHandlerTest {
                 IOC.resolve(IOC.getKeyForKeyStorage(), IChainStorage.class.getCanonicalName()),
                 chainStorageStrategy
         );
-        IMessageProcessingSequence sequence = mock(IMessageProcessingSequence.class);
-        when(sequenceStrategy.resolve(1, this.chain)).thenReturn(sequence);
         IMessageProcessor processor = mock(IMessageProcessor.class);
-        when(messageProcessorStrategy.resolve(this.queue, sequence)).thenReturn(processor);
+        when(messageProcessorStrategy.resolve(this.queue, 1, this.chain)).thenReturn(processor);
         IObject context = mock(IObject.class);
         when(iobjectStrategy.resolve()).thenReturn(context);
         IObject message = mock(IObject.class);
@@ -273,8 +257,7 @@ public class MessageBusHandlerTest {
 
         IMessageBusHandler handler = new MessageBusHandler(this.queue, 1, this.chain, finalAction);
         handler.handleForReply(message, replyToChainName);
-        verify(sequenceStrategy, times(1)).resolve(1, this.chain);
-        verify(messageProcessorStrategy, times(1)).resolve(this.queue, sequence);
+        verify(messageProcessorStrategy, times(1)).resolve(this.queue, 1, this.chain);
         verify(iobjectStrategy, times(1)).resolve();
         verify(processor, times(1)).process(message, context);
         verify(context, times(1)).setValue(eq(new FieldName("finalActions")), any(List.class));
@@ -293,14 +276,9 @@ public class MessageBusHandlerTest {
     @Test
     public void checkMessageHandleWithSpecificChainAndReply()
             throws Exception {
-        IResolveDependencyStrategy sequenceStrategy = mock(IResolveDependencyStrategy.class);
-        IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
-                sequenceStrategy
-        );
         IResolveDependencyStrategy messageProcessorStrategy = mock(IResolveDependencyStrategy.class);
         IOC.register(
-                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"),
                 messageProcessorStrategy
         );
         IResolveDependencyStrategy iobjectStrategy = mock(IResolveDependencyStrategy.class);
@@ -319,10 +297,8 @@ public class MessageBusHandlerTest {
                 chainStorageStrategy
         );
         IReceiverChain chain = mock(IReceiverChain.class);
-        IMessageProcessingSequence sequence = mock(IMessageProcessingSequence.class);
-        when(sequenceStrategy.resolve(1, chain)).thenReturn(sequence);
         IMessageProcessor processor = mock(IMessageProcessor.class);
-        when(messageProcessorStrategy.resolve(this.queue, sequence)).thenReturn(processor);
+        when(messageProcessorStrategy.resolve(this.queue, 1, chain)).thenReturn(processor);
         IObject context = mock(IObject.class);
         when(iobjectStrategy.resolve()).thenReturn(context);
         IObject message = mock(IObject.class);
@@ -339,12 +315,12 @@ public class MessageBusHandlerTest {
         when(chainIdStrategy.resolve(chainName)).thenReturn(chainId);
         when(chainStorageStrategy.resolve()).thenReturn(storage);
         when(storage.resolve(replyToChainId)).thenReturn(replyToChain);
-        when(storage.resolve(chainId)).thenReturn(chain);
+        when(storage.getHandle(chainId)).thenReturn(3);
+        when(storage.resolveByHandle(3)).thenReturn(chain);
 
         IMessageBusHandler handler = new MessageBusHandler(this.queue, 1, this.chain, finalAction);
         handler.handleForReply(message, chainName, replyToChainName);
-        verify(sequenceStrategy, times(1)).resolve(1, chain);
-        verify(messageProcessorStrategy, times(1)).resolve(this.queue, sequence);
+        verify(messageProcessorStrategy, times(1)).resolve(this.queue, 1, chain);
         verify(iobjectStrategy, times(1)).resolve();
         verify(processor, times(1)).process(message, context);
         verify(context, times(1)).setValue(eq(new FieldName("finalActions")), any(List.class));
@@ -7,11 +7,13 @@ import info.smart_tools.smartactors.base.strategy.apply_function_to_arguments.Ap
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 import info.smart_tools.smartactors.feature_loading_system.bootstrap_plugin.BootstrapPlugin;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap.IBootstrap;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationException;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 import info.smart_tools.smartactors.message_processing.actor_receiver.ActorReceiver;
+import info.smart_tools.smartactors.message_processing.actor_receiver.ActorReceiverQueueStrategy;
 import info.smart_tools.smartactors.message_processing.handler_routing_receiver.HandlerRoutingReceiver;
 import info.smart_tools.smartactors.message_processing.object_creation_strategies.FullObjectCreatorResolutionStrategy;
 import info.smart_tools.smartactors.message_processing.object_creation_strategies.MethodInvokerReceiverResolutionStrategy;
@@ -21,7 +23,6 @@ import info.smart_tools.smartactors.message_processing_interfaces.iwrapper_gener
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ObjectCreationStrategiesPlugin extends BootstrapPlugin {
@@ -74,7 +75,7 @@ public class ObjectCreationStrategiesPlugin extends BootstrapPlugin {
         // Dependencies of ActorReceiver
         IOC.register(
                 Keys.getOrAdd("actor_receiver_queue"),
-                new ApplyFunctionToArgumentsStrategy(args -> new ConcurrentLinkedQueue()));
+                new ActorReceiverQueueStrategy());
         IOC.register(
                 Keys.getOrAdd("actor_receiver_busyness_flag"),
                 new ApplyFunctionToArgumentsStrategy(args -> new AtomicBoolean(false)));
@@ -83,7 +84,7 @@ public class ObjectCreationStrategiesPlugin extends BootstrapPlugin {
                 Keys.getOrAdd("create actor synchronization receiver"),
                 new ApplyFunctionToArgumentsStrategy(args -> {
                     try {
-                        return new ActorReceiver((IMessageReceiver) args[0]);
+                        return new ActorReceiver((IMessageReceiver) args[0], (args.length > 1) ? (IObject) args[1] : null);
                     } catch (InvalidArgumentException | ResolutionException e) {
                         throw new FunctionExecutionException(e);
                     }
@@ -13,7 +13,9 @@ import info.smart_tools.smartactors.ioc.iioccontainer.exception.RegistrationExce
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing.blocking_receiver.BlockingReceiver;
 import info.smart_tools.smartactors.message_processing.object_creation_strategies.*;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 import info.smart_tools.smartactors.message_processing_interfaces.object_creation_interfaces.IReceiverObjectCreator;
 
 import java.util.Arrays;
@@ -74,6 +76,24 @@ public class ObjectCreatorsPlugin extends BootstrapPlugin {
         }
     }
 
+    @Item("blocking_receiver_decorator")
+    @After({
+            "IOC",
+    })
+    public void registerBlockingReceiverDecorator()
+            throws RegistrationException, ResolutionException, InvalidArgumentException {
+        IOC.register(
+                Keys.getOrAdd("blocking receiver decorator"),
+                new ApplyFunctionToArgumentsStrategy(args -> {
+                    try {
+                        return new BlockingReceiver((IMessageReceiver) args[0]);
+                    } catch (InvalidArgumentException | ClassCastException e) {
+                        throw new FunctionExecutionException(e);
+                    }
+                })
+        );
+    }
+
     @Item("basic_object_creators")
     @After({
             "basic_receiver_strategies",            // for HandlerRouterReceiverCreator and PerReceiverActorSynchronizationReceiverCreator
@@ -81,6 +101,7 @@ public class ObjectCreatorsPlugin extends BootstrapPlugin {
             "iobject",
             "IFieldNamePlugin",
             "wrapper_creator_receiver_decorator",
+            "blocking_receiver_decorator",
     })
     @Before({
             "object_creation_strategies:done",
@@ -133,6 +154,18 @@ public class ObjectCreatorsPlugin extends BootstrapPlugin {
                 Keys.getOrAdd("named filter config#non-thread-safe wrapper creator"),
                 new SingletonStrategy(ntsWrapperCreatorConfig)
         );
+
+        IObject blockingExecutorConfig = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"));
+        blockingExecutorConfig.setValue(
+                IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "dependency"),
+                "filter creator#decorate receiver");
+        blockingExecutorConfig.setValue(
+                IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "decoratorDependency"),
+                "blocking receiver decorator");
+        IOC.register(
+                Keys.getOrAdd("named filter config#blocking executor"),
+                new SingletonStrategy(blockingExecutorConfig)
+        );
     }
 
     @Item("basic_object_kinds")
@@ -173,5 +206,28 @@ public class ObjectCreatorsPlugin extends BootstrapPlugin {
                         "set address from name"
                 ))
         );
+        IOC.register(
+                Keys.getOrAdd("object kind filter sequence#blocking_stateless_actor"),
+                new SingletonStrategy(Arrays.asList(
+                        "top-level object",
+                        "method invokers",
+                        "handler router receiver",
+                        "thread-safe wrapper creator",
+                        "blocking executor",
+                        "set address from name"
+                ))
+        );
+        IOC.register(
+                Keys.getOrAdd("object kind filter sequence#blocking_actor"),
+                new SingletonStrategy(Arrays.asList(
+                        "top-level object",
+                        "method invokers",
+                        "handler router receiver",
+                        "non-thread-safe wrapper creator",
+                        "per-receiver actor sync",
+                        "blocking executor",
+                        "set address from name"
+                ))
+        );
     }
 }
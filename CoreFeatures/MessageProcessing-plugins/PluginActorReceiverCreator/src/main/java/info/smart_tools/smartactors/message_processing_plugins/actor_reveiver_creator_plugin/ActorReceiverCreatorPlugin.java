@@ -1,5 +1,6 @@
 package info.smart_tools.smartactors.message_processing_plugins.actor_reveiver_creator_plugin;
 
+import info.smart_tools.smartactors.message_processing.actor_receiver.ActorReceiverQueueStrategy;
 import info.smart_tools.smartactors.message_processing.actor_receiver_creator.ActorReceiverCreator;
 import info.smart_tools.smartactors.feature_loading_system.bootstrap_item.BootstrapItem;
 import info.smart_tools.smartactors.base.strategy.create_new_instance_strategy.CreateNewInstanceStrategy;
@@ -17,7 +18,6 @@ import info.smart_tools.smartactors.message_processing_interfaces.iroutable_obje
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -59,7 +59,7 @@ public class ActorReceiverCreatorPlugin  implements IPlugin {
                                 try {
                                     IOC.register(
                                             Keys.getOrAdd("actor_receiver_queue"),
-                                            new CreateNewInstanceStrategy(args -> new ConcurrentLinkedQueue()));
+                                            new ActorReceiverQueueStrategy());
 
                                     IOC.register(
                                             Keys.getOrAdd("actor_receiver_busyness_flag"),
@@ -102,6 +102,8 @@ public class PluginMessageProcessorAndSequence implements IPlugin {
                                         }
                                     })
                             );
+                            IOC.register(Keys.getOrAdd("message_processor_max_inline_steps"), new SingletonStrategy(1));
+                            IOC.register(Keys.getOrAdd("message_processor_max_inline_time"), new SingletonStrategy(0L));
                             IOC.register(
                                     Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
                                     new CreateNewInstanceStrategy(args -> {
@@ -120,11 +122,20 @@ public class PluginMessageProcessorAndSequence implements IPlugin {
                                         }
 
                                         try {
-                                            return new MessageProcessor(taskQueue, sequence, config);
+                                            Number maxInlineSteps = IOC.resolve(Keys.getOrAdd("message_processor_max_inline_steps"));
+                                            Number maxInlineTime = IOC.resolve(Keys.getOrAdd("message_processor_max_inline_time"));
+
+                                            return new MessageProcessor(taskQueue, sequence, config,
+                                                    maxInlineSteps.intValue(), maxInlineTime.longValue());
                                         } catch (InvalidArgumentException | ResolutionException e) {
                                             throw new RuntimeException(e);
                                         }
                                     }));
+                            IOC.register(Keys.getOrAdd("message_processor_pool_size"), new SingletonStrategy(0));
+                            IOC.register(Keys.getOrAdd("message_processor_pool_leak_detection"), new SingletonStrategy(false));
+                            IOC.register(
+                                    Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor#pooled"),
+                                    new PooledMessageProcessorStrategy());
                         } catch (ResolutionException e) {
                             throw new ActionExecuteException("MessageProcessorAndSequence plugin can't load: can't get MessageProcessorAndSequence key", e);
                         } catch (InvalidArgumentException e) {
@@ -144,6 +155,7 @@ public class PluginMessageProcessorAndSequence implements IPlugin {
                     .after("IFieldNamePlugin")
                     .process(() -> {
                         try {
+                            IOC.register(Keys.getOrAdd("message_processing_sequence_lightweight_exceptions"), new SingletonStrategy(false));
                             IOC.register(
                                     Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
                                     new CreateNewInstanceStrategy(args -> {
@@ -151,7 +163,10 @@ public class PluginMessageProcessorAndSequence implements IPlugin {
                                         IReceiverChain mainChain = (IReceiverChain) args[1];
 
                                         try {
-                                            return new MessageProcessingSequence(stackDepth, mainChain);
+                                            Boolean lightweightExceptions = IOC.resolve(
+                                                    Keys.getOrAdd("message_processing_sequence_lightweight_exceptions"));
+
+                                            return new MessageProcessingSequence(stackDepth, mainChain, lightweightExceptions);
                                         } catch (InvalidArgumentException | ResolutionException e) {
                                             throw new RuntimeException(e);
                                         }
@@ -0,0 +1,109 @@
+package info.smart_tools.smartactors.message_processing_plugins.message_processor_and_sequence_plugin;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.ActionExecuteException;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.FunctionExecutionException;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.exception.ResolveDependencyStrategyException;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing.message_processor.MessageProcessor;
+import info.smart_tools.smartactors.message_processing.message_processor.MessageProcessorPool;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
+import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+
+/**
+ * Strategy returning a message processor (with its own sequence) ready to process a message by the given chain.
+ *
+ * <p>
+ *     Arguments are: the task queue, the stack depth, the main chain and (optionally) the configuration object.
+ * </p>
+ *
+ * <p>
+ *     The pool is created on first resolution using {@code "message_processor_pool_size"} and
+ *     {@code "message_processor_pool_leak_detection"} dependencies. If the pool size is not positive the strategy creates
+ *     a new processor and sequence every time using the {@code IMessageProcessingSequence} and {@code IMessageProcessor}
+ *     strategies.
+ * </p>
+ */
+public class PooledMessageProcessorStrategy implements IResolveDependencyStrategy {
+    private volatile boolean initialized = false;
+    private MessageProcessorPool pool;
+
+    @Override
+    public <T> T resolve(final Object... args) throws ResolveDependencyStrategyException {
+        IQueue<ITask> taskQueue = (IQueue<ITask>) args[0];
+        int stackDepth = ((Number) args[1]).intValue();
+        IReceiverChain chain = (IReceiverChain) args[2];
+
+        try {
+            MessageProcessorPool processorPool = getPool();
+
+            if (null == processorPool) {
+                IMessageProcessingSequence sequence = IOC.resolve(
+                        Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
+                        stackDepth, chain);
+
+                return (args.length > 3)
+                        ? IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                                taskQueue, sequence, args[3])
+                        : IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                                taskQueue, sequence);
+            }
+
+            IObject config = (args.length > 3)
+                    ? (IObject) args[3] : IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"));
+
+            MessageProcessor processor = processorPool.take(() -> {
+                try {
+                    return IOC.resolve(
+                            Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor"),
+                            taskQueue,
+                            IOC.resolve(
+                                    Keys.getOrAdd("info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence"),
+                                    stackDepth, chain),
+                            config);
+                } catch (ResolutionException e) {
+                    throw new FunctionExecutionException(e);
+                }
+            });
+
+            try {
+                processor.getSequence().reinitialize(stackDepth, chain);
+                processor.reinitialize(taskQueue, config);
+            } catch (InvalidArgumentException | RuntimeException e) {
+                try {
+                    processor.discard();
+                } catch (ActionExecuteException ee) {
+                    e.addSuppressed(ee);
+                }
+
+                throw e;
+            }
+
+            return (T) processor;
+        } catch (ResolutionException | FunctionExecutionException | InvalidArgumentException e) {
+            throw new ResolveDependencyStrategyException("Could not resolve message processor.", e);
+        }
+    }
+
+    private MessageProcessorPool getPool() throws ResolutionException {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    int size = ((Number) IOC.resolve(Keys.getOrAdd("message_processor_pool_size"))).intValue();
+                    boolean leakDetection = (Boolean) IOC.resolve(Keys.getOrAdd("message_processor_pool_leak_detection"));
+
+                    pool = (size > 0) ? new MessageProcessorPool(size, leakDetection) : null;
+                    initialized = true;
+                }
+            }
+        }
+
+        return pool;
+    }
+}
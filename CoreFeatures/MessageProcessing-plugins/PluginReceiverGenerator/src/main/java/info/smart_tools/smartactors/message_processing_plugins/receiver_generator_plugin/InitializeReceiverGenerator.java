@@ -12,11 +12,20 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IP
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.message_processing_interfaces.ireceiver_generator.IReceiverGenerator;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing.receiver_generator.MethodHandleReceiverGenerator;
 import info.smart_tools.smartactors.message_processing.receiver_generator.ReceiverGenerator;
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 
+import java.io.File;
+
 /**
  * Plugin creates instance of {@link ReceiverGenerator} and registers it into IOC.
+ *
+ * <p>
+ *     Both implementations are registered by keys {@code "IReceiverGenerator#java-compile-api"} and
+ *     {@code "IReceiverGenerator#method-handles"}. The main key is bound to the one named by
+ *     {@code SM_RECEIVER_GENERATOR} environment variable, {@link ReceiverGenerator} is used if the variable is not set.
+ * </p>
  */
 public class InitializeReceiverGenerator implements IPlugin {
 
@@ -45,11 +54,22 @@ public class InitializeReceiverGenerator implements IPlugin {
                     .process(
                             () -> {
                                 try {
-                                    IReceiverGenerator rg = new ReceiverGenerator(this.getClass().getClassLoader());
+                                    IReceiverGenerator rg = new ReceiverGenerator(this.getClass().getClassLoader(), getClassCacheDirectory());
                                     IOC.register(
-                                            Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName()),
+                                            Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName() + "#java-compile-api"),
                                             new SingletonStrategy(rg)
                                     );
+                                    IOC.register(
+                                            Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName() + "#method-handles"),
+                                            new SingletonStrategy(new MethodHandleReceiverGenerator())
+                                    );
+                                    IReceiverGenerator selected = IOC.resolve(Keys.getOrAdd(
+                                            IReceiverGenerator.class.getCanonicalName() + "#" + getGeneratorName()
+                                    ));
+                                    IOC.register(
+                                            Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName()),
+                                            new SingletonStrategy(selected)
+                                    );
                                 } catch (ResolutionException e) {
                                     throw new ActionExecuteException("InitializeReceiverGenerator plugin can't load: can't get InitializeReceiverGenerator key", e);
                                 } catch (InvalidArgumentException e) {
@@ -64,4 +84,26 @@ public class InitializeReceiverGenerator implements IPlugin {
             throw new PluginException("Could not load 'ReceiverGenerator plugin'", e);
         }
     }
+
+    /**
+     * Name of the receiver generator to use is given by {@code SM_RECEIVER_GENERATOR} environment variable,
+     * {@code "java-compile-api"} or {@code "method-handles"}.
+     */
+    private static String getGeneratorName()
+            throws ActionExecuteException {
+        String name = System.getenv().getOrDefault("SM_RECEIVER_GENERATOR", "java-compile-api");
+        if (!"java-compile-api".equals(name) && !"method-handles".equals(name)) {
+            throw new ActionExecuteException("InitializeReceiverGenerator plugin can't load: unknown receiver generator " + name);
+        }
+        return name;
+    }
+
+    /**
+     * Directory to store compiled classes in is given by {@code SM_CLASS_CACHE_DIR} environment variable.
+     * Compiled classes are not stored if the variable is not set.
+     */
+    private static File getClassCacheDirectory() {
+        String directory = System.getenv("SM_CLASS_CACHE_DIR");
+        return null != directory && !directory.isEmpty() ? new File(directory) : null;
+    }
 }
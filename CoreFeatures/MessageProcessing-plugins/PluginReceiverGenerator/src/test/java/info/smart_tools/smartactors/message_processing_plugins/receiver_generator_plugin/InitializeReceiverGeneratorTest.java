@@ -7,6 +7,7 @@ import info.smart_tools.smartactors.base.exception.invalid_argument_exception.In
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IPlugin;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
+import info.smart_tools.smartactors.message_processing.receiver_generator.MethodHandleReceiverGenerator;
 import info.smart_tools.smartactors.message_processing_interfaces.ireceiver_generator.IReceiverGenerator;
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
@@ -24,6 +25,8 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -98,6 +101,11 @@ public class InitializeReceiverGeneratorTest {
         item.executeProcess();
         IReceiverGenerator rg = IOC.resolve(Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName()));
         assertNotNull(rg);
+        assertSame(rg, IOC.resolve(Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName() + "#java-compile-api")));
+        assertTrue(
+                IOC.resolve(Keys.getOrAdd(IReceiverGenerator.class.getCanonicalName() + "#method-handles"))
+                        instanceof MethodHandleReceiverGenerator
+        );
         reset(bootstrap);
     }
 
@@ -12,10 +12,19 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IP
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.message_processing_interfaces.iwrapper_generator.IWrapperGenerator;
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
+import info.smart_tools.smartactors.message_processing.wrapper_generator.ProxyWrapperGenerator;
 import info.smart_tools.smartactors.message_processing.wrapper_generator.WrapperGenerator;
 
+import java.io.File;
+
 /**
  * Plugin creates instance of {@link WrapperGenerator} and registers it into IOC,
+ *
+ * <p>
+ *     Both implementations are registered by keys {@code "IWrapperGenerator#java-compile-api"} and
+ *     {@code "IWrapperGenerator#proxy"}. The main key is bound to the one named by {@code SM_WRAPPER_GENERATOR}
+ *     environment variable, {@link WrapperGenerator} is used if the variable is not set.
+ * </p>
  */
 public class RegisterWrapperGenerator implements IPlugin {
 
@@ -44,14 +53,32 @@ public class RegisterWrapperGenerator implements IPlugin {
                     .process(
                             () -> {
                                 try {
-                                    IWrapperGenerator rg = new WrapperGenerator(this.getClass().getClassLoader());
+                                    IWrapperGenerator rg = new WrapperGenerator(this.getClass().getClassLoader(), getClassCacheDirectory());
                                     IOC.register(
                                             IOC.resolve(
                                                     IOC.getKeyForKeyStorage(),
-                                                    IWrapperGenerator.class.getCanonicalName()
+                                                    IWrapperGenerator.class.getCanonicalName() + "#java-compile-api"
                                             ),
                                             new SingletonStrategy(rg)
                                     );
+                                    IOC.register(
+                                            IOC.resolve(
+                                                    IOC.getKeyForKeyStorage(),
+                                                    IWrapperGenerator.class.getCanonicalName() + "#proxy"
+                                            ),
+                                            new SingletonStrategy(new ProxyWrapperGenerator(null))
+                                    );
+                                    IWrapperGenerator selected = IOC.resolve(IOC.resolve(
+                                            IOC.getKeyForKeyStorage(),
+                                            IWrapperGenerator.class.getCanonicalName() + "#" + getGeneratorName()
+                                    ));
+                                    IOC.register(
+                                            IOC.resolve(
+                                                    IOC.getKeyForKeyStorage(),
+                                                    IWrapperGenerator.class.getCanonicalName()
+                                            ),
+                                            new SingletonStrategy(selected)
+                                    );
                                 } catch (ResolutionException e) {
                                     throw new ActionExecuteException("RegisterWrapperGenerator plugin can't load: can't get RegisterWrapperGenerator key", e);
                                 } catch (InvalidArgumentException e) {
@@ -66,4 +93,26 @@ public class RegisterWrapperGenerator implements IPlugin {
             throw new PluginException("Could not load 'ReceiverGenerator plugin'", e);
         }
     }
+
+    /**
+     * Name of the wrapper generator to use is given by {@code SM_WRAPPER_GENERATOR} environment variable,
+     * {@code "java-compile-api"} or {@code "proxy"}.
+     */
+    private static String getGeneratorName()
+            throws ActionExecuteException {
+        String name = System.getenv().getOrDefault("SM_WRAPPER_GENERATOR", "java-compile-api");
+        if (!"java-compile-api".equals(name) && !"proxy".equals(name)) {
+            throw new ActionExecuteException("RegisterWrapperGenerator plugin can't load: unknown wrapper generator " + name);
+        }
+        return name;
+    }
+
+    /**
+     * Directory to store compiled classes in is given by {@code SM_CLASS_CACHE_DIR} environment variable.
+     * Compiled classes are not stored if the variable is not set.
+     */
+    private static File getClassCacheDirectory() {
+        String directory = System.getenv("SM_CLASS_CACHE_DIR");
+        return null != directory && !directory.isEmpty() ? new File(directory) : null;
+    }
 }
@@ -0,0 +1,242 @@
+package info.smart_tools.smartactors.message_processing.actor_receiver;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded queue of message processors waiting for an actor.
+ *
+ * <p>
+ *     When the mailbox is full {@link ActorReceiver} applies the {@link OverflowPolicy overflow policy} of the mailbox to
+ *     the incoming message. The mailbox also limits the amount of messages {@link ActorReceiver} executes at once before
+ *     it yields the thread.
+ * </p>
+ *
+ * <p>
+ *     There is no policy that waits for free place in the mailbox: the message is sent to the actor by a thread of the
+ *     executor, and the same threads execute the actor, so waiting would only hold a thread the actor may need.
+ * </p>
+ *
+ * <p>
+ *     Mailbox is configured by {@code "mailbox"} section of the actor configuration:
+ * </p>
+ * <pre>
+ *     "mailbox": {
+ *         "capacity": 1000,            // maximal amount of waiting messages
+ *         "overflow": "reject",        // "reject" or "shed"
+ *         "batchSize": 32              // (optional) maximal amount of messages executed at once
+ *     }
+ * </pre>
+ */
+public class ActorMailbox extends AbstractQueue<IMessageProcessor> {
+
+    /**
+     * What to do with a message when the mailbox is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * Fail the message with {@link info.smart_tools.smartactors.message_processing.actor_receiver.exception.MailboxOverflowException},
+         * so it is handled by exceptional chain
+         */
+        REJECT,
+
+        /**
+         * Stop processing of the message silently
+         */
+        SHED
+    }
+
+    private static final int DEFAULT_BATCH_SIZE = 32;
+
+    private final ConcurrentLinkedQueue<IMessageProcessor> entries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger(0);
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+
+    /**
+     * The constructor.
+     *
+     * @param capacity          maximal amount of messages in the mailbox
+     * @param overflowPolicy    the policy to apply to messages when the mailbox is full
+     * @param batchSize         maximal amount of messages the actor executes at once
+     * @throws InvalidArgumentException if capacity or batch size is not positive or overflow policy is {@code null}
+     */
+    public ActorMailbox(final int capacity, final OverflowPolicy overflowPolicy, final int batchSize)
+            throws InvalidArgumentException {
+        if (capacity <= 0) {
+            throw new InvalidArgumentException("Mailbox capacity should be positive.");
+        }
+
+        if (null == overflowPolicy) {
+            throw new InvalidArgumentException("Overflow policy should not be null.");
+        }
+
+        if (batchSize <= 0) {
+            throw new InvalidArgumentException("Batch size should be positive.");
+        }
+
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create a mailbox configured by {@code "mailbox"} section of the actor configuration.
+     *
+     * @param actorConfig    configuration of the actor
+     * @return the mailbox or {@code null} if the configuration contains no {@code "mailbox"} section
+     * @throws ResolutionException if fails to resolve field names
+     * @throws ReadValueException if fails to read the configuration
+     * @throws InvalidArgumentException if the configuration is not valid
+     */
+    public static ActorMailbox fromConfig(final IObject actorConfig)
+            throws ResolutionException, ReadValueException, InvalidArgumentException {
+        IObject mailboxConfig = (IObject) actorConfig.getValue(fieldName("mailbox"));
+
+        if (null == mailboxConfig) {
+            return null;
+        }
+
+        Object capacity = mailboxConfig.getValue(fieldName("capacity"));
+        Object overflow = mailboxConfig.getValue(fieldName("overflow"));
+        Object batchSize = mailboxConfig.getValue(fieldName("batchSize"));
+
+        if (null == capacity) {
+            throw new InvalidArgumentException("Mailbox capacity is not specified.");
+        }
+
+        OverflowPolicy policy;
+
+        try {
+            policy = null == overflow ? OverflowPolicy.REJECT : OverflowPolicy.valueOf(String.valueOf(overflow).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidArgumentException("Unknown mailbox overflow policy: " + overflow, e);
+        }
+
+        return new ActorMailbox(
+                Integer.valueOf(String.valueOf(capacity)),
+                policy,
+                null == batchSize ? DEFAULT_BATCH_SIZE : Integer.valueOf(String.valueOf(batchSize))
+        );
+    }
+
+    private static IFieldName fieldName(final String name)
+            throws ResolutionException {
+        return IOC.resolve(
+                IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"),
+                name
+        );
+    }
+
+    /**
+     * Take a place in the mailbox for a message to be added by {@link #addReserved(IMessageProcessor)}.
+     *
+     * @return {@code true} if the place is taken, {@code false} if the mailbox is full
+     */
+    boolean reserve() {
+        int current;
+
+        do {
+            current = size.get();
+
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Add a message to the place taken by {@link #reserve()}.
+     *
+     * @param processor    the message processor
+     */
+    void addReserved(final IMessageProcessor processor) {
+        entries.add(processor);
+    }
+
+    @Override
+    public boolean offer(final IMessageProcessor processor) {
+        if (null == processor) {
+            throw new NullPointerException();
+        }
+
+        if (!reserve()) {
+            return false;
+        }
+
+        addReserved(processor);
+        return true;
+    }
+
+    @Override
+    public IMessageProcessor poll() {
+        IMessageProcessor processor = entries.poll();
+
+        if (null != processor) {
+            size.decrementAndGet();
+        }
+
+        return processor;
+    }
+
+    @Override
+    public IMessageProcessor peek() {
+        return entries.peek();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public Iterator<IMessageProcessor> iterator() {
+        Iterator<IMessageProcessor> iterator = entries.iterator();
+
+        // Removal through the iterator is not supported as it would not release the reserved place
+        return new Iterator<IMessageProcessor>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public IMessageProcessor next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * @return the policy to apply to messages when the mailbox is full
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return maximal amount of messages the actor executes at once
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -2,11 +2,15 @@ package info.smart_tools.smartactors.message_processing.actor_receiver;
 
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.message_processing.actor_receiver.exception.MailboxOverflowException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
+import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
 
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -17,6 +21,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * {@link ActorReceiver} provides synchronization only for synchronous operation of a child receiver i.e. if child
  * receiver starts an asynchronous operation (by not calling passed callback) it may be called again by {@link
  * ActorReceiver} just after {@link IMessageReceiver#receive} method of child returns.
+ *
+ * If the queue resolved for the receiver is an {@link ActorMailbox} the receiver applies the overflow policy of the
+ * mailbox to messages not fitting into it and executes at most {@link ActorMailbox#getBatchSize()} delayed messages at
+ * once. The rest of delayed messages is then executed by a task put to the {@code "task_queue"}, so a busy actor does not
+ * hold the thread.
  */
 public class ActorReceiver implements IMessageReceiver {
     // It's preferred to use ConcurrentLinkedQueue that uses lock-free algorithms
@@ -27,6 +36,18 @@ public class ActorReceiver implements IMessageReceiver {
 
     private final IMessageReceiver childReceiver;
 
+    // Not null if the queue is bounded
+    private final ActorMailbox mailbox;
+
+    // Maximal amount of delayed messages executed at once
+    private final int batchSize;
+
+    // Task executing delayed messages left after a batch
+    private final ITask executeDelayedTask = this::executeDelayed;
+
+    // Queue the task is put to, resolved when first needed
+    private volatile IQueue<ITask> taskQueue;
+
     /**
      * The constructor.
      *
@@ -36,13 +57,33 @@ public class ActorReceiver implements IMessageReceiver {
      */
     public ActorReceiver(final IMessageReceiver childReceiver)
             throws InvalidArgumentException, ResolutionException {
+        this(childReceiver, null);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param childReceiver    the child receiver
+     * @param config           configuration of the actor used to create the queue, may be {@code null}
+     * @throws InvalidArgumentException if childReceiver is {@code null}.
+     * @throws ResolutionException if resolution of any dependencies fails.
+     */
+    public ActorReceiver(final IMessageReceiver childReceiver, final IObject config)
+            throws InvalidArgumentException, ResolutionException {
         if (null == childReceiver) {
             throw new InvalidArgumentException("Child receiver should not be null.");
         }
 
         this.childReceiver = childReceiver;
 
-        this.queue = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue"));
+        if (null == config) {
+            this.queue = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue"));
+        } else {
+            this.queue = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue"), config);
+        }
+
+        this.mailbox = (queue instanceof ActorMailbox) ? (ActorMailbox) queue : null;
+        this.batchSize = (null != mailbox) ? mailbox.getBatchSize() : Integer.MAX_VALUE;
         this.isBusy = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_busyness_flag"));
     }
 
@@ -59,9 +100,11 @@ public class ActorReceiver implements IMessageReceiver {
             } finally {
                 isBusy.set(false);
             }
-        } else {
+        } else if (null == mailbox) {
             processor.pauseProcess();
             queue.add(processor);
+        } else {
+            syncException = enqueue(processor);
         }
 
         executeDelayed();
@@ -71,24 +114,79 @@ public class ActorReceiver implements IMessageReceiver {
         }
     }
 
+    private Throwable enqueue(final IMessageProcessor processor) {
+        try {
+            if (mailbox.reserve()) {
+                processor.pauseProcess();
+                mailbox.addReserved(processor);
+                return null;
+            }
+        } catch (Throwable e) {
+            return e;
+        }
+
+        if (ActorMailbox.OverflowPolicy.SHED == mailbox.getOverflowPolicy()) {
+            try {
+                processor.getSequence().end();
+                return null;
+            } catch (Throwable e) {
+                return e;
+            }
+        }
+
+        return new MailboxOverflowException("Actor mailbox is full.");
+    }
+
     private void executeDelayed() {
         while (!queue.isEmpty()) {
             if (isBusy.compareAndSet(false, true)) {
                 IMessageProcessor mp;
+                int executed = 0;
 
                 try {
-                    while (null != (mp = queue.poll())) {
+                    while (executed < batchSize && null != (mp = queue.poll())) {
                         executeOne(mp);
+                        ++executed;
                     }
                 } finally {
                     isBusy.set(false);
                 }
+
+                if (executed == batchSize && !queue.isEmpty() && resubmit()) {
+                    return;
+                }
             } else {
                 break;
             }
         }
     }
 
+    /**
+     * Put a task executing the rest of delayed messages to the task queue, so the current thread may execute other
+     * tasks first.
+     *
+     * @return {@code true} if the task is queued, {@code false} if the messages should be executed on the current thread
+     */
+    private boolean resubmit() {
+        try {
+            IQueue<ITask> tasks = taskQueue;
+
+            if (null == tasks) {
+                tasks = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "task_queue"));
+                taskQueue = tasks;
+            }
+
+            tasks.put(executeDelayedTask);
+            return true;
+        } catch (ResolutionException e) {
+            // There is no executor task queue (e.g. the actor is used before the executor is configured)
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private void executeOne(final IMessageProcessor messageProcessor) {
         Throwable exception = null;
 
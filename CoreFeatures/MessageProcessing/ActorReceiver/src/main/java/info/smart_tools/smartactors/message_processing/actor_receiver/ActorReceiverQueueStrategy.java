@@ -0,0 +1,37 @@
+package info.smart_tools.smartactors.message_processing.actor_receiver;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.exception.ResolveDependencyStrategyException;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Strategy creating the queue of messages waiting for {@link ActorReceiver}.
+ *
+ * <p>
+ *     Expects the actor configuration as the only (optional) argument. Returns {@link ActorMailbox} if the configuration
+ *     contains {@code "mailbox"} section and an unbounded {@link ConcurrentLinkedQueue} otherwise.
+ * </p>
+ */
+public class ActorReceiverQueueStrategy implements IResolveDependencyStrategy {
+    @Override
+    public <T> T resolve(final Object... args) throws ResolveDependencyStrategyException {
+        if (args.length > 0 && args[0] instanceof IObject) {
+            try {
+                ActorMailbox mailbox = ActorMailbox.fromConfig((IObject) args[0]);
+
+                if (null != mailbox) {
+                    return (T) mailbox;
+                }
+            } catch (ResolutionException | ReadValueException | InvalidArgumentException e) {
+                throw new ResolveDependencyStrategyException("Could not create actor mailbox.", e);
+            }
+        }
+
+        return (T) new ConcurrentLinkedQueue();
+    }
+}
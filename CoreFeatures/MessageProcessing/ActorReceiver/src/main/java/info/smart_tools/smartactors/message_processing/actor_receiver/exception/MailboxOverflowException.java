@@ -0,0 +1,17 @@
+package info.smart_tools.smartactors.message_processing.actor_receiver.exception;
+
+import info.smart_tools.smartactors.message_processing.actor_receiver.ActorMailbox;
+
+/**
+ * Exception thrown by actor receiver when a message is rejected as the {@link ActorMailbox mailbox} of the actor is full
+ */
+public class MailboxOverflowException extends Exception {
+
+    /**
+     * Constructor with specific error message as argument
+     * @param message specific error message
+     */
+    public MailboxOverflowException(final String message) {
+        super(message);
+    }
+}
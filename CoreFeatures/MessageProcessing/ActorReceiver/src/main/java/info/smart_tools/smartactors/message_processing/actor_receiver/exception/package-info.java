@@ -0,0 +1,4 @@
+/**
+ * Package contains exceptions of actor receiver
+ */
+package info.smart_tools.smartactors.message_processing.actor_receiver.exception;
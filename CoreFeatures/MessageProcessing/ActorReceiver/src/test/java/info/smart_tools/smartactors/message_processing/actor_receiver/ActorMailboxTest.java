@@ -0,0 +1,61 @@
+package info.smart_tools.smartactors.message_processing.actor_receiver;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ActorMailbox}.
+ */
+public class ActorMailboxTest {
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenCapacityIsNotPositive()
+            throws Exception {
+        assertNotNull(new ActorMailbox(0, ActorMailbox.OverflowPolicy.REJECT, 1));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenPolicyIsNull()
+            throws Exception {
+        assertNotNull(new ActorMailbox(1, null, 1));
+    }
+
+    @Test
+    public void Should_notAcceptMessagesOverCapacity()
+            throws Exception {
+        ActorMailbox mailbox = new ActorMailbox(2, ActorMailbox.OverflowPolicy.REJECT, 1);
+        IMessageProcessor mp1 = mock(IMessageProcessor.class), mp2 = mock(IMessageProcessor.class);
+
+        assertTrue(mailbox.offer(mp1));
+        assertTrue(mailbox.offer(mp2));
+        assertFalse(mailbox.offer(mock(IMessageProcessor.class)));
+        assertFalse(mailbox.reserve());
+
+        assertEquals(2, mailbox.size());
+        assertSame(mp1, mailbox.poll());
+        assertTrue(mailbox.reserve());
+        assertEquals(2, mailbox.size());
+    }
+
+    @Test
+    public void Should_releasePlace_When_MessageIsTaken()
+            throws Exception {
+        ActorMailbox mailbox = new ActorMailbox(3, ActorMailbox.OverflowPolicy.REJECT, 1);
+        IMessageProcessor mp1 = mock(IMessageProcessor.class), mp2 = mock(IMessageProcessor.class);
+
+        mailbox.offer(mp1);
+        mailbox.offer(mp2);
+
+        assertSame(mp1, mailbox.peek());
+        assertSame(mp1, mailbox.poll());
+        assertSame(mp2, mailbox.poll());
+
+        assertNull(mailbox.poll());
+        assertTrue(mailbox.isEmpty());
+        assertEquals(0, mailbox.size());
+    }
+}
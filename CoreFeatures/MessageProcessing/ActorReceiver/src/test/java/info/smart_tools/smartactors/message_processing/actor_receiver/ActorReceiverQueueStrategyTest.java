@@ -0,0 +1,89 @@
+package info.smart_tools.smartactors.message_processing.actor_receiver;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.exception.ResolveDependencyStrategyException;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.ioc.ikey.IKey;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+/**
+ * Tests for {@link ActorReceiverQueueStrategy}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({IOC.class})
+public class ActorReceiverQueueStrategyTest {
+    private IFieldName mailboxFieldName;
+    private IFieldName capacityFieldName;
+    private IFieldName overflowFieldName;
+
+    @Before
+    public void setUp()
+            throws Exception {
+        mockStatic(IOC.class);
+
+        IKey fieldNameKey = mock(IKey.class);
+        mailboxFieldName = mock(IFieldName.class);
+        capacityFieldName = mock(IFieldName.class);
+        overflowFieldName = mock(IFieldName.class);
+
+        when(IOC.getKeyForKeyStorage()).thenReturn(mock(IKey.class));
+        when(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"))
+                .thenReturn(fieldNameKey);
+        when(IOC.resolve(fieldNameKey, "mailbox")).thenReturn(mailboxFieldName);
+        when(IOC.resolve(fieldNameKey, "capacity")).thenReturn(capacityFieldName);
+        when(IOC.resolve(fieldNameKey, "overflow")).thenReturn(overflowFieldName);
+    }
+
+    @Test
+    public void Should_createUnboundedQueue_When_noMailboxIsConfigured()
+            throws Exception {
+        ActorReceiverQueueStrategy strategy = new ActorReceiverQueueStrategy();
+
+        assertTrue(strategy.resolve() instanceof ConcurrentLinkedQueue);
+        assertTrue(strategy.resolve(mock(IObject.class)) instanceof ConcurrentLinkedQueue);
+    }
+
+    @Test
+    public void Should_createMailbox_When_mailboxIsConfigured()
+            throws Exception {
+        IObject config = mock(IObject.class);
+        IObject mailboxConfig = mock(IObject.class);
+        when(config.getValue(mailboxFieldName)).thenReturn(mailboxConfig);
+        when(mailboxConfig.getValue(capacityFieldName)).thenReturn(10);
+        when(mailboxConfig.getValue(overflowFieldName)).thenReturn("shed");
+
+        ActorMailbox mailbox = new ActorReceiverQueueStrategy().resolve(config);
+
+        assertEquals(ActorMailbox.OverflowPolicy.SHED, mailbox.getOverflowPolicy());
+    }
+
+    @Test
+    public void Should_throwWithCause_When_mailboxConfigurationIsInvalid()
+            throws Exception {
+        IObject config = mock(IObject.class);
+        IObject mailboxConfig = mock(IObject.class);
+        when(config.getValue(mailboxFieldName)).thenReturn(mailboxConfig);
+        when(mailboxConfig.getValue(capacityFieldName)).thenReturn(10);
+        when(mailboxConfig.getValue(overflowFieldName)).thenReturn("unknown");
+
+        try {
+            new ActorReceiverQueueStrategy().resolve(config);
+            fail();
+        } catch (ResolveDependencyStrategyException e) {
+            assertTrue(e.getCause() instanceof InvalidArgumentException);
+        }
+    }
+}
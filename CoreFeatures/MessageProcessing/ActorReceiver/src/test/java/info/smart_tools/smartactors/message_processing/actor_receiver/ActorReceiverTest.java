@@ -1,15 +1,22 @@
 package info.smart_tools.smartactors.message_processing.actor_receiver;
 
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.ioc.ikey.IKey;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.message_processing.actor_receiver.exception.MailboxOverflowException;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
+import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -21,6 +28,8 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.mock;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
@@ -179,4 +188,120 @@ public class ActorReceiverTest {
         verify(asynchronousOperationExceptionMock).printStackTrace();
         verify(asynchronousOperationExceptionMock).addSuppressed(messageReceiveExceptionMock);
     }
+
+    @Test
+    public void Should_rejectMessage_When_MailboxIsFull()
+            throws Exception {
+        IObject configMock = mock(IObject.class);
+        ActorMailbox mailbox = new ActorMailbox(1, ActorMailbox.OverflowPolicy.REJECT, 1);
+        IMessageProcessor otherProcessorMock = mock(IMessageProcessor.class);
+        IKey actorReceiverQueueKey = IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue");
+        when(IOC.resolve(actorReceiverQueueKey, configMock)).thenReturn(mailbox);
+
+        ActorReceiver actorReceiver = new ActorReceiver(childReceiverMock, configMock);
+
+        receiverFlag.set(true);
+
+        actorReceiver.receive(otherProcessorMock);
+
+        verify(otherProcessorMock).pauseProcess();
+        assertEquals(1, mailbox.size());
+
+        try {
+            actorReceiver.receive(processorMock);
+            fail();
+        } catch (MessageReceiveException e) {
+            assertTrue(e.getCause() instanceof MailboxOverflowException);
+        }
+
+        verify(processorMock, never()).pauseProcess();
+        assertEquals(1, mailbox.size());
+    }
+
+    @Test
+    public void Should_shedMessage_When_MailboxIsFull()
+            throws Exception {
+        IObject configMock = mock(IObject.class);
+        IMessageProcessingSequence sequenceMock = mock(IMessageProcessingSequence.class);
+        ActorMailbox mailbox = new ActorMailbox(1, ActorMailbox.OverflowPolicy.SHED, 1);
+        IKey actorReceiverQueueKey = IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue");
+        when(IOC.resolve(actorReceiverQueueKey, configMock)).thenReturn(mailbox);
+        when(processorMock.getSequence()).thenReturn(sequenceMock);
+
+        ActorReceiver actorReceiver = new ActorReceiver(childReceiverMock, configMock);
+
+        receiverFlag.set(true);
+
+        actorReceiver.receive(mock(IMessageProcessor.class));
+        actorReceiver.receive(processorMock);
+
+        verify(processorMock, never()).pauseProcess();
+        verify(sequenceMock).end();
+        assertEquals(1, mailbox.size());
+    }
+
+    @Test
+    public void Should_executeAtMostBatchSizeMessagesAtOnce()
+            throws Exception {
+        IObject configMock = mock(IObject.class);
+        IQueue<ITask> taskQueueMock = mock(IQueue.class);
+        ArgumentCaptor<ITask> taskCaptor = ArgumentCaptor.forClass(ITask.class);
+        ActorMailbox mailbox = new ActorMailbox(10, ActorMailbox.OverflowPolicy.REJECT, 2);
+        IKey actorReceiverQueueKey = IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue");
+        IKey taskQueueKey = mock(IKey.class);
+        when(IOC.resolve(actorReceiverQueueKey, configMock)).thenReturn(mailbox);
+        when(IOC.resolve(IOC.getKeyForKeyStorage(), "task_queue")).thenReturn(taskQueueKey);
+        when(IOC.resolve(taskQueueKey)).thenReturn(taskQueueMock);
+
+        ActorReceiver actorReceiver = new ActorReceiver(childReceiverMock, configMock);
+
+        receiverFlag.set(true);
+
+        for (int i = 0; i < 3; i++) {
+            actorReceiver.receive(mock(IMessageProcessor.class));
+        }
+
+        receiverFlag.set(false);
+
+        actorReceiver.receive(processorMock);
+
+        // the message itself and the first batch of delayed messages
+        verify(childReceiverMock, times(3)).receive(any());
+        assertEquals(1, mailbox.size());
+        assertFalse(receiverFlag.get());
+
+        // the rest is executed by the task put to the task queue
+        verify(taskQueueMock).put(taskCaptor.capture());
+
+        taskCaptor.getValue().execute();
+
+        verify(childReceiverMock, times(4)).receive(any());
+        assertTrue(mailbox.isEmpty());
+        verify(taskQueueMock, times(1)).put(any());
+    }
+
+    @Test
+    public void Should_continueOnCurrentThread_When_thereIsNoTaskQueue()
+            throws Exception {
+        IObject configMock = mock(IObject.class);
+        ActorMailbox mailbox = new ActorMailbox(10, ActorMailbox.OverflowPolicy.REJECT, 2);
+        IKey actorReceiverQueueKey = IOC.resolve(IOC.getKeyForKeyStorage(), "actor_receiver_queue");
+        when(IOC.resolve(actorReceiverQueueKey, configMock)).thenReturn(mailbox);
+        when(IOC.resolve(IOC.getKeyForKeyStorage(), "task_queue")).thenThrow(new ResolutionException("no queue"));
+
+        ActorReceiver actorReceiver = new ActorReceiver(childReceiverMock, configMock);
+
+        receiverFlag.set(true);
+
+        for (int i = 0; i < 3; i++) {
+            actorReceiver.receive(mock(IMessageProcessor.class));
+        }
+
+        receiverFlag.set(false);
+
+        actorReceiver.receive(processorMock);
+
+        verify(childReceiverMock, times(4)).receive(any());
+        assertTrue(mailbox.isEmpty());
+    }
 }
@@ -71,7 +71,7 @@ public class ActorReceiverCreator implements IRoutedObjectCreator {
                 handlerReceiversMap.put(m.getName(), handlerReceiver);
             }
             IMessageReceiver handlerRoutingReceiver = new HandlerRoutingReceiver(handlerReceiversMap);
-            IMessageReceiver actorReceiver = new ActorReceiver(handlerRoutingReceiver);
+            IMessageReceiver actorReceiver = new ActorReceiver(handlerRoutingReceiver, description);
             router.register(description.getValue(this.name) , actorReceiver);
         } catch (Throwable e) {
             throw new ObjectCreationException("Could not create receiver chain.", e);
@@ -0,0 +1,120 @@
+package info.smart_tools.smartactors.message_processing.blocking_receiver;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+import info.smart_tools.smartactors.task.interfaces.ithread_pool.IThreadPool;
+
+/**
+ * {@link IMessageReceiver} that executes a nested receiver on a separate thread pool (resolved by {@code "blocking_thread_pool"}
+ * dependency) so a receiver performing blocking operations (database queries, SMTP or HTTP requests) does not occupy a thread
+ * executing other message processors.
+ *
+ * <p>
+ * Message processing is paused before the nested receiver is started and is continued when it completes. If there is no free
+ * thread in the pool the nested receiver is executed on the current thread.
+ * </p>
+ *
+ * <p>
+ * If processing of the message cannot be continued, the failure is thrown from {@link #receive} when the nested receiver was
+ * executed on the current thread, or from the task executed by the pool otherwise (so it is handled as any failed task of the
+ * pool).
+ * </p>
+ */
+public class BlockingReceiver implements IMessageReceiver {
+    private final IMessageReceiver childReceiver;
+    private volatile IThreadPool threadPool;
+
+    /**
+     * The constructor.
+     *
+     * @param childReceiver    the child receiver
+     * @throws InvalidArgumentException if childReceiver is {@code null}.
+     */
+    public BlockingReceiver(final IMessageReceiver childReceiver)
+            throws InvalidArgumentException {
+        if (null == childReceiver) {
+            throw new InvalidArgumentException("Child receiver should not be null.");
+        }
+
+        this.childReceiver = childReceiver;
+    }
+
+    @Override
+    public void receive(final IMessageProcessor processor)
+            throws MessageReceiveException, AsynchronousOperationException {
+        IThreadPool pool;
+
+        try {
+            pool = getThreadPool();
+        } catch (ResolutionException e) {
+            throw new MessageReceiveException("Could not resolve thread pool for blocking receivers.", e);
+        }
+
+        processor.pauseProcess();
+
+        try {
+            if (pool.tryExecute(() -> {
+                try {
+                    executeChild(processor);
+                } catch (AsynchronousOperationException e) {
+                    throw new TaskExecutionException(e);
+                }
+            })) {
+                return;
+            }
+        } catch (TaskExecutionException e) {
+            // Fall through and execute the receiver on the current thread
+        }
+
+        executeChild(processor);
+    }
+
+    private IThreadPool getThreadPool() throws ResolutionException {
+        IThreadPool pool = threadPool;
+
+        if (null == pool) {
+            pool = IOC.resolve(Keys.getOrAdd("blocking_thread_pool"));
+            threadPool = pool;
+        }
+
+        return pool;
+    }
+
+    /**
+     * Execute the child receiver and continue processing of the message.
+     *
+     * @param processor    the message processor
+     * @throws AsynchronousOperationException if processing of the message could not be continued; the exception thrown by
+     *                                        the child receiver (if any) is attached as suppressed exception
+     */
+    private void executeChild(final IMessageProcessor processor)
+            throws AsynchronousOperationException {
+        Throwable exception = null;
+
+        try {
+            childReceiver.receive(processor);
+        } catch (Throwable e) {
+            exception = e;
+        }
+
+        try {
+            processor.continueProcess(exception);
+        } catch (Throwable e) {
+            AsynchronousOperationException continueException = new AsynchronousOperationException(
+                    "Could not continue message processing after blocking receiver.", e);
+
+            if (null != exception) {
+                continueException.addSuppressed(exception);
+            }
+
+            throw continueException;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains implementation of {@link info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver} that
+ * executes a receiver performing blocking operations on a separate thread pool.
+ */
+package info.smart_tools.smartactors.message_processing.blocking_receiver;
@@ -0,0 +1,164 @@
+package info.smart_tools.smartactors.message_processing.blocking_receiver;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.ioc.ikey.IKey;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+import info.smart_tools.smartactors.task.interfaces.ithread_pool.IThreadPool;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+/**
+ * Tests for {@link BlockingReceiver}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({IOC.class})
+public class BlockingReceiverTest {
+    private IThreadPool threadPoolMock;
+    private IMessageReceiver childReceiverMock;
+    private IMessageProcessor processorMock;
+
+    @Before
+    public void setUp()
+            throws Exception {
+        mockStatic(IOC.class);
+
+        IKey threadPoolKey = mock(IKey.class);
+
+        threadPoolMock = mock(IThreadPool.class);
+        childReceiverMock = mock(IMessageReceiver.class);
+        processorMock = mock(IMessageProcessor.class);
+
+        when(IOC.getKeyForKeyStorage()).thenReturn(mock(IKey.class));
+        when(IOC.resolve(IOC.getKeyForKeyStorage(), "blocking_thread_pool")).thenReturn(threadPoolKey);
+        when(IOC.resolve(threadPoolKey)).thenReturn(threadPoolMock);
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_constructorThrowWhenInitializedWithoutChildReceiver()
+            throws Exception {
+        assertNotNull(new BlockingReceiver(null));
+    }
+
+    @Test
+    public void Should_executeChildReceiverOnThreadPool()
+            throws Exception {
+        ArgumentCaptor<ITask> taskCaptor = ArgumentCaptor.forClass(ITask.class);
+        when(threadPoolMock.tryExecute(any())).thenReturn(true);
+
+        BlockingReceiver receiver = new BlockingReceiver(childReceiverMock);
+
+        receiver.receive(processorMock);
+
+        verify(processorMock).pauseProcess();
+        verify(threadPoolMock).tryExecute(taskCaptor.capture());
+        verify(childReceiverMock, times(0)).receive(any());
+
+        taskCaptor.getValue().execute();
+
+        InOrder inOrder = inOrder(childReceiverMock, processorMock);
+        inOrder.verify(childReceiverMock).receive(same(processorMock));
+        inOrder.verify(processorMock).continueProcess(isNull(Throwable.class));
+    }
+
+    @Test
+    public void Should_continueProcessWithException_When_childReceiverThrows()
+            throws Exception {
+        ArgumentCaptor<ITask> taskCaptor = ArgumentCaptor.forClass(ITask.class);
+        MessageReceiveException exception = new MessageReceiveException("Whoops!");
+        when(threadPoolMock.tryExecute(any())).thenReturn(true);
+        doThrow(exception).when(childReceiverMock).receive(same(processorMock));
+
+        BlockingReceiver receiver = new BlockingReceiver(childReceiverMock);
+
+        receiver.receive(processorMock);
+
+        verify(threadPoolMock).tryExecute(taskCaptor.capture());
+
+        taskCaptor.getValue().execute();
+
+        verify(processorMock).continueProcess(same(exception));
+    }
+
+    @Test
+    public void Should_executeChildReceiverOnCurrentThread_When_thereIsNoFreeThreadInPool()
+            throws Exception {
+        when(threadPoolMock.tryExecute(any())).thenReturn(false);
+
+        BlockingReceiver receiver = new BlockingReceiver(childReceiverMock);
+
+        receiver.receive(processorMock);
+
+        InOrder inOrder = inOrder(childReceiverMock, processorMock);
+        inOrder.verify(processorMock).pauseProcess();
+        inOrder.verify(childReceiverMock).receive(same(processorMock));
+        inOrder.verify(processorMock).continueProcess(isNull(Throwable.class));
+    }
+
+    @Test
+    public void Should_taskThrow_When_processingCouldNotBeContinued()
+            throws Exception {
+        ArgumentCaptor<ITask> taskCaptor = ArgumentCaptor.forClass(ITask.class);
+        MessageReceiveException childException = new MessageReceiveException("Whoops!");
+        AsynchronousOperationException continueException = new AsynchronousOperationException("Whoops again!");
+        when(threadPoolMock.tryExecute(any())).thenReturn(true);
+        doThrow(childException).when(childReceiverMock).receive(same(processorMock));
+        doThrow(continueException).when(processorMock).continueProcess(same(childException));
+
+        BlockingReceiver receiver = new BlockingReceiver(childReceiverMock);
+
+        receiver.receive(processorMock);
+
+        verify(threadPoolMock).tryExecute(taskCaptor.capture());
+
+        try {
+            taskCaptor.getValue().execute();
+            fail();
+        } catch (TaskExecutionException e) {
+            Throwable cause = e.getCause();
+
+            assertTrue(cause instanceof AsynchronousOperationException);
+            assertSame(continueException, cause.getCause());
+            assertArrayEquals(new Throwable[] {childException}, cause.getSuppressed());
+        }
+    }
+
+    @Test
+    public void Should_receiveThrow_When_processingCouldNotBeContinuedOnCurrentThread()
+            throws Exception {
+        AsynchronousOperationException continueException = new AsynchronousOperationException("Whoops!");
+        when(threadPoolMock.tryExecute(any())).thenReturn(false);
+        doThrow(continueException).when(processorMock).continueProcess(isNull(Throwable.class));
+
+        BlockingReceiver receiver = new BlockingReceiver(childReceiverMock);
+
+        try {
+            receiver.receive(processorMock);
+            fail();
+        } catch (AsynchronousOperationException e) {
+            assertSame(continueException, e.getCause());
+        }
+    }
+}
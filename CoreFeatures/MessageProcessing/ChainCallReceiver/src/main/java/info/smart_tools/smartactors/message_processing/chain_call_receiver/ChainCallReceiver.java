@@ -18,6 +18,8 @@ import info.smart_tools.smartactors.message_processing_interfaces.message_proces
 
 /**
  * Receiver that calls {@link IReceiverChain} chosen by a {@link IChainChoiceStrategy} on a message.
+ *
+ * If the strategy is a {@link IChainHandleChoiceStrategy} the chain is found by handle.
  */
 public class ChainCallReceiver implements IMessageReceiver {
 
@@ -27,6 +29,7 @@ public class ChainCallReceiver implements IMessageReceiver {
 
     private IChainStorage chainStorage;
     private IChainChoiceStrategy chainChoiceStrategy;
+    private IChainHandleChoiceStrategy chainHandleChoiceStrategy;
 
     /**
      * The constructor.
@@ -51,14 +54,24 @@ public class ChainCallReceiver implements IMessageReceiver {
 
         this.chainStorage = chainStorage;
         this.chainChoiceStrategy = chainChoiceStrategy;
+
+        if (chainChoiceStrategy instanceof IChainHandleChoiceStrategy) {
+            this.chainHandleChoiceStrategy = (IChainHandleChoiceStrategy) chainChoiceStrategy;
+        }
     }
 
     @Override
     public void receive(final IMessageProcessor processor)
             throws MessageReceiveException {
         try {
-            Object chainId = chainChoiceStrategy.chooseChain(processor);
-            IReceiverChain chain = chainStorage.resolve(chainId);
+            IReceiverChain chain;
+
+            if (null != chainHandleChoiceStrategy) {
+                chain = chainStorage.resolveByHandle(chainHandleChoiceStrategy.chooseChainHandle(processor, chainStorage));
+            } else {
+                chain = chainStorage.resolve(chainChoiceStrategy.chooseChain(processor));
+            }
+
             checkAccess(chain, processor);
             processor.getSequence().callChain(chain);
         } catch (ChainChoiceException | ChainNotFoundException | NestedChainStackOverflowException e) {
@@ -0,0 +1,67 @@
+package info.smart_tools.smartactors.message_processing.chain_call_receiver;
+
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of chain identifiers and handles used by {@link IChainHandleChoiceStrategy chain choice strategies}.
+ *
+ * <p>
+ *     Chain name is converted to identifier (using {@code "chain_id_from_map_name"} strategy) and then to handle only
+ *     the first time it is met, next time both are taken from the cache.
+ * </p>
+ */
+public class ChainHandleCache {
+    private final Map<Object, Object> chainIds = new ConcurrentHashMap<>();
+    private final Map<IChainStorage, Map<Object, Integer>> handles = new ConcurrentHashMap<>();
+
+    /**
+     * Get identifier of the chain with given name.
+     *
+     * @param chainName    name of the chain
+     * @return identifier of the chain
+     * @throws ResolutionException if fails to resolve the identifier
+     */
+    public Object getChainId(final Object chainName)
+            throws ResolutionException {
+        Object chainId = chainIds.get(chainName);
+
+        if (null == chainId) {
+            chainId = IOC.resolve(Keys.getOrAdd("chain_id_from_map_name"), chainName);
+            chainIds.put(chainName, chainId);
+        }
+
+        return chainId;
+    }
+
+    /**
+     * Get handle of the chain with given name.
+     *
+     * @param chainName       name of the chain
+     * @param chainStorage    the chain storage
+     * @return handle of the chain in given storage
+     * @throws ResolutionException if fails to resolve the identifier of the chain
+     */
+    public int getHandle(final Object chainName, final IChainStorage chainStorage)
+            throws ResolutionException {
+        Map<Object, Integer> storageHandles = handles.get(chainStorage);
+
+        if (null == storageHandles) {
+            storageHandles = handles.computeIfAbsent(chainStorage, s -> new ConcurrentHashMap<>());
+        }
+
+        Integer handle = storageHandles.get(chainName);
+
+        if (null == handle) {
+            handle = chainStorage.getHandle(getChainId(chainName));
+            storageHandles.put(chainName, handle);
+        }
+
+        return handle;
+    }
+}
@@ -0,0 +1,27 @@
+package info.smart_tools.smartactors.message_processing.chain_call_receiver;
+
+import info.smart_tools.smartactors.message_processing.chain_call_receiver.exceptions.ChainChoiceException;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
+
+/**
+ * {@link IChainChoiceStrategy Chain choice strategy} that is able to choose a {@link IChainStorage#getHandle(Object) handle}
+ * of the chain instead of its identifier.
+ *
+ * <p>
+ *     {@link ChainCallReceiver} uses this method when the strategy implements it, so the chain is found by {@link
+ *     IChainStorage#resolveByHandle(int)}. As handles stay valid when chains are updated, rolled back or registered again
+ *     the strategy may resolve them once and then cache.
+ * </p>
+ */
+public interface IChainHandleChoiceStrategy extends IChainChoiceStrategy {
+    /**
+     * Choose a handle of the chain to be called on the message being processed by given message processor.
+     *
+     * @param messageProcessor    message processor processing the message
+     * @param chainStorage        the chain storage the handle should be valid for
+     * @return handle of the chain to be called for the message
+     * @throws ChainChoiceException when it is not possible to choose a chain to call
+     */
+    int chooseChainHandle(IMessageProcessor messageProcessor, IChainStorage chainStorage) throws ChainChoiceException;
+}
@@ -100,6 +100,33 @@ public class ChainCallReceiverTest extends PluginsLoadingTestBase {
         }
     }
 
+    @Test
+    public void Should_resolveChainByHandle_When_strategyChoosesHandles()
+            throws Exception {
+        IChainStorage chainStorageMock = mock(IChainStorage.class);
+        IChainHandleChoiceStrategy chainChoiceStrategyMock = mock(IChainHandleChoiceStrategy.class);
+
+        IReceiverChain chainMock = mock(IReceiverChain.class);
+        IMessageProcessor messageProcessorMock = mock(IMessageProcessor.class);
+        IMessageProcessingSequence sequenceMock = mock(IMessageProcessingSequence.class);
+        IObject chainDescriptionMock = mock(IObject.class);
+        IObject contextMock = mock(IObject.class);
+
+        IMessageReceiver receiver = new ChainCallReceiver(chainStorageMock, chainChoiceStrategyMock);
+
+        when(chainChoiceStrategyMock.chooseChainHandle(same(messageProcessorMock), same(chainStorageMock))).thenReturn(7);
+        when(chainStorageMock.resolveByHandle(7)).thenReturn(chainMock);
+        when(messageProcessorMock.getSequence()).thenReturn(sequenceMock);
+        when(messageProcessorMock.getContext()).thenReturn(contextMock);
+        when(chainMock.getChainDescription()).thenReturn(chainDescriptionMock);
+        when(chainDescriptionMock.getValue(new FieldName("externalAccess"))).thenReturn(true);
+
+        receiver.receive(messageProcessorMock);
+
+        verify(sequenceMock).callChain(same(chainMock));
+        verify(chainChoiceStrategyMock, times(0)).chooseChain(messageProcessorMock);
+    }
+
     @Test
     public void checkMessageReceiveExceptionOnAccessForbidden()
             throws Exception {
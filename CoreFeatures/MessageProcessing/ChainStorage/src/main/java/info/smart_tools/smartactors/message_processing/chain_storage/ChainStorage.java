@@ -15,17 +15,25 @@ import info.smart_tools.smartactors.message_processing_interfaces.message_proces
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage}.
+ *
+ * States of chains are also kept in an array indexed by handles of the chains. The array is copied on every change so
+ * resolution of a chain by handle is a single read of the current array and requires no locking nor hashing.
  */
 public class ChainStorage implements IChainStorage {
     private final Map<Object, IChainState> chainStates;
     private final IRouter router;
     private final Object modificationLock = new Object();
 
+    private final Map<Object, Integer> handles = new ConcurrentHashMap<>();
+    private volatile IChainState[] statesByHandle = new IChainState[0];
+
     /**
      * The constructor.
      *
@@ -73,6 +81,14 @@ public class ChainStorage implements IChainStorage {
 
             synchronized (modificationLock) {
                 oldState = chainStates.put(chainId, state);
+
+                Integer handle = handles.get(chainId);
+
+                if (null != handle) {
+                    IChainState[] states = statesByHandle.clone();
+                    states[handle] = state;
+                    statesByHandle = states;
+                }
             }
 
             if (null != oldState) {
@@ -90,6 +106,41 @@ public class ChainStorage implements IChainStorage {
         return resolveState(chainId).getCurrent();
     }
 
+    @Override
+    public int getHandle(final Object chainId) {
+        Integer handle = handles.get(chainId);
+
+        if (null != handle) {
+            return handle;
+        }
+
+        synchronized (modificationLock) {
+            handle = handles.get(chainId);
+
+            if (null == handle) {
+                IChainState[] states = Arrays.copyOf(statesByHandle, statesByHandle.length + 1);
+                handle = states.length - 1;
+                states[handle] = chainStates.get(chainId);
+                statesByHandle = states;
+                handles.put(chainId, handle);
+            }
+
+            return handle;
+        }
+    }
+
+    @Override
+    public IReceiverChain resolveByHandle(final int handle)
+            throws ChainNotFoundException {
+        IChainState[] states = statesByHandle;
+
+        if (handle < 0 || handle >= states.length || null == states[handle]) {
+            throw new ChainNotFoundException(handle);
+        }
+
+        return states[handle].getCurrent();
+    }
+
     @Override
     public List<Object> enumerate() {
         return new ArrayList<>(chainStates.keySet());
@@ -40,7 +40,7 @@ public class ChainStateImpl implements IChainState {
         }
     }
 
-    private IReceiverChain current;
+    private volatile IReceiverChain current;
     private LinkedHashMap<Object, Modification> modifications = new LinkedHashMap<>();
 
     private final IFieldName modificationFN;
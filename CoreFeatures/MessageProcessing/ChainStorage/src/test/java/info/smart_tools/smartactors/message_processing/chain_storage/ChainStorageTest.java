@@ -156,4 +156,49 @@ public class ChainStorageTest extends PluginsLoadingTestBase {
 
         verify(stateMocks[0]).rollback(mId);
     }
+
+    @Test
+    public void Should_resolveChainsByHandles()
+            throws Exception {
+        IChainStorage storage = new ChainStorage(new HashMap<>(), routerMock);
+
+        when(receiverChainStrategyMock.resolve("the_chain1", descs[0], storage, routerMock)).thenReturn(chianMocks[0]);
+        when(chainStateStrategyMock.resolve(chianMocks[0])).thenReturn(stateMocks[0]);
+        when(stateMocks[0].getCurrent()).thenReturn(chianMocks[0]);
+        when(receiverChainStrategyMock.resolve("the_chain2", descs[1], storage, routerMock)).thenReturn(chianMocks[1]);
+        when(chainStateStrategyMock.resolve(chianMocks[1])).thenReturn(stateMocks[1]);
+        when(stateMocks[1].getCurrent()).thenReturn(chianMocks[1]);
+        when(receiverChainStrategyMock.resolve("the_chain2", descs[2], storage, routerMock)).thenReturn(chianMocks[2]);
+        when(chainStateStrategyMock.resolve(chianMocks[2])).thenReturn(stateMocks[2]);
+        when(stateMocks[2].getCurrent()).thenReturn(chianMocks[2]);
+
+        storage.register("the_chain1", descs[0]);
+
+        int handle1 = storage.getHandle("the_chain1");
+        int handle2 = storage.getHandle("the_chain2");
+
+        assertNotEquals(handle1, handle2);
+        assertEquals(handle1, storage.getHandle("the_chain1"));
+        assertSame(chianMocks[0], storage.resolveByHandle(handle1));
+
+        try {
+            storage.resolveByHandle(handle2);
+            fail();
+        } catch (ChainNotFoundException e) {
+            // chain is not registered yet
+        }
+
+        storage.register("the_chain2", descs[1]);
+        assertSame(chianMocks[1], storage.resolveByHandle(handle2));
+
+        storage.register("the_chain2", descs[2]);
+        assertSame(chianMocks[2], storage.resolveByHandle(handle2));
+        assertEquals(handle2, storage.getHandle("the_chain2"));
+    }
+
+    @Test(expected = ChainNotFoundException.class)
+    public void Should_throw_When_handleIsInvalid()
+            throws Exception {
+        new ChainStorage(new HashMap<>(), routerMock).resolveByHandle(42);
+    }
 }
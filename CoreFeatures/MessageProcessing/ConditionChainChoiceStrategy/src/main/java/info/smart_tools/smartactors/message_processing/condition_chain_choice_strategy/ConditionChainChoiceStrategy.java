@@ -4,17 +4,23 @@ import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing.chain_call_receiver.ChainHandleCache;
 import info.smart_tools.smartactors.message_processing.chain_call_receiver.IChainChoiceStrategy;
+import info.smart_tools.smartactors.message_processing.chain_call_receiver.IChainHandleChoiceStrategy;
 import info.smart_tools.smartactors.message_processing.chain_call_receiver.exceptions.ChainChoiceException;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 
 /**
  * {@link IChainChoiceStrategy Chain choice strategy} that returns chain id depending the chainCondition flag.
+ *
+ * Identifiers and handles of both chains are resolved once for every chain name and then taken from the cache.
  */
-public class ConditionChainChoiceStrategy implements IChainChoiceStrategy {
+public class ConditionChainChoiceStrategy implements IChainHandleChoiceStrategy {
     private final IFieldName chainConditionFN;
     private final IFieldName trueChainFN;
     private final IFieldName falseChainFN;
+    private final ChainHandleCache cache = new ChainHandleCache();
 
     /**
      * Constructor
@@ -29,15 +35,28 @@ public class ConditionChainChoiceStrategy implements IChainChoiceStrategy {
     @Override
     public Object chooseChain(final IMessageProcessor messageProcessor) throws ChainChoiceException {
         try {
-            if ((Boolean) messageProcessor.getMessage().getValue(chainConditionFN)) {
-                Object name = messageProcessor.getSequence().getCurrentReceiverArguments().getValue(trueChainFN);
-                return IOC.resolve(Keys.getOrAdd("chain_id_from_map_name"), name);
-            }
+            return cache.getChainId(chooseChainName(messageProcessor));
+        } catch (Exception e) {
+            throw new ChainChoiceException("Could not execute condition chain choice strategy.");
+        }
+    }
 
-            Object name = messageProcessor.getSequence().getCurrentReceiverArguments().getValue(falseChainFN);
-            return IOC.resolve(Keys.getOrAdd("chain_id_from_map_name"), name);
+    @Override
+    public int chooseChainHandle(final IMessageProcessor messageProcessor, final IChainStorage chainStorage)
+            throws ChainChoiceException {
+        try {
+            return cache.getHandle(chooseChainName(messageProcessor), chainStorage);
         } catch (Exception e) {
             throw new ChainChoiceException("Could not execute condition chain choice strategy.");
         }
     }
+
+    private Object chooseChainName(final IMessageProcessor messageProcessor)
+            throws Exception {
+        if ((Boolean) messageProcessor.getMessage().getValue(chainConditionFN)) {
+            return messageProcessor.getSequence().getCurrentReceiverArguments().getValue(trueChainFN);
+        }
+
+        return messageProcessor.getSequence().getCurrentReceiverArguments().getValue(falseChainFN);
+    }
 }
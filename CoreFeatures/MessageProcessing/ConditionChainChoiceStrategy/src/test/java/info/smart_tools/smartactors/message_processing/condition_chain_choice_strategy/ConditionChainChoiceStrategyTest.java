@@ -10,17 +10,23 @@ import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 import info.smart_tools.smartactors.ioc_plugins.ioc_keys_plugin.PluginIOCKeys;
 import info.smart_tools.smartactors.message_processing.chain_call_receiver.IChainChoiceStrategy;
+import info.smart_tools.smartactors.message_processing.chain_call_receiver.IChainHandleChoiceStrategy;
 import info.smart_tools.smartactors.message_processing.chain_call_receiver.exceptions.ChainChoiceException;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.scope_plugins.scope_provider_plugin.PluginScopeProvider;
 import info.smart_tools.smartactors.scope_plugins.scoped_ioc_plugin.ScopedIOCPlugin;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConditionChainChoiceStrategyTest extends PluginsLoadingTestBase {
@@ -78,6 +84,29 @@ public class ConditionChainChoiceStrategyTest extends PluginsLoadingTestBase {
     }
 
 
+    @Test
+    public void Should_resolveHandlesOfBothChainsOnce()
+            throws Exception {
+        IObject trueMessage = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), "{'chainCondition': true}".replace('\'', '"'));
+        IObject falseMessage = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.iobject.IObject"), "{'chainCondition': false}".replace('\'', '"'));
+        IChainStorage chainStorageMock = mock(IChainStorage.class);
+        IChainHandleChoiceStrategy strategy = new ConditionChainChoiceStrategy();
+
+        when(chainStorageMock.getHandle(same(trueId))).thenReturn(3);
+        when(chainStorageMock.getHandle(same(falseId))).thenReturn(5);
+
+        for (int i = 0; i < 3; i++) {
+            when(messageProcessorMock.getMessage()).thenReturn(trueMessage);
+            assertEquals(3, strategy.chooseChainHandle(messageProcessorMock, chainStorageMock));
+            when(messageProcessorMock.getMessage()).thenReturn(falseMessage);
+            assertEquals(5, strategy.chooseChainHandle(messageProcessorMock, chainStorageMock));
+        }
+
+        verify(chainIdStrategy, times(1)).resolve(eq("trueChainId"));
+        verify(chainIdStrategy, times(1)).resolve(eq("falseChainId"));
+        verify(chainStorageMock, times(1)).getHandle(same(trueId));
+        verify(chainStorageMock, times(1)).getHandle(same(falseId));
+    }
 
     @Test(expected = ChainChoiceException.class)
     public void Should_wrapExceptionThrownByIOC()
@@ -4,15 +4,21 @@ import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing.chain_call_receiver.ChainHandleCache;
 import info.smart_tools.smartactors.message_processing.chain_call_receiver.IChainChoiceStrategy;
+import info.smart_tools.smartactors.message_processing.chain_call_receiver.IChainHandleChoiceStrategy;
 import info.smart_tools.smartactors.message_processing.chain_call_receiver.exceptions.ChainChoiceException;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 
 /**
  * {@link IChainChoiceStrategy Chain choice strategy} that always returns the same chain id for the same step.
+ *
+ * Identifiers and handles of chains are resolved once for every chain name and then taken from the cache.
  */
-public class ConstantChainChoiceStrategy implements IChainChoiceStrategy {
+public class ConstantChainChoiceStrategy implements IChainHandleChoiceStrategy {
     private final IFieldName chainIdFieldName;
+    private final ChainHandleCache cache = new ChainHandleCache();
 
     public ConstantChainChoiceStrategy()
             throws ResolutionException {
@@ -23,7 +29,18 @@ public class ConstantChainChoiceStrategy implements IChainChoiceStrategy {
     public Object chooseChain(IMessageProcessor messageProcessor) throws ChainChoiceException {
         try {
             Object name = messageProcessor.getSequence().getCurrentReceiverArguments().getValue(chainIdFieldName);
-            return IOC.resolve(Keys.getOrAdd("chain_id_from_map_name"), name);
+            return cache.getChainId(name);
+        } catch (Exception e) {
+            throw new ChainChoiceException("Exception occurred reading chain id for current step.", e);
+        }
+    }
+
+    @Override
+    public int chooseChainHandle(final IMessageProcessor messageProcessor, final IChainStorage chainStorage)
+            throws ChainChoiceException {
+        try {
+            Object name = messageProcessor.getSequence().getCurrentReceiverArguments().getValue(chainIdFieldName);
+            return cache.getHandle(name, chainStorage);
         } catch (Exception e) {
             throw new ChainChoiceException("Exception occurred reading chain id for current step.", e);
         }
@@ -21,6 +21,8 @@ import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -65,6 +67,17 @@ public class ConstantChainChoiceStrategyTest extends PluginsLoadingTestBase {
         assertSame(id, strategy.chooseChain(messageProcessorMock));
     }
 
+    @Test
+    public void Should_resolveChainIdentifierOnce()
+            throws Exception {
+        IChainChoiceStrategy strategy = new ConstantChainChoiceStrategy();
+
+        assertSame(id, strategy.chooseChain(messageProcessorMock));
+        assertSame(id, strategy.chooseChain(messageProcessorMock));
+
+        verify(chainIdStrategy, times(1)).resolve(eq("chain_to_call_name"));
+    }
+
     @Test(expected = ChainChoiceException.class)
     public void Should_wrapExceptionThrownByIOC()
             throws Exception {
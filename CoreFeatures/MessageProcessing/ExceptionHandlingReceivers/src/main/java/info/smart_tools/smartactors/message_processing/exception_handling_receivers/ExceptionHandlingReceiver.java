@@ -7,12 +7,20 @@ import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 
 /**
  * Base class for implementations of {@link IMessageReceiver} that may be used as parts of exceptional chains to handle
  * exceptions.
  *
+ * <p>
+ *     A sequence may defer writing positions of the exception to the message context (see {@code lightweightExceptions}
+ *     flag of {@code MessageProcessingSequence}), they are written when the context or the environment is taken from
+ *     the message processor. So methods reading them from message context should be given the context returned by
+ *     {@link IMessageProcessor#getContext()}.
+ * </p>
+ *
  * @see info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence#catchException(Throwable, IObject)
  */
 public abstract class ExceptionHandlingReceiver implements IMessageReceiver {
@@ -101,4 +109,104 @@ public abstract class ExceptionHandlingReceiver implements IMessageReceiver {
         throws ReadValueException, InvalidArgumentException {
         return (Throwable) context.getValue(exceptionFieldName);
     }
+
+    /**
+     * Get a {@code "causeLevel"} value of the message processed by given processor.
+     *
+     * <p>
+     *     The value is read from message context if it is there, otherwise (e.g. when the sequence does not write
+     *     positions to the context) it is taken from the message processing sequence.
+     * </p>
+     *
+     * @param processor    the message processor
+     * @return the value
+     * @throws ReadValueException if error occurs reading value from context
+     * @throws InvalidArgumentException if incoming argument is null
+     * @see info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence#getCauseLevel()
+     */
+    protected int getCauseLevel(final IMessageProcessor processor)
+            throws ReadValueException, InvalidArgumentException {
+        Object value = processor.getContext().getValue(causeLevelFieldName);
+        return null != value ? (Integer) value : processor.getSequence().getCauseLevel();
+    }
+
+    /**
+     * Get a {@code "causeStep"} value of the message processed by given processor.
+     *
+     * <p>
+     *     The value is read from message context if it is there, otherwise (e.g. when the sequence does not write
+     *     positions to the context) it is taken from the message processing sequence.
+     * </p>
+     *
+     * @param processor    the message processor
+     * @return the value
+     * @throws ReadValueException if error occurs reading value from context
+     * @throws InvalidArgumentException if incoming argument is null
+     * @see info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence#getCauseStep()
+     */
+    protected int getCauseStep(final IMessageProcessor processor)
+            throws ReadValueException, InvalidArgumentException {
+        Object value = processor.getContext().getValue(causeStepFieldName);
+        return null != value ? (Integer) value : processor.getSequence().getCauseStep();
+    }
+
+    /**
+     * Get a {@code "catchLevel"} value of the message processed by given processor.
+     *
+     * <p>
+     *     The value is read from message context if it is there, otherwise (e.g. when the sequence does not write
+     *     positions to the context) it is taken from the message processing sequence.
+     * </p>
+     *
+     * @param processor    the message processor
+     * @return the value
+     * @throws ReadValueException if error occurs reading value from context
+     * @throws InvalidArgumentException if incoming argument is null
+     * @see info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence#getCatchLevel()
+     */
+    protected int getCatchLevel(final IMessageProcessor processor)
+            throws ReadValueException, InvalidArgumentException {
+        Object value = processor.getContext().getValue(catchLevelFieldName);
+        return null != value ? (Integer) value : processor.getSequence().getCatchLevel();
+    }
+
+    /**
+     * Get a {@code "catchStep"} value of the message processed by given processor.
+     *
+     * <p>
+     *     The value is read from message context if it is there, otherwise (e.g. when the sequence does not write
+     *     positions to the context) it is taken from the message processing sequence.
+     * </p>
+     *
+     * @param processor    the message processor
+     * @return the value
+     * @throws ReadValueException if error occurs reading value from context
+     * @throws InvalidArgumentException if incoming argument is null
+     * @see info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence#getCatchStep()
+     */
+    protected int getCatchStep(final IMessageProcessor processor)
+            throws ReadValueException, InvalidArgumentException {
+        Object value = processor.getContext().getValue(catchStepFieldName);
+        return null != value ? (Integer) value : processor.getSequence().getCatchStep();
+    }
+
+    /**
+     * Get the caught exception of the message processed by given processor.
+     *
+     * <p>
+     *     The value is read from message context if it is there, otherwise (e.g. when the sequence does not write
+     *     positions to the context) it is taken from the message processing sequence.
+     * </p>
+     *
+     * @param processor    the message processor
+     * @return the value
+     * @throws ReadValueException if error occurs reading value from context
+     * @throws InvalidArgumentException if incoming argument is null
+     * @see info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence#getCaughtException()
+     */
+    protected Throwable getException(final IMessageProcessor processor)
+            throws ReadValueException, InvalidArgumentException {
+        Object value = processor.getContext().getValue(exceptionFieldName);
+        return null != value ? (Throwable) value : processor.getSequence().getCaughtException();
+    }
 }
@@ -3,7 +3,6 @@ package info.smart_tools.smartactors.message_processing.exception_handling_recei
 import info.smart_tools.smartactors.base.interfaces.iaction.exception.ActionExecuteException;
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
-import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
 import info.smart_tools.smartactors.base.interfaces.iresource_source.exceptions.OutOfResourceException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
@@ -29,10 +28,9 @@ public class RetryingToTakeResourceExceptionHandler extends ExceptionHandlingRec
     public void receive(final IMessageProcessor processor)
             throws MessageReceiveException {
         try {
-            IObject context = processor.getContext();
-            OutOfResourceException exception = (OutOfResourceException) getException(context);
+            OutOfResourceException exception = (OutOfResourceException) getException(processor);
 
-            processor.getSequence().goTo(getCauseLevel(context), getCauseStep(context));
+            processor.getSequence().goTo(getCauseLevel(processor), getCauseStep(processor));
 
             processor.pauseProcess();
 
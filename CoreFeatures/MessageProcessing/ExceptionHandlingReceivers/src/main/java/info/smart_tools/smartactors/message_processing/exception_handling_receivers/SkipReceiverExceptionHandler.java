@@ -2,7 +2,6 @@ package info.smart_tools.smartactors.message_processing.exception_handling_recei
 
 import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
-import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
@@ -24,10 +23,8 @@ public class SkipReceiverExceptionHandler extends ExceptionHandlingReceiver {
     @Override
     public void receive(final IMessageProcessor processor)
             throws MessageReceiveException {
-        IObject context = processor.getContext();
-
         try {
-            processor.getSequence().goTo(getCauseLevel(context), getCauseStep(context) + 1);
+            processor.getSequence().goTo(getCauseLevel(processor), getCauseStep(processor) + 1);
         } catch (ReadValueException | InvalidArgumentException e) {
             throw new MessageReceiveException("Exception occurred while skipping a receiver thrown exception", e);
         }
@@ -35,6 +35,23 @@ public class SkipReceiverExceptionHandlerTest extends ExceptionHandlingReceiverT
         verify(sequenceMock).goTo(eq(137), eq(124));
     }
 
+    @Test
+    public void Should_takePositionFromSequence_When_itIsNotInContext()
+            throws Exception {
+        IMessageProcessingSequence sequenceMock = mock(IMessageProcessingSequence.class);
+
+        when(messageProcessorMock.getSequence()).thenReturn(sequenceMock);
+
+        when(sequenceMock.getCauseLevel()).thenReturn(2);
+        when(sequenceMock.getCauseStep()).thenReturn(5);
+
+        IMessageReceiver receiver = new SkipReceiverExceptionHandler();
+
+        receiver.receive(messageProcessorMock);
+
+        verify(sequenceMock).goTo(eq(2), eq(6));
+    }
+
     @Test
     public void Should_WrapCaughtExceptions()
             throws Exception {
@@ -14,6 +14,7 @@ import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.Signal;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.NestedChainStackOverflowException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.NoExceptionHandleChainException;
 
@@ -24,11 +25,25 @@ import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link IMessageProcessingSequence}.
+ *
+ * <p>
+ *     Positions of the last caught exception are always stored in the sequence. A sequence created with
+ *     {@code lightweightExceptions} flag set does not copy them to the message context and throws a
+ *     {@link NoExceptionHandleChainException} without stack trace and stacks of chains and steps (but caused by the
+ *     signal) when no chain handles a {@link Signal signal}.
+ * </p>
+ *
+ * <p>
+ *     So in that mode only {@code "exception"} field is written to the context when the exception is caught,
+ *     {@code "causeLevel"}, {@code "causeStep"}, {@code "catchLevel"} and {@code "catchStep"} fields are written by
+ *     {@link #materializeCatchPositions()} which is called by the message processor when a receiver reads the context or
+ *     the environment. Exceptional chains that do not read them (e.g. ones handling signals) do not pay for them.
+ * </p>
  */
 public class MessageProcessingSequence implements IMessageProcessingSequence, IDumpable {
-    private final IReceiverChain mainChain;
-    private final IReceiverChain[] chainStack;
-    private final int[] stepStack;
+    private IReceiverChain mainChain;
+    private IReceiverChain[] chainStack;
+    private int[] stepStack;
     private IMessageReceiver currentReceiver;
     private IObject currentArguments;
     private int stackIndex;
@@ -36,6 +51,14 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
     private boolean isException = false;
     private IAction<IMessageProcessingSequence> afterExceptionAction = null;
 
+    private final boolean lightweightExceptions;
+    private int causeLevel;
+    private int causeStep;
+    private int catchLevel;
+    private int catchStep;
+    private Throwable caughtException;
+    private IObject unwrittenPositionsContext;
+
     private final IFieldName causeLevelFieldName;
     private final IFieldName causeStepFieldName;
     private final IFieldName catchLevelFieldName;
@@ -62,6 +85,23 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
      */
     public MessageProcessingSequence(final int stackDepth, final IReceiverChain mainChain)
             throws InvalidArgumentException, ResolutionException {
+        this(stackDepth, mainChain, false);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param stackDepth maximum depth of stack of nested chains
+     * @param mainChain the {@link IReceiverChain} to start message processing with
+     * @param lightweightExceptions {@code true} if positions of caught exceptions should not be written to the message
+     *                              context and exceptions thrown for unhandled signals should not fill in stacks
+     * @throws InvalidArgumentException if stack depth is not a positive number
+     * @throws InvalidArgumentException if main chain is {@code null}
+     * @throws InvalidArgumentException if main chain contains no receivers
+     * @throws ResolutionException if resolution of any dependencies fails
+     */
+    public MessageProcessingSequence(final int stackDepth, final IReceiverChain mainChain, final boolean lightweightExceptions)
+            throws InvalidArgumentException, ResolutionException {
         if (stackDepth < 1) {
             throw new InvalidArgumentException("Chain stack depth should be a positive number.");
         }
@@ -77,6 +117,7 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
         this.mainChain = mainChain;
         this.chainStack = new IReceiverChain[stackDepth];
         this.stepStack = new int[stackDepth];
+        this.lightweightExceptions = lightweightExceptions;
 
         causeLevelFieldName = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeLevel");
         causeStepFieldName = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeStep");
@@ -96,6 +137,35 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
         reset();
     }
 
+    @Override
+    public void reinitialize(final int stackDepth, final IReceiverChain newMainChain)
+            throws InvalidArgumentException {
+        if (stackDepth < 1) {
+            throw new InvalidArgumentException("Chain stack depth should be a positive number.");
+        }
+
+        if (null == newMainChain) {
+            throw new InvalidArgumentException("Main chain should not be null.");
+        }
+
+        if (null == newMainChain.get(0)) {
+            throw new InvalidArgumentException("Main chain should contain at least one receiver.");
+        }
+
+        if (stackDepth == chainStack.length) {
+            Arrays.fill(chainStack, null);
+        } else {
+            chainStack = new IReceiverChain[stackDepth];
+            stepStack = new int[stackDepth];
+        }
+
+        this.mainChain = newMainChain;
+        this.isException = false;
+        this.afterExceptionAction = null;
+
+        reset();
+    }
+
     private void uncheckedGoTo(final int level, final int step) {
         this.stackIndex = level;
         this.stepStack[level] = step - 1;
@@ -108,6 +178,13 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
         this.currentReceiver = mainChain.get(0);
         this.currentArguments = mainChain.getArguments(0);
         this.stackIndex = 0;
+
+        this.causeLevel = -1;
+        this.causeStep = -1;
+        this.catchLevel = -1;
+        this.catchStep = -1;
+        this.caughtException = null;
+        this.unwrittenPositionsContext = null;
     }
 
     @Override
@@ -212,10 +289,18 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
                 caughtLevel = i;
                 caughtStep = stepStack[caughtLevel];
 
-                context.setValue(causeLevelFieldName, causedLevel);
-                context.setValue(causeStepFieldName, causedStep);
-                context.setValue(catchLevelFieldName, caughtLevel);
-                context.setValue(catchStepFieldName, caughtStep);
+                this.causeLevel = causedLevel;
+                this.causeStep = causedStep;
+                this.catchLevel = caughtLevel;
+                this.catchStep = caughtStep;
+                this.caughtException = exception;
+
+                if (lightweightExceptions) {
+                    this.unwrittenPositionsContext = context;
+                } else {
+                    writeCatchPositions(context);
+                }
+
                 context.setValue(exceptionFieldName, exception);
 
                 this.isException = true;
@@ -224,11 +309,57 @@ public class MessageProcessingSequence implements IMessageProcessingSequence, ID
             }
         }
 
+        if (lightweightExceptions && exception instanceof Signal) {
+            throw new NoExceptionHandleChainException("No exceptional chain found for signal.", exception);
+        }
+
         throw new NoExceptionHandleChainException(exception,
                 Arrays.copyOf(chainStack, stackIndex + 1),
                 Arrays.copyOf(stepStack, stackIndex + 1));
     }
 
+    @Override
+    public int getCauseLevel() {
+        return causeLevel;
+    }
+
+    @Override
+    public int getCauseStep() {
+        return causeStep;
+    }
+
+    @Override
+    public int getCatchLevel() {
+        return catchLevel;
+    }
+
+    @Override
+    public int getCatchStep() {
+        return catchStep;
+    }
+
+    @Override
+    public Throwable getCaughtException() {
+        return caughtException;
+    }
+
+    @Override
+    public void materializeCatchPositions() throws ChangeValueException, InvalidArgumentException {
+        IObject context = unwrittenPositionsContext;
+
+        if (null != context) {
+            unwrittenPositionsContext = null;
+            writeCatchPositions(context);
+        }
+    }
+
+    private void writeCatchPositions(final IObject context) throws ChangeValueException, InvalidArgumentException {
+        context.setValue(causeLevelFieldName, causeLevel);
+        context.setValue(causeStepFieldName, causeStep);
+        context.setValue(catchLevelFieldName, catchLevel);
+        context.setValue(catchStepFieldName, catchStep);
+    }
+
     /**
      * Create a description (dump) of current state of this sequence.
      *
@@ -15,9 +15,10 @@ import info.smart_tools.smartactors.message_processing_interfaces.irouter.IRoute
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  *
@@ -25,7 +26,10 @@ import java.util.Map;
 public class ChainStorageDecorator implements IChainStorage {
     private final IChainStorage systemStorage;
     private final IObject dumps;
-    private Map<Object, IReceiverChain> chainsCache = new HashMap<>();
+    private final Map<Object, IReceiverChain> chainsCache = new ConcurrentHashMap<>();
+    private final Map<Object, Integer> handles = new ConcurrentHashMap<>();
+    private final Map<Integer, Object> chainIdsByHandle = new ConcurrentHashMap<>();
+    private final AtomicInteger nextHandle = new AtomicInteger(0);
 
     /**
      * The constructor.
@@ -55,8 +59,10 @@ public class ChainStorageDecorator implements IChainStorage {
 
     @Override
     public IReceiverChain resolve(final Object chainId) throws ChainNotFoundException {
-        if (chainsCache.containsKey(chainId)) {
-            return chainsCache.get(chainId);
+        IReceiverChain cached = chainsCache.get(chainId);
+
+        if (null != cached) {
+            return cached;
         }
 
         try {
@@ -81,6 +87,32 @@ public class ChainStorageDecorator implements IChainStorage {
         }
     }
 
+    @Override
+    public int getHandle(final Object chainId) {
+        Integer handle = handles.get(chainId);
+
+        if (null != handle) {
+            return handle;
+        }
+
+        return handles.computeIfAbsent(chainId, id -> {
+            int newHandle = nextHandle.getAndIncrement();
+            chainIdsByHandle.put(newHandle, id);
+            return newHandle;
+        });
+    }
+
+    @Override
+    public IReceiverChain resolveByHandle(final int handle) throws ChainNotFoundException {
+        Object chainId = chainIdsByHandle.get(handle);
+
+        if (null == chainId) {
+            throw new ChainNotFoundException(handle);
+        }
+
+        return resolve(chainId);
+    }
+
     @Override
     public List<Object> enumerate() {
         // TODO: Implement?
@@ -15,6 +15,7 @@ import info.smart_tools.smartactors.ioc_plugins.ioc_keys_plugin.PluginIOCKeys;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessingSequence;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IReceiverChain;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.Signal;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.NestedChainStackOverflowException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.NoExceptionHandleChainException;
 import info.smart_tools.smartactors.scope_plugins.scope_provider_plugin.PluginScopeProvider;
@@ -28,7 +29,9 @@ import java.util.Collections;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -100,6 +103,42 @@ public class MessageProcessingSequenceTest extends PluginsLoadingTestBase {
         assertNotNull(new MessageProcessingSequence(1, mainChainMock));
     }
 
+    @Test
+    public void Should_startNewMainChain_When_reinitialized()
+            throws Exception {
+        IReceiverChain chainMock1 = mock(IReceiverChain.class);
+        IReceiverChain newMainChainMock = mock(IReceiverChain.class);
+
+        when(mainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+        when(chainMock1.get(eq(0))).thenReturn(messageReceiverMocks[1]);
+        when(newMainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[2]);
+        when(newMainChainMock.getArguments(eq(0))).thenReturn(receiverArgsMocks[2]);
+
+        MessageProcessingSequence messageProcessingSequence = new MessageProcessingSequence(2, mainChainMock);
+
+        messageProcessingSequence.callChain(chainMock1);
+        assertTrue(messageProcessingSequence.next());
+        assertSame(messageReceiverMocks[1], messageProcessingSequence.getCurrentReceiver());
+
+        messageProcessingSequence.reinitialize(3, newMainChainMock);
+
+        assertEquals(0, messageProcessingSequence.getCurrentLevel());
+        assertSame(messageReceiverMocks[2], messageProcessingSequence.getCurrentReceiver());
+        assertSame(receiverArgsMocks[2], messageProcessingSequence.getCurrentReceiverArguments());
+
+        messageProcessingSequence.callChain(chainMock1);
+        messageProcessingSequence.callChain(chainMock1);
+        assertEquals(2, messageProcessingSequence.getCurrentLevel());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_reinitializeThrow_When_mainChainContainsNoReceivers()
+            throws Exception {
+        when(mainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+
+        new MessageProcessingSequence(1, mainChainMock).reinitialize(1, mock(IReceiverChain.class));
+    }
+
     @Test(expected = NestedChainStackOverflowException.class)
     public void Should_throw_When_stackOverflowOccurs()
             throws Exception {
@@ -286,6 +325,137 @@ public class MessageProcessingSequenceTest extends PluginsLoadingTestBase {
         verify(contextMock).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "catchStep")), eq(0));
     }
 
+    @Test
+    public void Should_storePositionsInSequenceOnly_When_lightweightExceptionsEnabled()
+            throws Exception {
+        Throwable exception = mock(Throwable.class);
+
+        IReceiverChain exceptionalChain = mock(IReceiverChain.class);
+        IObject exceptionalChainAndEnv = mock(IObject.class);
+        IReceiverChain secondaryChain = mock(IReceiverChain.class);
+
+        when(secondaryChain.getExceptionalChainAndEnvironments(same(exception))).thenReturn(exceptionalChainAndEnv);
+        when(exceptionalChainAndEnv.getValue(this.afterActionFieldName)).thenReturn(mock(IAction.class));
+        when(exceptionalChainAndEnv.getValue(this.chainFieldName)).thenReturn(exceptionalChain);
+
+        when(mainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+        when(secondaryChain.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+        when(secondaryChain.get(eq(1))).thenReturn(messageReceiverMocks[1]);
+
+        MessageProcessingSequence messageProcessingSequence = new MessageProcessingSequence(5, mainChainMock, true);
+
+        assertEquals(-1, messageProcessingSequence.getCauseLevel());
+        assertNull(messageProcessingSequence.getCaughtException());
+
+        messageProcessingSequence.callChain(secondaryChain);
+        messageProcessingSequence.next();
+        messageProcessingSequence.next();
+
+        messageProcessingSequence.catchException(exception, contextMock);
+
+        assertEquals(1, messageProcessingSequence.getCauseLevel());
+        assertEquals(1, messageProcessingSequence.getCauseStep());
+        assertEquals(1, messageProcessingSequence.getCatchLevel());
+        assertEquals(1, messageProcessingSequence.getCatchStep());
+        assertSame(exception, messageProcessingSequence.getCaughtException());
+
+        verify(contextMock).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "exception")), same(exception));
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeLevel")), any());
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeStep")), any());
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "catchLevel")), any());
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "catchStep")), any());
+
+        messageProcessingSequence.reset();
+
+        assertEquals(-1, messageProcessingSequence.getCatchStep());
+        assertNull(messageProcessingSequence.getCaughtException());
+    }
+
+    @Test
+    public void Should_writePositionsToContextOnlyOnce_When_materializedInLightweightMode()
+            throws Exception {
+        Signal signal = new Signal("test") { };
+
+        IReceiverChain exceptionalChain = mock(IReceiverChain.class);
+        IObject exceptionalChainAndEnv = mock(IObject.class);
+        IReceiverChain secondaryChain = mock(IReceiverChain.class);
+
+        when(secondaryChain.getExceptionalChainAndEnvironments(same(signal))).thenReturn(exceptionalChainAndEnv);
+        when(exceptionalChainAndEnv.getValue(this.afterActionFieldName)).thenReturn(mock(IAction.class));
+        when(exceptionalChainAndEnv.getValue(this.chainFieldName)).thenReturn(exceptionalChain);
+
+        when(mainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+        when(secondaryChain.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+        when(secondaryChain.get(eq(1))).thenReturn(messageReceiverMocks[1]);
+
+        MessageProcessingSequence messageProcessingSequence = new MessageProcessingSequence(5, mainChainMock, true);
+
+        messageProcessingSequence.materializeCatchPositions();
+
+        messageProcessingSequence.next();
+        messageProcessingSequence.callChain(secondaryChain);
+        messageProcessingSequence.next();
+        messageProcessingSequence.next();
+
+        messageProcessingSequence.catchException(signal, contextMock);
+
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeLevel")), any());
+
+        messageProcessingSequence.materializeCatchPositions();
+        messageProcessingSequence.materializeCatchPositions();
+
+        verify(contextMock).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeLevel")), eq(1));
+        verify(contextMock).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeStep")), eq(1));
+        verify(contextMock).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "catchLevel")), eq(1));
+        verify(contextMock).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "catchStep")), eq(1));
+    }
+
+    @Test
+    public void Should_notWritePositionsToContext_When_sequenceIsResetBeforeMaterialization()
+            throws Exception {
+        Throwable exception = mock(Throwable.class);
+
+        IReceiverChain exceptionalChain = mock(IReceiverChain.class);
+        IObject exceptionalChainAndEnv = mock(IObject.class);
+
+        when(mainChainMock.getExceptionalChainAndEnvironments(same(exception))).thenReturn(exceptionalChainAndEnv);
+        when(exceptionalChainAndEnv.getValue(this.afterActionFieldName)).thenReturn(mock(IAction.class));
+        when(exceptionalChainAndEnv.getValue(this.chainFieldName)).thenReturn(exceptionalChain);
+        when(mainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+
+        MessageProcessingSequence messageProcessingSequence = new MessageProcessingSequence(5, mainChainMock, true);
+
+        messageProcessingSequence.catchException(exception, contextMock);
+        messageProcessingSequence.reset();
+        messageProcessingSequence.materializeCatchPositions();
+
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "causeLevel")), any());
+        verify(contextMock, never()).setValue(same(IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "catchStep")), any());
+    }
+
+    @Test
+    public void Should_throwExceptionWithoutStacks_When_noChainFoundForSignalAndLightweightExceptionsEnabled()
+            throws Exception {
+        Signal signal1 = new Signal("test1") { };
+        Signal signal2 = new Signal("test2") { };
+
+        when(mainChainMock.get(eq(0))).thenReturn(messageReceiverMocks[0]);
+
+        IMessageProcessingSequence sequence = new MessageProcessingSequence(5, mainChainMock, true);
+
+        for (Signal signal : new Signal[] {signal1, signal2}) {
+            try {
+                sequence.catchException(signal, contextMock);
+                fail();
+            } catch (NoExceptionHandleChainException e) {
+                assertSame(signal, e.getCause());
+                assertEquals(0, e.getStackTrace().length);
+                assertEquals(0, e.getChainsStack().length);
+                assertEquals(0, e.getStepsStack().length);
+            }
+        }
+    }
+
     @Test(expected = InvalidArgumentException.class)
     public void Should_goToThrow_When_positionIsOutOfRange()
             throws Exception {
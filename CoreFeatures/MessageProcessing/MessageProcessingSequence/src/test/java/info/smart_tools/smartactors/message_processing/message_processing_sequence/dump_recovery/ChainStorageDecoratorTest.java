@@ -0,0 +1,77 @@
+package info.smart_tools.smartactors.message_processing.message_processing_sequence.dump_recovery;
+
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.IChainStorage;
+import info.smart_tools.smartactors.message_processing_interfaces.ichain_storage.exceptions.ChainNotFoundException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ChainStorageDecorator}.
+ */
+public class ChainStorageDecoratorTest {
+
+    @Test
+    public void Should_returnSameHandleForSameChain()
+            throws Exception {
+        ChainStorageDecorator storage = new ChainStorageDecorator(mock(IChainStorage.class), mock(IObject.class));
+
+        int handle1 = storage.getHandle("chain1");
+        int handle2 = storage.getHandle("chain2");
+
+        assertNotEquals(handle1, handle2);
+        assertEquals(handle1, storage.getHandle("chain1"));
+        assertEquals(handle2, storage.getHandle("chain2"));
+    }
+
+    @Test(expected = ChainNotFoundException.class)
+    public void Should_throw_When_handleIsUnknown()
+            throws Exception {
+        ChainStorageDecorator storage = new ChainStorageDecorator(mock(IChainStorage.class), mock(IObject.class));
+
+        storage.getHandle("chain");
+
+        storage.resolveByHandle(1);
+    }
+
+    @Test(timeout = 10000)
+    public void Should_returnSameHandle_When_chainIsRequestedConcurrently()
+            throws Exception {
+        ChainStorageDecorator storage = new ChainStorageDecorator(mock(IChainStorage.class), mock(IObject.class));
+        int threadCount = 4;
+        int[][] handles = new int[threadCount][100];
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < threadCount; t++) {
+            int[] threadHandles = handles[t];
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    return;
+                }
+
+                for (int i = 0; i < threadHandles.length; i++) {
+                    threadHandles[i] = storage.getHandle("chain" + i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int t = 1; t < threadCount; t++) {
+            assertArrayEquals(handles[0], handles[t]);
+        }
+    }
+}
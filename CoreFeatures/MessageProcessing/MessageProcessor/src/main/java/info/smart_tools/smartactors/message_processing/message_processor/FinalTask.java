@@ -43,28 +43,48 @@ public class FinalTask implements ITask {
         finalActionsFieldName = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "finalActions");
     }
 
+    /**
+     * Execute all final actions listed in the context. An exception thrown by one action does not prevent execution of
+     * the following ones.
+     *
+     * @throws TaskExecutionException if the actions could not be read or if any of them has thrown an exception; the
+     *                                exception of the first failed action is the cause, exceptions of the others are
+     *                                suppressed
+     */
     @Override
     public void execute()
             throws TaskExecutionException {
+        List<IAction> actions;
+
         try {
             IObject context = (IObject) this.env.getValue(this.contextFieldName);
             if (null == context) {
                 return;
             }
-            List<IAction> actions = (List<IAction>) context.getValue(this.finalActionsFieldName);
+            actions = (List<IAction>) context.getValue(this.finalActionsFieldName);
             if (null == actions) {
                 return;
             }
-            for (IAction action : actions) {
-                try {
-                    action.execute(this.env);
-                } catch (ActionExecuteException e) {
-                    e.printStackTrace();
+        } catch (InvalidArgumentException | ReadValueException e) {
+            throw new TaskExecutionException("Could not execute final task.", e);
+        }
+
+        TaskExecutionException exception = null;
+
+        for (IAction action : actions) {
+            try {
+                action.execute(this.env);
+            } catch (ActionExecuteException | InvalidArgumentException e) {
+                if (null == exception) {
+                    exception = new TaskExecutionException("Error occurred executing final action.", e);
+                } else {
+                    exception.addSuppressed(e);
                 }
             }
+        }
 
-        } catch (InvalidArgumentException | ReadValueException e) {
-            throw new TaskExecutionException("Could not execute final task.");
+        if (null != exception) {
+            throw exception;
         }
     }
 }
@@ -27,8 +27,7 @@ import info.smart_tools.smartactors.message_processing_interfaces.message_proces
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
 import info.smart_tools.smartactors.task.interfaces.itask.ITask;
 import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
@@ -55,10 +54,33 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
     private final IFieldName argumentsFieldName;
     private final IFieldName processorFieldName;
 
-    private final IFieldName finalActionsFieldName;
+    private static final int INITIAL_FINAL_ACTIONS_CAPACITY = 2;
 
     private ITask finalTask;
 
+    /**
+     * Task executing the final task and final actions of this processor and then returning this processor to the pool if
+     * it is pooled.
+     */
+    private final ITask completionTask;
+
+    /**
+     * Final actions added by {@link #addFinalAction(IAction)}. The array is reused for all messages processed by this
+     * processor.
+     */
+    private IAction<IObject>[] finalActions = new IAction[INITIAL_FINAL_ACTIONS_CAPACITY];
+    private int finalActionsCount;
+
+    /**
+     * Action returning this processor to the pool it was taken from
+     */
+    private IAction<MessageProcessor> releaseAction;
+
+    /**
+     * Final action notifying the root up-counter on completion of the message processing
+     */
+    private final IAction<IObject> upCounterDownAction;
+
     /**
      * True if processing was interrupted (using {@link #pauseProcess()}) during execution of last receiver.
      */
@@ -88,9 +110,21 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
      */
     private Signal signalException;
 
-    private final IQueue<ITask> taskQueue;
+    private IQueue<ITask> taskQueue;
     private final IMessageProcessingSequence messageProcessingSequence;
 
+    /**
+     * Maximum amount of receivers executed synchronously (without re-enqueueing this processor) during single execution
+     * of this task. Value of {@code 1} means that the processor is re-enqueued after every step.
+     */
+    private final int maxInlineSteps;
+
+    /**
+     * Maximum time (in nanoseconds) this task may spend executing receivers synchronously before it yields to the task
+     * queue. Value of {@code 0} means that there is no time limit (only {@link #maxInlineSteps} is checked).
+     */
+    private final long maxInlineTime;
+
     private IUpCounter upCounter;
     private boolean notifiedOnShutdown = false;
     private Object shutdownStatus;
@@ -107,6 +141,32 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
      */
     public MessageProcessor(final IQueue<ITask> taskQueue, final IMessageProcessingSequence messageProcessingSequence, final IObject config)
             throws InvalidArgumentException, ResolutionException {
+        this(taskQueue, messageProcessingSequence, config, 1, 0);
+    }
+
+    /**
+     * The constructor.
+     *
+     * <p>
+     *     When {@code maxInlineSteps} is greater than {@code 1} the processor runs in "run-to-completion" mode: it keeps
+     *     executing next receivers on the same thread until any receiver pauses the processing, the step budget or the
+     *     time slice is exhausted or a signal is pending. Only then the processor is put back to the task queue.
+     * </p>
+     *
+     * @param taskQueue                    the queue to be executed from
+     * @param messageProcessingSequence    a {@link IMessageProcessingSequence} to use
+     * @param config                       the global configuration object to use
+     * @param maxInlineSteps               maximum amount of receivers to execute during single execution of the task
+     * @param maxInlineTime                maximum time (in nanoseconds) of single execution of the task, {@code 0} for
+     *                                     no limit
+     * @throws InvalidArgumentException if taskQueue is {@code null}
+     * @throws InvalidArgumentException if messageProcessingSequence is {@code null}
+     * @throws InvalidArgumentException if maxInlineSteps is not positive or maxInlineTime is negative
+     * @throws ResolutionException if failed to resolve any dependency
+     */
+    public MessageProcessor(final IQueue<ITask> taskQueue, final IMessageProcessingSequence messageProcessingSequence, final IObject config,
+                            final int maxInlineSteps, final long maxInlineTime)
+            throws InvalidArgumentException, ResolutionException {
         if (null == taskQueue) {
             throw new InvalidArgumentException("Task queue should not be null.");
         }
@@ -119,7 +179,17 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
             throw new InvalidArgumentException("Configuration object should not be null.");
         }
 
+        if (maxInlineSteps < 1) {
+            throw new InvalidArgumentException("Maximum amount of inline steps should be positive.");
+        }
+
+        if (maxInlineTime < 0) {
+            throw new InvalidArgumentException("Maximum inline execution time should not be negative.");
+        }
+
         this.taskQueue = taskQueue;
+        this.maxInlineSteps = maxInlineSteps;
+        this.maxInlineTime = maxInlineTime;
         this.messageProcessingSequence = messageProcessingSequence;
         this.config = config;
 
@@ -135,11 +205,140 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
         sequenceFieldName = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "sequence");
         argumentsFieldName = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "arguments");
         processorFieldName = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "processor");
-        finalActionsFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "finalActions");
-
         this.finalTask = IOC.resolve(IOC.resolve(IOC.getKeyForKeyStorage(), "final task"), this.rawEnvironment);
 
         this.upCounter = IOC.resolve(Keys.getOrAdd("root upcounter"));
+
+        this.upCounterDownAction = env -> {
+            try {
+                upCounter.down();
+            } catch (UpCounterCallbackExecutionException | IllegalUpCounterState e) {
+                throw new ActionExecuteException(e);
+            }
+        };
+
+        this.completionTask = () -> {
+            try {
+                finalTask.execute();
+            } finally {
+                try {
+                    executeFinalActions();
+                } finally {
+                    if (null != releaseAction) {
+                        recycle();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Set the action that should be executed to return this processor to a pool.
+     *
+     * <p>
+     *     When the action is set the processor does not become free as soon as the main chain is completed but after the
+     *     final task is executed. Then message, context, response and environment of the processor are cleared and the
+     *     action is called.
+     * </p>
+     *
+     * <p>
+     *     If the processor cannot be cleared the action is called with {@code null}: the pool should keep the place of
+     *     the processor but not the processor itself.
+     * </p>
+     *
+     * @param action    the action, {@code null} if the processor is not pooled
+     */
+    public void setReleaseAction(final IAction<MessageProcessor> action) {
+        this.releaseAction = action;
+    }
+
+    /**
+     * Give up the processor that was taken from a pool but has not started processing a message (e.g. because it could
+     * not be prepared for the message). The pool keeps the place of the processor but not the processor itself.
+     *
+     * @throws ActionExecuteException if the place cannot be returned to the pool
+     */
+    public void discard()
+            throws ActionExecuteException {
+        IAction<MessageProcessor> action = releaseAction;
+
+        if (null == action) {
+            return;
+        }
+
+        releaseAction = null;
+
+        try {
+            action.execute(null);
+        } catch (InvalidArgumentException e) {
+            throw new ActionExecuteException("Could not return place of the message processor to the pool.", e);
+        }
+    }
+
+    /**
+     * Add an action to be executed (with the environment of this processor) when processing of current message is
+     * completed, after the final task and the actions listed in {@code "finalActions"} field of the context.
+     *
+     * @param action    the action
+     * @throws InvalidArgumentException if the action is {@code null}
+     */
+    public void addFinalAction(final IAction<IObject> action)
+            throws InvalidArgumentException {
+        if (null == action) {
+            throw new InvalidArgumentException("Final action should not be null.");
+        }
+
+        if (finalActionsCount == finalActions.length) {
+            finalActions = Arrays.copyOf(finalActions, 2 * finalActions.length);
+        }
+
+        finalActions[finalActionsCount++] = action;
+    }
+
+    private void executeFinalActions()
+            throws TaskExecutionException {
+        TaskExecutionException exception = null;
+
+        for (int i = 0; i < finalActionsCount; i++) {
+            try {
+                finalActions[i].execute(rawEnvironment);
+            } catch (ActionExecuteException | InvalidArgumentException e) {
+                if (null == exception) {
+                    exception = new TaskExecutionException("Error occurred executing final action.", e);
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+
+            finalActions[i] = null;
+        }
+
+        finalActionsCount = 0;
+
+        if (null != exception) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Bind the processor (free one, e.g. just taken from a pool) to another task queue and configuration object.
+     *
+     * @param newTaskQueue    the queue to be executed from
+     * @param newConfig       the global configuration object to use
+     * @throws InvalidArgumentException if any of arguments is {@code null}
+     */
+    public void reinitialize(final IQueue<ITask> newTaskQueue, final IObject newConfig)
+            throws InvalidArgumentException {
+        if (null == newTaskQueue) {
+            throw new InvalidArgumentException("Task queue should not be null.");
+        }
+
+        if (null == newConfig) {
+            throw new InvalidArgumentException("Configuration object should not be null.");
+        }
+
+        this.taskQueue = newTaskQueue;
+        this.config = newConfig;
     }
 
     @Override
@@ -161,26 +360,12 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
 
             currentEnvironment = rawEnvironment;
 
-            List finalActionsList = (List) context.getValue(finalActionsFieldName);
-
-            if (null == finalActionsList) {
-                finalActionsList = new ArrayList(1);
-                context.setValue(finalActionsFieldName, finalActionsList);
-            }
-
-            finalActionsList.add((IAction<IObject>) env -> {
-                try {
-                    upCounter.down();
-                } catch (UpCounterCallbackExecutionException | IllegalUpCounterState e) {
-                    throw new ActionExecuteException(e);
-                }
-            });
-
             upCounter.up();
+            addFinalAction(upCounterDownAction);
 
             notifiedOnShutdown = false;
             shutdownStatus = null;
-        } catch (ReadValueException | ChangeValueException | InvalidArgumentException | ResolutionException | IllegalUpCounterState e) {
+        } catch (ChangeValueException | InvalidArgumentException | ResolutionException | IllegalUpCounterState e) {
             throw new MessageProcessorProcessException(e);
         }
 
@@ -244,8 +429,20 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Positions of the last caught exception not written to the context by the sequence yet are written before
+     *     the context is returned.
+     * </p>
+     *
+     * @throws IllegalStateException if the positions could not be written to the context
+     * @see IMessageProcessingSequence#materializeCatchPositions()
+     */
     @Override
     public IObject getContext() {
+        materializeCatchPositions();
         return context;
     }
 
@@ -264,11 +461,31 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
         return messageProcessingSequence;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     Positions of the last caught exception not written to the context by the sequence yet are written before
+     *     the environment (referencing the context) is returned.
+     * </p>
+     *
+     * @throws IllegalStateException if the positions could not be written to the context
+     * @see IMessageProcessingSequence#materializeCatchPositions()
+     */
     @Override
     public IObject getEnvironment() {
+        materializeCatchPositions();
         return currentEnvironment;
     }
 
+    private void materializeCatchPositions() {
+        try {
+            messageProcessingSequence.materializeCatchPositions();
+        } catch (ChangeValueException | InvalidArgumentException e) {
+            throw new IllegalStateException("Could not write positions of caught exception to the message context.", e);
+        }
+    }
+
     @Override
     public void pushEnvironment(final IObject newEnvironment) throws InvalidArgumentException {
         if (null == newEnvironment) {
@@ -294,21 +511,28 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
     @Override
     public void execute() throws TaskExecutionException {
         try {
-            int initialInt = this.interrupted;
-            try {
-                this.asyncOpDepth = 0;
-                this.asyncException = null;
-                this.rawEnvironment.setValue(argumentsFieldName, messageProcessingSequence.getCurrentReceiverArguments());
+            int stepsLeft = maxInlineSteps;
+            long startTime = (maxInlineTime > 0) ? System.nanoTime() : 0L;
 
-                currentEnvironment = rawEnvironment;
+            while (true) {
+                int initialInt = this.interrupted;
 
-                messageProcessingSequence.getCurrentReceiver().receive(this);
-            } catch (Throwable e) {
-                messageProcessingSequence.catchException(e, context);
-            }
+                executeCurrentReceiver();
 
-            if (interrupted == initialInt) {
-                enqueueNext();
+                if (interrupted != initialInt) {
+                    return;
+                }
+
+                if (--stepsLeft <= 0 || null != signalException
+                        || (maxInlineTime > 0 && System.nanoTime() - startTime >= maxInlineTime)) {
+                    enqueueNext();
+                    return;
+                }
+
+                if (!messageProcessingSequence.next()) {
+                    this.complete();
+                    return;
+                }
             }
         } catch (final Exception e1) {
             complete();
@@ -316,6 +540,22 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
         }
     }
 
+    private void executeCurrentReceiver()
+            throws NoExceptionHandleChainException, NestedChainStackOverflowException, ChangeValueException,
+            InvalidArgumentException, ReadValueException {
+        try {
+            this.asyncOpDepth = 0;
+            this.asyncException = null;
+            this.rawEnvironment.setValue(argumentsFieldName, messageProcessingSequence.getCurrentReceiverArguments());
+
+            currentEnvironment = rawEnvironment;
+
+            messageProcessingSequence.getCurrentReceiver().receive(this);
+        } catch (Throwable e) {
+            messageProcessingSequence.catchException(e, context);
+        }
+    }
+
     private void enqueueNext() throws NestedChainStackOverflowException, InvalidArgumentException, ChangeValueException, ReadValueException {
         checkSignal();
 
@@ -350,14 +590,59 @@ public class MessageProcessor implements ITask, IMessageProcessor, IManagedTask,
     }
 
     private void complete() {
+        this.messageProcessingSequence.reset();
+
         try {
-            this.taskQueue.put(this.finalTask);
+            this.taskQueue.put(this.completionTask);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+    }
 
-        this.messageProcessingSequence.reset();
-        // TODO: Return message, context, response and {@code this} to the pool
+    /**
+     * Clear state of the processor and return it to the pool.
+     *
+     * @throws TaskExecutionException if the processor cannot be cleared or returned to the pool
+     */
+    private void recycle()
+            throws TaskExecutionException {
+        IAction<MessageProcessor> action = releaseAction;
+
+        message = null;
+        context = null;
+        response = null;
+        currentEnvironment = null;
+        interrupted = 0;
+        asyncOpDepth = 0;
+        asyncException = null;
+        signalException = null;
+        notifiedOnShutdown = false;
+        shutdownStatus = null;
+
+        try {
+            rawEnvironment.setValue(messageFieldName, null);
+            rawEnvironment.setValue(contextFieldName, null);
+            rawEnvironment.setValue(responseFieldName, null);
+            rawEnvironment.setValue(argumentsFieldName, null);
+        } catch (ChangeValueException | InvalidArgumentException e) {
+            // The environment may still reference the message, so only the place of the processor is returned
+            TaskExecutionException exception = new TaskExecutionException(
+                    "Could not clear environment of the message processor.", e);
+
+            try {
+                action.execute(null);
+            } catch (ActionExecuteException | InvalidArgumentException ee) {
+                exception.addSuppressed(ee);
+            }
+
+            throw exception;
+        }
+
+        try {
+            action.execute(this);
+        } catch (ActionExecuteException | InvalidArgumentException e) {
+            throw new TaskExecutionException("Could not return the message processor to the pool.", e);
+        }
     }
 
     @Override
@@ -0,0 +1,165 @@
+package info.smart_tools.smartactors.message_processing.message_processor;
+
+import info.smart_tools.smartactors.base.interfaces.iaction.IAction;
+import info.smart_tools.smartactors.base.interfaces.iaction.IFunction0;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.ActionExecuteException;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.FunctionExecutionException;
+import info.smart_tools.smartactors.base.interfaces.ipool.exception.PoolPutException;
+import info.smart_tools.smartactors.base.interfaces.ipool.exception.PoolTakeException;
+import info.smart_tools.smartactors.base.pool.Pool;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of {@link MessageProcessor message processors}.
+ *
+ * <p>
+ *     The pool is built on top of {@link Pool}: it limits the amount of processors taken from the pool at the same time.
+ *     A processor returns to the pool when the final task of the message it processed is executed (see
+ *     {@link MessageProcessor#setReleaseAction(IAction)}). A processor that could not be cleared is not returned but
+ *     its place is, so the next processor is created in that place. When all the processors are in use a new processor
+ *     that will not be returned to the pool is created.
+ * </p>
+ *
+ * <p>
+ *     In leak detection mode the pool remembers where every processor was taken. If a processor taken from the pool is
+ *     garbage-collected without being returned the place in the pool is restored and the next {@link #take} fails with
+ *     the exception caused by the stack trace of the place the processor was taken at.
+ * </p>
+ */
+public class MessageProcessorPool {
+    /**
+     * Item of the underlying pool standing for a place that has no processor yet
+     */
+    private static final Object EMPTY_PLACE = new Object();
+
+    private final Pool pool;
+    private final IAction<MessageProcessor> releaseAction;
+    private final boolean leakDetection;
+
+    private final ReferenceQueue<MessageProcessor> leakQueue;
+    private final Set<LeakReference> takenProcessors;
+
+    /**
+     * Weak reference to a processor taken from the pool remembering the place it was taken
+     */
+    private static final class LeakReference extends WeakReference<MessageProcessor> {
+        private final Throwable trace;
+
+        private LeakReference(final MessageProcessor processor, final ReferenceQueue<MessageProcessor> queue) {
+            super(processor, queue);
+            this.trace = new Throwable("Message processor taken from the pool was never returned to the pool.");
+        }
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param maxSize          maximum amount of processors taken from the pool at the same time
+     * @param leakDetection    {@code true} if processors not returned to the pool should be detected
+     */
+    public MessageProcessorPool(final int maxSize, final boolean leakDetection) {
+        // Processors are created by the caller of #take() as creation requires a task queue and a chain
+        this.pool = new Pool(maxSize, () -> EMPTY_PLACE);
+        this.releaseAction = this::release;
+        this.leakDetection = leakDetection;
+        this.leakQueue = leakDetection ? new ReferenceQueue<>() : null;
+        this.takenProcessors = leakDetection ? ConcurrentHashMap.newKeySet() : null;
+    }
+
+    /**
+     * Take a free processor from the pool.
+     *
+     * @param factory    function creating a new processor if there is no free one
+     * @return free processor
+     * @throws FunctionExecutionException if the factory fails creating the processor
+     * @throws FunctionExecutionException if a leak of processor is detected
+     */
+    public MessageProcessor take(final IFunction0<MessageProcessor> factory)
+            throws FunctionExecutionException {
+        if (leakDetection) {
+            detectLeaks();
+        }
+
+        Object item;
+
+        try {
+            item = pool.take();
+        } catch (PoolTakeException e) {
+            MessageProcessor unpooled = factory.execute();
+            unpooled.setReleaseAction(null);
+            return unpooled;
+        }
+
+        MessageProcessor processor;
+
+        try {
+            processor = (EMPTY_PLACE == item) ? factory.execute() : (MessageProcessor) item;
+        } catch (FunctionExecutionException | RuntimeException e) {
+            try {
+                returnPlace();
+            } catch (PoolPutException ee) {
+                e.addSuppressed(ee);
+            }
+
+            throw e;
+        }
+
+        if (leakDetection) {
+            LeakReference reference = new LeakReference(processor, leakQueue);
+            takenProcessors.add(reference);
+            processor.setReleaseAction(p -> {
+                takenProcessors.remove(reference);
+                reference.clear();
+                release(p);
+            });
+        } else {
+            processor.setReleaseAction(releaseAction);
+        }
+
+        return processor;
+    }
+
+    private void release(final MessageProcessor processor)
+            throws ActionExecuteException {
+        try {
+            pool.put((null == processor) ? EMPTY_PLACE : processor);
+        } catch (PoolPutException e) {
+            throw new ActionExecuteException("Could not return message processor to the pool.", e);
+        }
+    }
+
+    private void returnPlace()
+            throws PoolPutException {
+        pool.put(EMPTY_PLACE);
+    }
+
+    private void detectLeaks()
+            throws FunctionExecutionException {
+        FunctionExecutionException exception = null;
+        LeakReference reference;
+
+        while (null != (reference = (LeakReference) leakQueue.poll())) {
+            if (takenProcessors.remove(reference)) {
+                try {
+                    returnPlace();
+                } catch (PoolPutException e) {
+                    reference.trace.addSuppressed(e);
+                }
+
+                if (null == exception) {
+                    exception = new FunctionExecutionException("Message processor leak detected.", reference.trace);
+                } else {
+                    exception.addSuppressed(reference.trace);
+                }
+            }
+        }
+
+        if (null != exception) {
+            throw exception;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import info.smart_tools.smartactors.iobject.iobject.IObject;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
 import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_with_lambda_strategy.ResolveByNameIocStrategy;
 import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
 import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
@@ -20,8 +21,11 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -149,11 +153,37 @@ public class FinalTaskTest {
         when(context.getValue(new FieldName("finalActions"))).thenReturn(finalActions);
         ITask task = new FinalTask(env);
 
-        // finalAction contains one action
-        task.execute();
+        try {
+            task.execute();
+            fail();
+        } catch (TaskExecutionException e) {
+            assertTrue(e.getCause() instanceof ActionExecuteException);
+        }
         assertEquals(checker1.isChecked(), true);
         assertEquals(checker2.isChecked(), true);
     }
+
+    @Test
+    public void checkSuppressedExceptionsOfFollowingFailedActions() throws Exception {
+        IObject env = mock(IObject.class);
+        IObject context = mock(IObject.class);
+        ActionExecuteException exception1 = new ActionExecuteException("first");
+        ActionExecuteException exception2 = new ActionExecuteException("second");
+        List<IAction> finalActions = new ArrayList<IAction>();
+        finalActions.add(a -> { throw exception1; });
+        finalActions.add(a -> { throw exception2; });
+        when(env.getValue(new FieldName("context"))).thenReturn(context);
+        when(context.getValue(new FieldName("finalActions"))).thenReturn(finalActions);
+        ITask task = new FinalTask(env);
+
+        try {
+            task.execute();
+            fail();
+        } catch (TaskExecutionException e) {
+            assertSame(exception1, e.getCause());
+            assertArrayEquals(new Throwable[] {exception2}, e.getSuppressed());
+        }
+    }
 }
 
 class Checker {
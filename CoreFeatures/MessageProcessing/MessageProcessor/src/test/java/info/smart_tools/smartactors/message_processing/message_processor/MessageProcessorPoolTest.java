@@ -0,0 +1,87 @@
+package info.smart_tools.smartactors.message_processing.message_processor;
+
+import info.smart_tools.smartactors.base.interfaces.iaction.IAction;
+import info.smart_tools.smartactors.base.interfaces.iaction.IFunction0;
+import info.smart_tools.smartactors.base.interfaces.iaction.exception.FunctionExecutionException;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link MessageProcessorPool}.
+ */
+public class MessageProcessorPoolTest {
+
+    @Test
+    public void Should_reuseReleasedProcessors()
+            throws Exception {
+        MessageProcessor processor1 = mock(MessageProcessor.class);
+        MessageProcessor processor2 = mock(MessageProcessor.class);
+        IFunction0<MessageProcessor> factory = mock(IFunction0.class);
+        when(factory.execute()).thenReturn(processor1).thenReturn(processor2);
+
+        MessageProcessorPool pool = new MessageProcessorPool(1, false);
+
+        assertSame(processor1, pool.take(factory));
+        ArgumentCaptor<IAction> actionCaptor = ArgumentCaptor.forClass(IAction.class);
+        verify(processor1).setReleaseAction(actionCaptor.capture());
+
+        // Pool is exhausted, unpooled processor is created
+        assertSame(processor2, pool.take(factory));
+        verify(processor2).setReleaseAction((IAction<MessageProcessor>) isNull());
+
+        actionCaptor.getValue().execute(processor1);
+
+        assertSame(processor1, pool.take(factory));
+        verify(factory, times(2)).execute();
+    }
+
+    @Test
+    public void Should_createNewProcessorInPlace_When_processorIsNotReturned()
+            throws Exception {
+        MessageProcessor processor1 = mock(MessageProcessor.class);
+        MessageProcessor processor2 = mock(MessageProcessor.class);
+        IFunction0<MessageProcessor> factory = mock(IFunction0.class);
+        when(factory.execute()).thenReturn(processor1).thenReturn(processor2);
+
+        MessageProcessorPool pool = new MessageProcessorPool(1, false);
+
+        assertSame(processor1, pool.take(factory));
+        ArgumentCaptor<IAction> actionCaptor = ArgumentCaptor.forClass(IAction.class);
+        verify(processor1).setReleaseAction(actionCaptor.capture());
+
+        actionCaptor.getValue().execute(null);
+
+        assertSame(processor2, pool.take(factory));
+        verify(processor2).setReleaseAction(same(actionCaptor.getValue()));
+    }
+
+    @Test
+    public void Should_restorePlace_When_factoryFails()
+            throws Exception {
+        MessageProcessor processor = mock(MessageProcessor.class);
+        IFunction0<MessageProcessor> factory = mock(IFunction0.class);
+        when(factory.execute()).thenThrow(new FunctionExecutionException("Fail")).thenReturn(processor);
+
+        MessageProcessorPool pool = new MessageProcessorPool(1, true);
+
+        try {
+            pool.take(factory);
+            fail();
+        } catch (FunctionExecutionException e) {
+            // expected
+        }
+
+        assertSame(processor, pool.take(factory));
+        verify(processor).setReleaseAction(any());
+    }
+}
@@ -9,6 +9,7 @@ import info.smart_tools.smartactors.ioc.ikey.IKey;
 import info.smart_tools.smartactors.message_processing_interfaces.imessage.IMessage;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
 import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ChangeValueException;
 import info.smart_tools.smartactors.ioc.ioc.IOC;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.Signal;
@@ -40,6 +41,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -188,6 +190,31 @@ public class MessageProcessorTest {
         assertSame(environmentMock, messageProcessor.getEnvironment());
     }
 
+    @Test
+    public void Should_materializeCatchPositions_When_contextOrEnvironmentIsRead()
+            throws Exception {
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock);
+
+        messageProcessor.process(messageMock, contextMock);
+        verify(messageProcessingSequenceMock, times(0)).materializeCatchPositions();
+
+        messageProcessor.getContext();
+        verify(messageProcessingSequenceMock, times(1)).materializeCatchPositions();
+
+        messageProcessor.getEnvironment();
+        verify(messageProcessingSequenceMock, times(2)).materializeCatchPositions();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void Should_throw_When_catchPositionsCannotBeMaterialized()
+            throws Exception {
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock);
+
+        doThrow(ChangeValueException.class).when(messageProcessingSequenceMock).materializeCatchPositions();
+
+        messageProcessor.getContext();
+    }
+
     @Test
     public void Should_workWhenNoExceptionsOccurs()
             throws Exception {
@@ -296,7 +323,13 @@ public class MessageProcessorTest {
         }
 
         verify(messageProcessingSequenceMock).catchException(same(exception), same(contextMock));
-        verify(this.taskQueueMock, times(1)).put(this.finalTaskMock);
+
+        ArgumentCaptor<ITask> completionTaskCaptor = ArgumentCaptor.forClass(ITask.class);
+        verify(this.taskQueueMock, times(2)).put(completionTaskCaptor.capture());
+        assertNotSame(messageProcessor, completionTaskCaptor.getValue());
+
+        completionTaskCaptor.getValue().execute();
+        verify(this.finalTaskMock, times(1)).execute();
     }
 
     @Test
@@ -466,21 +499,22 @@ public class MessageProcessorTest {
         verify(upCounterMock, times(1)).up();
         verifyNoMoreInteractions(upCounterMock);
 
-        ArgumentCaptor<List> finalActionListCaptor = ArgumentCaptor.forClass(List.class);
-
-        verify(contextMock).setValue(eq(new FieldName("finalActions")), finalActionListCaptor.capture());
-
-        assertEquals(1, finalActionListCaptor.getValue().size());
+        when(messageProcessingSequenceMock.next()).thenReturn(false);
+        reset(taskQueueMock);
+        messageProcessor.execute();
 
-        ((IAction)finalActionListCaptor.getValue().get(0)).execute(environmentMock);
+        ArgumentCaptor<ITask> completionTaskCaptor = ArgumentCaptor.forClass(ITask.class);
+        verify(taskQueueMock).put(completionTaskCaptor.capture());
+        completionTaskCaptor.getValue().execute();
 
+        verify(finalTaskMock, times(1)).execute();
         verify(upCounterMock, times(1)).down();
     }
 
     @Test
-    public void Should_notOverwriteExistFinalActionsList()
+    public void Should_notStoreFinalActionsInContext()
             throws Exception {
-        IAction<IObject> actionStub = env -> {};
+        IAction<IObject> actionStub = mock(IAction.class);
         List<IAction<IObject>> list = new ArrayList<>();
         list.add(actionStub);
 
@@ -493,7 +527,92 @@ public class MessageProcessorTest {
         verify(contextMock, times(0)).setValue(eq(new FieldName("finalActions")), any());
 
         assertSame(actionStub, list.get(0));
-        assertEquals(2, list.size());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void Should_executeAndForgetOwnFinalActions_When_processingCompleted()
+            throws Exception {
+        IAction<IObject> actionMock = mock(IAction.class);
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock);
+
+        messageProcessor.process(messageMock, contextMock);
+        messageProcessor.addFinalAction(actionMock);
+
+        when(messageProcessingSequenceMock.next()).thenReturn(false);
+        reset(taskQueueMock);
+        messageProcessor.execute();
+
+        ArgumentCaptor<ITask> completionTaskCaptor = ArgumentCaptor.forClass(ITask.class);
+        verify(taskQueueMock).put(completionTaskCaptor.capture());
+        completionTaskCaptor.getValue().execute();
+        completionTaskCaptor.getValue().execute();
+
+        verify(actionMock, times(1)).execute(any());
+        verify(upCounterMock, times(1)).down();
+    }
+
+    @Test
+    public void Should_returnProcessorToPool_When_finalTaskIsExecuted()
+            throws Exception {
+        IAction<MessageProcessor> releaseActionMock = mock(IAction.class);
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock);
+        messageProcessor.setReleaseAction(releaseActionMock);
+
+        messageProcessor.process(messageMock, contextMock);
+
+        when(messageProcessingSequenceMock.next()).thenReturn(false);
+        reset(taskQueueMock);
+        messageProcessor.execute();
+
+        ArgumentCaptor<ITask> completionTaskCaptor = ArgumentCaptor.forClass(ITask.class);
+        verify(taskQueueMock).put(completionTaskCaptor.capture());
+        completionTaskCaptor.getValue().execute();
+
+        verify(environmentMock).setValue(new FieldName("message"), null);
+        verify(releaseActionMock).execute(messageProcessor);
+    }
+
+    @Test
+    public void Should_returnOnlyPlaceOfProcessorToPool_When_environmentCannotBeCleared()
+            throws Exception {
+        IAction<MessageProcessor> releaseActionMock = mock(IAction.class);
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock);
+        messageProcessor.setReleaseAction(releaseActionMock);
+
+        messageProcessor.process(messageMock, contextMock);
+
+        when(messageProcessingSequenceMock.next()).thenReturn(false);
+        doThrow(ChangeValueException.class).when(environmentMock).setValue(eq(new FieldName("message")), isNull());
+        reset(taskQueueMock);
+        messageProcessor.execute();
+
+        ArgumentCaptor<ITask> completionTaskCaptor = ArgumentCaptor.forClass(ITask.class);
+        verify(taskQueueMock).put(completionTaskCaptor.capture());
+
+        try {
+            completionTaskCaptor.getValue().execute();
+            fail();
+        } catch (TaskExecutionException e) {
+            assertTrue(e.getCause() instanceof ChangeValueException);
+        }
+
+        verify(releaseActionMock).execute(null);
+        verify(releaseActionMock, times(0)).execute(messageProcessor);
+    }
+
+    @Test
+    public void Should_returnOnlyPlaceOfProcessorToPoolOnce_When_processorIsDiscarded()
+            throws Exception {
+        IAction<MessageProcessor> releaseActionMock = mock(IAction.class);
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock);
+        messageProcessor.setReleaseAction(releaseActionMock);
+
+        messageProcessor.discard();
+        messageProcessor.discard();
+
+        verify(releaseActionMock, times(1)).execute(null);
+        verify(releaseActionMock, times(0)).execute(messageProcessor);
     }
 
     @Test
@@ -524,4 +643,125 @@ public class MessageProcessorTest {
 
         verify(messageProcessingSequenceMock, times(1)).catchException(same(shutdownSignal), any());
     }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_constructorThrow_When_maxInlineStepsIsNotPositive()
+            throws Exception {
+        assertNotNull(new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock, 0, 0));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_constructorThrow_When_maxInlineTimeIsNegative()
+            throws Exception {
+        assertNotNull(new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock, 1, -1));
+    }
+
+    @Test
+    public void Should_executeConsecutiveReceiversInline_When_stepBudgetAllows()
+            throws Exception {
+        IMessageReceiver messageReceiverMock1 = mock(IMessageReceiver.class);
+        IMessageReceiver messageReceiverMock2 = mock(IMessageReceiver.class);
+        IMessageReceiver messageReceiverMock3 = mock(IMessageReceiver.class);
+
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock, 2, 0);
+
+        messageProcessor.process(messageMock, contextMock);
+        verify(taskQueueMock).put(same(messageProcessor));
+        reset(taskQueueMock);
+
+        when(messageProcessingSequenceMock.getCurrentReceiver())
+                .thenReturn(messageReceiverMock1)
+                .thenReturn(messageReceiverMock2)
+                .thenReturn(messageReceiverMock3);
+        when(messageProcessingSequenceMock.next()).thenReturn(true);
+
+        messageProcessor.execute();
+
+        verify(messageReceiverMock1).receive(same(messageProcessor));
+        verify(messageReceiverMock2).receive(same(messageProcessor));
+        verifyNoMoreInteractions(messageReceiverMock3);
+        verify(messageProcessingSequenceMock, times(2)).next();
+        verify(taskQueueMock, times(1)).put(same(messageProcessor));
+
+        messageProcessor.execute();
+
+        verify(messageReceiverMock3, times(2)).receive(same(messageProcessor));
+    }
+
+    @Test
+    public void Should_stopInlineExecution_When_receiverPausesProcess()
+            throws Exception {
+        IMessageReceiver messageReceiverMock1 = mock(IMessageReceiver.class);
+        IMessageReceiver messageReceiverMock2 = mock(IMessageReceiver.class);
+
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock, 10, 0);
+
+        messageProcessor.process(messageMock, contextMock);
+        reset(taskQueueMock);
+
+        doAnswer(invocationOnMock -> {
+            messageProcessor.pauseProcess();
+            return null;
+        }).when(messageReceiverMock1).receive(same(messageProcessor));
+
+        when(messageProcessingSequenceMock.getCurrentReceiver())
+                .thenReturn(messageReceiverMock1)
+                .thenReturn(messageReceiverMock2);
+        when(messageProcessingSequenceMock.next()).thenReturn(true);
+
+        messageProcessor.execute();
+
+        verify(messageReceiverMock1).receive(same(messageProcessor));
+        verifyNoMoreInteractions(messageReceiverMock2);
+        verify(messageProcessingSequenceMock, times(0)).next();
+        verifyNoMoreInteractions(taskQueueMock);
+    }
+
+    @Test
+    public void Should_completeInline_When_sequenceEnds()
+            throws Exception {
+        IMessageReceiver messageReceiverMock1 = mock(IMessageReceiver.class);
+
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock, 10, 0);
+
+        messageProcessor.process(messageMock, contextMock);
+        reset(taskQueueMock);
+
+        when(messageProcessingSequenceMock.getCurrentReceiver()).thenReturn(messageReceiverMock1);
+        when(messageProcessingSequenceMock.next()).thenReturn(true).thenReturn(true).thenReturn(false);
+
+        messageProcessor.execute();
+
+        verify(messageReceiverMock1, times(3)).receive(same(messageProcessor));
+        verify(taskQueueMock, times(1)).put(any());
+        verify(taskQueueMock, times(0)).put(same(messageProcessor));
+    }
+
+    @Test
+    public void Should_yieldToQueue_When_signalIsPendingDuringInlineExecution()
+            throws Exception {
+        IMessageReceiver messageReceiverMock1 = mock(IMessageReceiver.class);
+        IMessageReceiver messageReceiverMock2 = mock(IMessageReceiver.class);
+
+        MessageProcessor messageProcessor = new MessageProcessor(taskQueueMock, messageProcessingSequenceMock, configurationMock, 10, 0);
+
+        messageProcessor.process(messageMock, contextMock);
+        reset(taskQueueMock);
+
+        doAnswer(invocationOnMock -> {
+            messageProcessor.signal("test signal");
+            return null;
+        }).when(messageReceiverMock1).receive(same(messageProcessor));
+
+        when(messageProcessingSequenceMock.getCurrentReceiver())
+                .thenReturn(messageReceiverMock1)
+                .thenReturn(messageReceiverMock2);
+        when(messageProcessingSequenceMock.next()).thenReturn(true);
+
+        messageProcessor.execute();
+
+        verifyNoMoreInteractions(messageReceiverMock2);
+        verify(messageProcessingSequenceMock).catchException(same(signal), same(contextMock));
+        verify(taskQueueMock, times(1)).put(same(messageProcessor));
+    }
 }
@@ -42,7 +42,8 @@ public class PerReceiverActorSynchronizationReceiverCreator extends BasicInterme
         }
 
         try {
-            IMessageReceiver synchronizedReceiver = IOC.resolve(Keys.getOrAdd("create actor synchronization receiver"), receiverItem);
+            IMessageReceiver synchronizedReceiver = IOC.resolve(
+                    Keys.getOrAdd("create actor synchronization receiver"), receiverItem, getObjectConfig());
             getListener().acceptItem(itemId, synchronizedReceiver);
         } catch (ResolutionException e) {
             throw new ReceiverObjectListenerException(e);
@@ -55,15 +55,15 @@ public class PerReceiverActorSynchronizationReceiverCreatorTest extends PluginsL
             mock(IMessageReceiver.class),
         };
 
-        actorReceiverResolutionStrategy = mock(IResolveDependencyStrategy.class);
-        IOC.register(Keys.getOrAdd("create actor synchronization receiver"), actorReceiverResolutionStrategy);
-
-        when(actorReceiverResolutionStrategy.resolve(same(receiverMocks[0]))).thenReturn(receiverMocks[1]);
-        when(actorReceiverResolutionStrategy.resolve(same(receiverMocks[2]))).thenReturn(receiverMocks[3]);
-
         filterConfig = mock(IObject.class);
         objectConfig = mock(IObject.class);
         context = mock(IObject.class);
+
+        actorReceiverResolutionStrategy = mock(IResolveDependencyStrategy.class);
+        IOC.register(Keys.getOrAdd("create actor synchronization receiver"), actorReceiverResolutionStrategy);
+
+        when(actorReceiverResolutionStrategy.resolve(same(receiverMocks[0]), same(objectConfig))).thenReturn(receiverMocks[1]);
+        when(actorReceiverResolutionStrategy.resolve(same(receiverMocks[2]), same(objectConfig))).thenReturn(receiverMocks[3]);
     }
 
     @Test
@@ -117,7 +117,7 @@ public class PerReceiverActorSynchronizationReceiverCreatorTest extends PluginsL
     @Test(expected = ReceiverObjectListenerException.class)
     public void Should_throwWhenActorReceiverCreationStrategyThrows()
             throws Exception {
-        when(actorReceiverResolutionStrategy.resolve(same(receiverMocks[0]))).thenThrow(ResolveDependencyStrategyException.class);
+        when(actorReceiverResolutionStrategy.resolve(same(receiverMocks[0]), same(objectConfig))).thenThrow(ResolveDependencyStrategyException.class);
 
         IReceiverObjectCreator creator = new PerReceiverActorSynchronizationReceiverCreator(creatorMock, filterConfig, objectConfig);
 
@@ -20,6 +20,11 @@ import java.util.Set;
  * Basic implementation of {@link IReceiverChain} -- immutable sequence of receivers.
  */
 public class ImmutableReceiverChain implements IReceiverChain, IDumpable {
+    /**
+     * Value of {@link #exceptionalChainsCache} for exception classes not matching any exceptional chain
+     */
+    private static final Object NO_EXCEPTIONAL_CHAIN = new Object();
+
     private final String name;
     private final IMessageReceiver[] receivers;
     private final IObject[] arguments;
@@ -27,6 +32,23 @@ public class ImmutableReceiverChain implements IReceiverChain, IDumpable {
     private final IObject description;
     private final Set<IReceiverChain> allExceptionalChains;
 
+    /**
+     * Exceptional chain (environments) matching exception class. As the chain is immutable the result of search for an
+     * exception class never changes.
+     */
+    private final ClassValue<Object> exceptionalChainsCache = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(final Class<?> type) {
+            for (Map.Entry<Class<? extends Throwable>, IObject> entry : exceptionalChains.entrySet()) {
+                if (entry.getKey().isAssignableFrom(type)) {
+                    return entry.getValue();
+                }
+            }
+
+            return NO_EXCEPTIONAL_CHAIN;
+        }
+    };
+
     /**
      * The constructor.
      *
@@ -110,10 +132,10 @@ public class ImmutableReceiverChain implements IReceiverChain, IDumpable {
         Throwable e = exception;
 
         do {
-            for (Map.Entry<Class<? extends Throwable>, IObject> entry : this.exceptionalChains.entrySet()) {
-                if (entry.getKey().isAssignableFrom(e.getClass())) {
-                    return entry.getValue();
-                }
+            Object exceptionalChain = this.exceptionalChainsCache.get(e.getClass());
+
+            if (NO_EXCEPTIONAL_CHAIN != exceptionalChain) {
+                return (IObject) exceptionalChain;
             }
 
             Throwable eNext = e.getCause();
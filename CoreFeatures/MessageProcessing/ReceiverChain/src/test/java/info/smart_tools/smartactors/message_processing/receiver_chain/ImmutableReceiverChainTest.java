@@ -123,6 +123,47 @@ public class ImmutableReceiverChainTest extends PluginsLoadingTestBase {
                 new IllegalStateException(new InvalidArgumentException(new Throwable()))));
     }
 
+    /**
+     * Mapping counting searches over it.
+     */
+    private static class SearchCountingMap extends HashMap<Class<? extends Throwable>, IObject> {
+        private int searches;
+
+        @Override
+        public Set<Map.Entry<Class<? extends Throwable>, IObject>> entrySet() {
+            ++searches;
+            return super.entrySet();
+        }
+    }
+
+    @Test
+    public void Should_searchMappingOnce_When_exceptionIsSubclassOfMappedException()
+            throws Exception {
+        SearchCountingMap mappingMap = new SearchCountingMap();
+        IObject env = mock(IObject.class);
+        mappingMap.put(IllegalArgumentException.class, env);
+
+        IReceiverChain chain = new ImmutableReceiverChain("theChain", mock(IObject.class), new IMessageReceiver[0], new IObject[0], mappingMap);
+
+        assertSame(env, chain.getExceptionalChainAndEnvironments(new NumberFormatException()));
+        assertSame(env, chain.getExceptionalChainAndEnvironments(new NumberFormatException()));
+        assertSame(env, chain.getExceptionalChainAndEnvironments(new IllegalStateException(new NumberFormatException())));
+        assertEquals(2, mappingMap.searches);
+    }
+
+    @Test
+    public void Should_searchMappingOnce_When_noMappingMatchesException()
+            throws Exception {
+        SearchCountingMap mappingMap = new SearchCountingMap();
+        mappingMap.put(IllegalArgumentException.class, mock(IObject.class));
+
+        IReceiverChain chain = new ImmutableReceiverChain("theChain", mock(IObject.class), new IMessageReceiver[0], new IObject[0], mappingMap);
+
+        assertNull(chain.getExceptionalChainAndEnvironments(new IllegalStateException()));
+        assertNull(chain.getExceptionalChainAndEnvironments(new IllegalStateException()));
+        assertEquals(1, mappingMap.searches);
+    }
+
     @Test
     public void checkGetChainDescriptionMethod() throws Exception {
         IMessageReceiver[] receivers = new IMessageReceiver[0];
@@ -0,0 +1,108 @@
+package info.smart_tools.smartactors.message_processing.receiver_generator;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
+import info.smart_tools.smartactors.iobject.iobject_wrapper.IObjectWrapper;
+import info.smart_tools.smartactors.message_processing_interfaces.ireceiver_generator.IReceiverGenerator;
+import info.smart_tools.smartactors.message_processing_interfaces.ireceiver_generator.exception.ReceiverGeneratorException;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageProcessor;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.IMessageReceiver;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
+import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Implementation of {@link IReceiverGenerator}.
+ * <pre>
+ * Main features of implementation:
+ * - calls handler method through {@link MethodHandle} bound to the actor instance, no classes are compiled;
+ * - produces receivers behaving the same way as ones generated by {@link ReceiverGenerator}.
+ * </pre>
+ */
+public class MethodHandleReceiverGenerator implements IReceiverGenerator {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    /**
+     * Receiver calling the handler method of the actor
+     */
+    private static final class MethodHandleReceiver implements IMessageReceiver {
+        private final MethodHandle handler;
+        private final IResolveDependencyStrategy strategy;
+
+        private MethodHandleReceiver(final MethodHandle handler, final IResolveDependencyStrategy strategy) {
+            this.handler = handler;
+            this.strategy = strategy;
+        }
+
+        @Override
+        public void receive(final IMessageProcessor processor)
+                throws MessageReceiveException, AsynchronousOperationException {
+            try {
+                Object wrapper = this.strategy.resolve();
+                ((IObjectWrapper) wrapper).init(processor.getEnvironment());
+                this.handler.invokeExact(wrapper);
+            } catch (Throwable e) {
+                throw new MessageReceiveException("Could not execute receiver operation.", e);
+            }
+        }
+    }
+
+    @Override
+    public IMessageReceiver generate(
+            final Object objInstance,
+            final IResolveDependencyStrategy wrapperResolutionStrategy,
+            final String methodName
+    ) throws InvalidArgumentException, ReceiverGeneratorException {
+        if (
+                null == objInstance ||
+                null == methodName ||
+                methodName.isEmpty() ||
+                null == wrapperResolutionStrategy
+        ) {
+            throw new InvalidArgumentException("One of the arguments null or empty.");
+        }
+        try {
+            Method method = findHandler(objInstance, methodName);
+            method.setAccessible(true);
+            MethodHandle handler = MethodHandles.lookup()
+                    .unreflect(method)
+                    .bindTo(objInstance)
+                    .asType(HANDLER_TYPE);
+
+            return new MethodHandleReceiver(handler, wrapperResolutionStrategy);
+        } catch (Throwable e) {
+            throw new ReceiverGeneratorException(
+                    "Could not generate message receiver because of the following error:",
+                    e
+            );
+        }
+    }
+
+    private Method findHandler(final Object actor, final String handler)
+            throws NoSuchMethodException, ReceiverGeneratorException {
+        Method[] methods = actor.getClass().getDeclaredMethods();
+        Method found = null;
+        for (Method m : methods) {
+            if (m.getName().equals(handler) && 1 == m.getParameterCount()) {
+                if (null != found) {
+                    throw new ReceiverGeneratorException(
+                            "Handler " + handler + " is ambiguous in " + actor.getClass().getCanonicalName() + ": " +
+                            found + " and " + m
+                    );
+                }
+                found = m;
+            }
+        }
+
+        if (null == found) {
+            throw new NoSuchMethodException("Handler " + handler + " not found in " + actor.getClass().getCanonicalName());
+        }
+
+        return found;
+    }
+}
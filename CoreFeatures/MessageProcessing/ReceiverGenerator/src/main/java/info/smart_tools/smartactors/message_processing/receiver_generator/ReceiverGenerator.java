@@ -14,6 +14,7 @@ import info.smart_tools.smartactors.message_processing_interfaces.message_proces
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.AsynchronousOperationException;
 import info.smart_tools.smartactors.message_processing_interfaces.message_processing.exceptions.MessageReceiveException;
 
+import java.io.File;
 import java.lang.reflect.Method;
 
 /**
@@ -38,6 +39,19 @@ public class ReceiverGenerator implements IReceiverGenerator {
         this.classGenerator = new ClassGenerator(classLoader);
     }
 
+    /**
+     * Constructor.
+     * Create new instance of {@link ReceiverGenerator} by given {@link ClassLoader} storing compiled receiver classes in
+     * given directory
+     * @param classLoader the instance of {@link ClassLoader}
+     * @param cacheDirectory directory to store compiled classes in, {@code null} if compiled classes should not be stored
+     * @throws InvalidArgumentException if initialization of {@link ClassGenerator} was failed
+     */
+    public ReceiverGenerator(final ClassLoader classLoader, final File cacheDirectory)
+            throws InvalidArgumentException {
+        this.classGenerator = new ClassGenerator(classLoader, cacheDirectory);
+    }
+
     @Override
     public IMessageReceiver generate(
             final Object objInstance,
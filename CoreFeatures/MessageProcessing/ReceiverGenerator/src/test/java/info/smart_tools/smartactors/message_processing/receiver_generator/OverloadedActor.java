@@ -0,0 +1,10 @@
+package info.smart_tools.smartactors.message_processing.receiver_generator;
+
+public class OverloadedActor {
+
+    void doSomeWork(ICustomWrapper wrapper) {
+    }
+
+    void doSomeWork(Object wrapper) {
+    }
+}
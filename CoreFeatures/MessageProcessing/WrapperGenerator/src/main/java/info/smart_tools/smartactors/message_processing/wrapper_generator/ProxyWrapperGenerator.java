@@ -0,0 +1,264 @@
+package info.smart_tools.smartactors.message_processing.wrapper_generator;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.strategy.apply_function_to_arguments.ApplyFunctionToArgumentsStrategy;
+import info.smart_tools.smartactors.field.field.Field;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.ifield.IField;
+import info.smart_tools.smartactors.iobject.ifield_name.IFieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.ChangeValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.DeleteValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.ReadValueException;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+import info.smart_tools.smartactors.iobject.iobject_wrapper.IObjectWrapper;
+import info.smart_tools.smartactors.ioc.iioccontainer.exception.ResolutionException;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.message_processing_interfaces.iwrapper_generator.IWrapperGenerator;
+import info.smart_tools.smartactors.message_processing_interfaces.iwrapper_generator.exception.WrapperGeneratorException;
+
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link IWrapperGenerator}.
+ * <pre>
+ * Main features of implementation:
+ * - implements wrapper interface by {@link Proxy dynamic proxy class} defined by JVM without compilation of source code;
+ * - use supporting class Field;
+ * - produces wrappers behaving the same way as ones generated by {@link WrapperGenerator}.
+ * </pre>
+ */
+public class ProxyWrapperGenerator implements IWrapperGenerator {
+
+    /**
+     * Implementation of a single method of the wrapper
+     */
+    @FunctionalInterface
+    private interface WrapperMethod {
+        Object invoke(WrapperHandler wrapper, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Invocation handler of a single wrapper instance
+     */
+    private static final class WrapperHandler implements InvocationHandler {
+        private final Map<Method, WrapperMethod> methods;
+        private IObject env;
+
+        private WrapperHandler(final Map<Method, WrapperMethod> methods) {
+            this.methods = methods;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args)
+                throws Throwable {
+            WrapperMethod wrapperMethod = methods.get(method);
+
+            if (null != wrapperMethod) {
+                return wrapperMethod.invoke(this, args);
+            }
+
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return proxy.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    throw new UnsupportedOperationException("Method " + method + " is not implemented by the wrapper.");
+            }
+        }
+    }
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Constructor.
+     * Create new instance of {@link ProxyWrapperGenerator} by given {@link ClassLoader}
+     * @param classLoader the instance of {@link ClassLoader} to define wrapper classes in, if {@code null} the class
+     *                    loader of wrapper interface is used
+     */
+    public ProxyWrapperGenerator(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public <T> T generate(final Class<T> targetInterface)
+            throws InvalidArgumentException, WrapperGeneratorException {
+        T instance = null;
+
+        if (null == targetInterface) {
+            throw new InvalidArgumentException("Target class should not be null!");
+        }
+        if (!targetInterface.isInterface()) {
+            throw new InvalidArgumentException("Target class should be an interface!");
+        }
+
+        try {
+            instance = IOC.resolve(
+                    IOC.resolve(IOC.getKeyForKeyStorage(), targetInterface.getCanonicalName() + "wrapper")
+            );
+        } catch (ResolutionException e) {
+            // do nothing
+        }
+        if (null != instance) {
+            return instance;
+        }
+
+        try {
+            Map<Method, WrapperMethod> methods = createMethods(targetInterface);
+            Constructor<?> constructor = Proxy.getProxyClass(
+                    null != classLoader ? classLoader : targetInterface.getClassLoader(),
+                    IObjectWrapper.class, IObject.class, targetInterface
+            ).getConstructor(InvocationHandler.class);
+
+            IOC.register(
+                    IOC.resolve(IOC.getKeyForKeyStorage(), targetInterface.getCanonicalName() + "wrapper"),
+                    new ApplyFunctionToArgumentsStrategy(
+                            (arg) ->  {
+                                try {
+                                    return constructor.newInstance(new WrapperHandler(methods));
+                                } catch (Throwable e) {
+                                    throw new RuntimeException("Error on creation new instance.", e);
+                                }
+                            }
+                    )
+            );
+
+            return IOC.resolve(
+                    IOC.resolve(IOC.getKeyForKeyStorage(), targetInterface.getCanonicalName() + "wrapper")
+            );
+        } catch (Throwable e) {
+            throw new WrapperGeneratorException(
+                    "Could not implement wrapper interface because of the following error:",
+                    e
+            );
+        }
+    }
+
+    private Map<Method, WrapperMethod> createMethods(final Class<?> targetInterface)
+            throws Exception {
+        Map<Method, WrapperMethod> methods = new HashMap<>();
+
+        methods.put(
+                IObjectWrapper.class.getMethod("init", IObject.class),
+                (w, args) -> {
+                    w.env = (IObject) args[0];
+                    return null;
+                }
+        );
+        methods.put(
+                IObjectWrapper.class.getMethod("getEnvironmentIObject", IFieldName.class),
+                (w, args) -> {
+                    try {
+                        if (w.env instanceof IObjectWrapper) {
+                            return ((IObjectWrapper) w.env).getEnvironmentIObject((IFieldName) args[0]);
+                        }
+                        return w.env.getValue((IFieldName) args[0]);
+                    } catch (Throwable e) {
+                        throw new InvalidArgumentException("Could not get IObject from environments.", e);
+                    }
+                }
+        );
+        methods.put(
+                IObject.class.getMethod("getValue", IFieldName.class),
+                (w, args) -> new Field((IFieldName) args[0]).in(w.env)
+        );
+        methods.put(
+                IObject.class.getMethod("setValue", IFieldName.class, Object.class),
+                (w, args) -> {
+                    new Field((IFieldName) args[0]).out(w.env, args[1]);
+                    return null;
+                }
+        );
+        methods.put(
+                IObject.class.getMethod("deleteField", IFieldName.class),
+                (w, args) -> {
+                    throw new DeleteValueException("Method not implemented.");
+                }
+        );
+        methods.put(
+                IObject.class.getMethod("serialize"),
+                (w, args) -> {
+                    throw new SerializeException("Method not implemented.");
+                }
+        );
+        methods.put(
+                IObject.class.getMethod("serialize", OutputStream.class),
+                (w, args) -> {
+                    throw new SerializeException("Method not implemented.");
+                }
+        );
+        methods.put(
+                IObject.class.getMethod("iterator"),
+                (w, args) -> null
+        );
+
+        for (Method m : targetInterface.getMethods()) {
+            methods.put(m, createInterfaceMethod(m));
+        }
+
+        return methods;
+    }
+
+    private WrapperMethod createInterfaceMethod(final Method m)
+            throws Exception {
+        if (Void.TYPE == m.getReturnType()) {
+            if (1 != m.getParameterCount() || !declaresException(m, ChangeValueException.class)) {
+                throw new WrapperGeneratorException(
+                        "Setter " + m + " should have a single parameter and declare ChangeValueException."
+                );
+            }
+
+            IField field = new Field(new FieldName("out_" + m.getName()));
+
+            return (w, args) -> {
+                try {
+                    field.out(w.env, args[0]);
+                    return null;
+                } catch (Throwable e) {
+                    throw new ChangeValueException("Could not set value from iobject.", e);
+                }
+            };
+        }
+
+        if (0 != m.getParameterCount() || !declaresException(m, ReadValueException.class)) {
+            throw new WrapperGeneratorException(
+                    "Getter " + m + " should have no parameters and declare ReadValueException."
+            );
+        }
+
+        IField field = new Field(new FieldName("in_" + m.getName()));
+        Class<?> type = m.getReturnType();
+
+        return (w, args) -> {
+            Object value;
+            try {
+                value = field.in(w.env, type);
+            } catch (Throwable e) {
+                throw new ReadValueException("Could not get value from iobject.", e);
+            }
+            if (null == value && type.isPrimitive()) {
+                throw new ReadValueException("Could not get value from iobject.", new NullPointerException());
+            }
+            return value;
+        };
+    }
+
+    private static boolean declaresException(final Method m, final Class<? extends Throwable> exceptionClass) {
+        for (Class<?> declared : m.getExceptionTypes()) {
+            if (declared.isAssignableFrom(exceptionClass)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
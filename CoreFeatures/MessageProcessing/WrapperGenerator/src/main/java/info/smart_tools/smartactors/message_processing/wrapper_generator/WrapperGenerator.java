@@ -21,6 +21,7 @@ import info.smart_tools.smartactors.utility_tool.class_generator_with_java_compi
 import info.smart_tools.smartactors.utility_tool.class_generator_with_java_compile_api.class_builder.Modifiers;
 import info.smart_tools.smartactors.base.strategy.apply_function_to_arguments.ApplyFunctionToArgumentsStrategy;
 
+import java.io.File;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -47,6 +48,17 @@ public class WrapperGenerator implements IWrapperGenerator {
         this.classGenerator = new ClassGenerator(classLoader);
     }
 
+    /**
+     * Constructor.
+     * Create new instance of {@link WrapperGenerator} by given {@link ClassLoader} storing compiled wrapper classes in
+     * given directory
+     * @param classLoader the instance of {@link ClassLoader}
+     * @param cacheDirectory directory to store compiled classes in, {@code null} if compiled classes should not be stored
+     */
+    public WrapperGenerator(final ClassLoader classLoader, final File cacheDirectory) {
+        this.classGenerator = new ClassGenerator(classLoader, cacheDirectory);
+    }
+
     @Override
     public <T> T generate(final Class<T> targetInterface)
             throws InvalidArgumentException, WrapperGeneratorException {
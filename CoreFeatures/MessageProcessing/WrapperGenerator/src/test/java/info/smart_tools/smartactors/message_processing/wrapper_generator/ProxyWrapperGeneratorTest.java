@@ -0,0 +1,126 @@
+package info.smart_tools.smartactors.message_processing.wrapper_generator;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.iobject.ds_object.DSObject;
+import info.smart_tools.smartactors.iobject.field_name.FieldName;
+import info.smart_tools.smartactors.iobject.iobject.IObject;
+import info.smart_tools.smartactors.iobject.iobject.exception.SerializeException;
+import info.smart_tools.smartactors.iobject.iobject_wrapper.IObjectWrapper;
+import info.smart_tools.smartactors.ioc.ioc.IOC;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.message_processing_interfaces.iwrapper_generator.IWrapperGenerator;
+import info.smart_tools.smartactors.message_processing_interfaces.iwrapper_generator.exception.WrapperGeneratorException;
+import info.smart_tools.smartactors.ioc.resolve_by_name_ioc_with_lambda_strategy.ResolveByNameIocStrategy;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.ioc.string_ioc_key.Key;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ProxyWrapperGenerator}
+ */
+public class ProxyWrapperGeneratorTest {
+
+    @Before
+    public void init()
+            throws Exception {
+        Object keyOfMainScope = ScopeProvider.createScope(null);
+        IScope scope = ScopeProvider.getScope(keyOfMainScope);
+        scope.setValue(IOC.getIocKey(), new StrategyContainer());
+        ScopeProvider.setCurrentScope(scope);
+
+        IOC.register(
+                IOC.getKeyForKeyStorage(),
+                new ResolveByNameIocStrategy(
+                        (a) -> {
+                            try {
+                                return new Key((String) a[0]);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        })
+        );
+    }
+
+    @Test
+    public void checkCreationAndUsageWrapperByInterface()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        IWrapper w1 = wg.generate(IWrapper.class);
+        assertNotNull(w1);
+        // re-usage
+        IWrapper w2 = wg.generate(IWrapper.class);
+        assertNotNull(w2);
+        assertNotSame(w1, w2);
+    }
+
+    @Test
+    public void checkReadingAndWritingThroughWrapper()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        IWrapper w = wg.generate(IWrapper.class);
+        IObject env = new DSObject("{\"in_getIntValue\": 1, \"message\": {\"a\": 2}}");
+        ((IObjectWrapper) w).init(env);
+
+        assertEquals((Integer) 1, w.getIntValue());
+        w.setIntValue(3);
+        assertEquals(3, env.getValue(new FieldName("out_setIntValue")));
+        assertEquals(1, ((IObject) w).getValue(new FieldName("in_getIntValue")));
+        assertEquals(2, ((IObjectWrapper) w).getEnvironmentIObject(new FieldName("message")).getValue(new FieldName("a")));
+    }
+
+    @Test (expected = SerializeException.class)
+    public void checkSerializeExceptionOnSerializationToStream()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        IWrapper w = wg.generate(IWrapper.class);
+        ((IObjectWrapper) w).init(new DSObject());
+
+        ((IObject) w).serialize(new ByteArrayOutputStream());
+        fail();
+    }
+
+    @Test (expected = WrapperGeneratorException.class)
+    public void checkOnIncorrectInterfaceWithoutReadValueException()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        wg.generate(IIncorrectWrapperWithoutReadValueException.class);
+    }
+
+    @Test (expected = WrapperGeneratorException.class)
+    public void checkOnIncorrectInterfaceWithoutChangeValueException()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        wg.generate(IIncorrectWrapperWithoutChangeValueException.class);
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnTargetInterfaceNull()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        wg.generate(null);
+        fail();
+    }
+
+    @Test (expected = InvalidArgumentException.class)
+    public void checkInvalidArgumentExceptionOnNotInterface()
+            throws Exception {
+        IWrapperGenerator wg = new ProxyWrapperGenerator(null);
+        wg.generate(TestClass.class);
+        fail();
+    }
+
+    @Test
+    public void checkFastReturnOnSecondGenerationSameInterface()
+            throws Exception {
+    }
+}
+
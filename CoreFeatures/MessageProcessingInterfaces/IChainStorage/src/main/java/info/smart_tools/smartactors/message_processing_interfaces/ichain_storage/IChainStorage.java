@@ -52,6 +52,25 @@ public interface IChainStorage {
      */
     IReceiverChain resolve(Object chainId) throws ChainNotFoundException;
 
+    /**
+     * Get a handle of the chain associated with given identifier. The handle may be obtained before the chain is registered
+     * and stays valid when the chain is replaced or modified, so it may be resolved once and then used by {@link
+     * #resolveByHandle(int)} instead of the identifier.
+     *
+     * @param chainId    identifier of a chain
+     * @return the handle of the chain
+     */
+    int getHandle(Object chainId);
+
+    /**
+     * Find a chain by a handle returned by {@link #getHandle(Object)}.
+     *
+     * @param handle    handle of the chain
+     * @return the found chain
+     * @throws ChainNotFoundException if there is no chain associated with given handle
+     */
+    IReceiverChain resolveByHandle(int handle) throws ChainNotFoundException;
+
     /**
      * Get list of identifiers of all chains stored in this storage.
      *
@@ -21,6 +21,18 @@ public interface IMessageProcessingSequence {
      */
     void reset();
 
+    /**
+     * Bind the sequence (that is not used anymore, e.g. one of a pooled message processor) to another main chain and
+     * reset it.
+     *
+     * @param stackDepth    maximum depth of stack of nested chains
+     * @param newMainChain  the {@link IReceiverChain} to start message processing with
+     * @throws InvalidArgumentException if stack depth is not a positive number
+     * @throws InvalidArgumentException if main chain is {@code null}
+     * @throws InvalidArgumentException if main chain contains no receivers
+     */
+    void reinitialize(int stackDepth, IReceiverChain newMainChain) throws InvalidArgumentException;
+
     /**
      * Switch current receiver reference to next receiver that should receive the message.
      *
@@ -91,7 +103,10 @@ public interface IMessageProcessingSequence {
      *
      * Saves in context positions (stack indexes and step indexes) of the points in the sequence where the exception
      * occurred ({@code "causeLevel"} and {@code "causeStep"} fields) and where it was caught - position in the chain
-     * defining the called exceptional chain ({@code "catchLevel"} and {@code "causeStep"} fields).
+     * defining the called exceptional chain ({@code "catchLevel"} and {@code "causeStep"} fields). The same positions
+     * are available through {@link #getCauseLevel()}, {@link #getCauseStep()}, {@link #getCatchLevel()} and
+     * {@link #getCatchStep()}; an implementation may defer writing them to the context until
+     * {@link #materializeCatchPositions()} is called.
      *
      * @param exception     the occurred exception
      * @param context       the context to save positions
@@ -104,4 +119,55 @@ public interface IMessageProcessingSequence {
      */
     void catchException(Throwable exception, IObject context)
             throws NoExceptionHandleChainException, NestedChainStackOverflowException, ChangeValueException, InvalidArgumentException, ReadValueException;
+
+    /**
+     * Get the stack index of the point where the last caught exception occurred.
+     *
+     * @return the level or {@code -1} if no exception was caught
+     * @see #catchException(Throwable, IObject)
+     */
+    int getCauseLevel();
+
+    /**
+     * Get the step index of the point where the last caught exception occurred.
+     *
+     * @return the step or {@code -1} if no exception was caught
+     * @see #catchException(Throwable, IObject)
+     */
+    int getCauseStep();
+
+    /**
+     * Get the stack index of the chain defining exceptional chain for the last caught exception.
+     *
+     * @return the level or {@code -1} if no exception was caught
+     * @see #catchException(Throwable, IObject)
+     */
+    int getCatchLevel();
+
+    /**
+     * Get the step index in the chain defining exceptional chain for the last caught exception.
+     *
+     * @return the step or {@code -1} if no exception was caught
+     * @see #catchException(Throwable, IObject)
+     */
+    int getCatchStep();
+
+    /**
+     * Get the last caught exception.
+     *
+     * @return the exception or {@code null} if no exception was caught
+     * @see #catchException(Throwable, IObject)
+     */
+    Throwable getCaughtException();
+
+    /**
+     * Write positions of the last caught exception to the message context if the implementation has not written them
+     * in {@link #catchException(Throwable, IObject)}. Does nothing if they are written already or if no exception was
+     * caught since last {@link #reset()}.
+     *
+     * @throws ChangeValueException if error occurs writing the positions to the context
+     * @throws InvalidArgumentException if error occurs writing the positions to the context
+     * @see #catchException(Throwable, IObject)
+     */
+    void materializeCatchPositions() throws ChangeValueException, InvalidArgumentException;
 }
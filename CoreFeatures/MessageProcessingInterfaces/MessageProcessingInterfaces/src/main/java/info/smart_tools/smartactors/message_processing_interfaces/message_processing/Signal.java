@@ -2,6 +2,11 @@ package info.smart_tools.smartactors.message_processing_interfaces.message_proce
 
 /**
  * Base class for throwable's representing signals sent to message processor.
+ *
+ * <p>
+ *     Signals are used for control flow only and usually are shared instances, so they do not fill in a stack trace and
+ *     do not record suppressed exceptions.
+ * </p>
  */
 public abstract class Signal extends Throwable {
     /**
@@ -10,6 +15,6 @@ public abstract class Signal extends Throwable {
      * @param name    name of the signal
      */
     protected Signal(final String name) {
-        super(name);
+        super(name, null, false, false);
     }
 }
@@ -41,6 +41,23 @@ public class NoExceptionHandleChainException extends Exception {
         this.stepsStack = stepsStack;
     }
 
+    /**
+     * The constructor for exceptions thrown when no chain handles a control flow signal.
+     *
+     * <p>
+     *     The exception has empty stacks and does not fill in a stack trace, so it is cheap to create.
+     * </p>
+     *
+     * @param message    the message
+     * @param signal     the signal no chain to handle found for
+     */
+    public NoExceptionHandleChainException(final String message, final Throwable signal) {
+        super(message, signal, false, false);
+
+        this.chainsStack = new IObject[0];
+        this.stepsStack = new int[0];
+    }
+
     public IObject[] getChainsStack() {
         return chainsStack;
     }
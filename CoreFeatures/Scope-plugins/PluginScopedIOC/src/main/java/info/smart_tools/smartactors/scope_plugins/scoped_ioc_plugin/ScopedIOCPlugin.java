@@ -10,7 +10,9 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IP
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
-import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.ioc.istrategy_container.IStrategyContainer;
+import info.smart_tools.smartactors.ioc.recursive_strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.scope.iscope.exception.ScopeException;
 
 /**
  *
@@ -30,7 +32,8 @@ public class ScopedIOCPlugin implements IPlugin {
     @Override
     public void load() throws PluginException {
         try {
-            /* "subscribe_ioc_for_scope_creation" - create new strategy container in new scopes */
+            /* "subscribe_ioc_for_scope_creation" - create new strategy container in new scopes, container of the new
+             * scope resolves strategies absent in it from the container of the parent scope */
             IBootstrapItem<String> subscribeItem = new BootstrapItem("subscribe_ioc_for_scope_creation");
 
             subscribeItem
@@ -40,7 +43,13 @@ public class ScopedIOCPlugin implements IPlugin {
                         try {
                             ScopeProvider.subscribeOnCreationNewScope(scope -> {
                                 try {
-                                    scope.setValue(IOC.getIocKey(), new StrategyContainer());
+                                    IStrategyContainer parentContainer = null;
+                                    try {
+                                        parentContainer = (IStrategyContainer) scope.getValue(IOC.getIocKey());
+                                    } catch (ScopeException e) {
+                                        // parent scope does not exist, create a container with empty parent
+                                    }
+                                    scope.setValue(IOC.getIocKey(), new StrategyContainer(parentContainer));
                                 } catch (Exception e) {
                                     throw new Error(e);
                                 }
@@ -10,12 +10,15 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.IP
 import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.exception.PluginException;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
-import info.smart_tools.smartactors.ioc.strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.ioc.istrategy_container.IStrategyContainer;
+import info.smart_tools.smartactors.ioc.recursive_strategy_container.StrategyContainer;
+import info.smart_tools.smartactors.scope.iscope.exception.ScopeException;
 
 /**
  * Plugin.
  * Implements {@link IPlugin}
  * Subscribe ScopeProvider on a Scope creation.
+ * Strategy container of the new scope resolves strategies absent in it from the container of the parent scope.
  */
 public class SubscribeScopeProviderOnScopeCreation implements IPlugin {
 
@@ -48,7 +51,15 @@ public class SubscribeScopeProviderOnScopeCreation implements IPlugin {
                                     ScopeProvider.subscribeOnCreationNewScope(
                                             scope -> {
                                                 try {
-                                                    scope.setValue(IOC.getIocKey(), new StrategyContainer());
+                                                    IStrategyContainer parentContainer = null;
+                                                    try {
+                                                        parentContainer = (IStrategyContainer) scope.getValue(
+                                                                IOC.getIocKey()
+                                                        );
+                                                    } catch (ScopeException e) {
+                                                        // parent scope does not exist, create a container with empty parent
+                                                    }
+                                                    scope.setValue(IOC.getIocKey(), new StrategyContainer(parentContainer));
                                                 } catch (Exception e) {
                                                     throw new Error(e);
                                                 }
@@ -1,5 +1,6 @@
 package info.smart_tools.smartactors.scope_plugins.subscribe_scope_provider_on_scope_creation_plugin;
 
+import info.smart_tools.smartactors.base.interfaces.iresolve_dependency_strategy.IResolveDependencyStrategy;
 import info.smart_tools.smartactors.feature_loading_system.bootstrap_item.BootstrapItem;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap.IBootstrap;
 import info.smart_tools.smartactors.feature_loading_system.interfaces.ibootstrap_item.IBootstrapItem;
@@ -21,6 +22,7 @@ import java.util.List;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -94,6 +96,42 @@ public class SubscribeScopeProviderOnScopeCreationTest {
         reset(bootstrap);
     }
 
+    @Test
+    public void checkStrategiesOfParentScopeAreResolvedInChildScope()
+            throws Exception {
+        List<IBootstrapItem<String>> itemList = new ArrayList<>();
+        IBootstrap<IBootstrapItem<String>> bootstrap = mock(IBootstrap.class);
+        doAnswer(invocation -> itemList.add((IBootstrapItem<String>) invocation.getArguments()[0]))
+                .when(bootstrap)
+                .add(any(IBootstrapItem.class));
+        new SubscribeScopeProviderOnScopeCreation(bootstrap).load();
+        itemList.get(0).executeProcess();
+
+        IScope parentScope = ScopeProvider.getScope(ScopeProvider.createScope(null));
+        IScope childScope = ScopeProvider.getScope(ScopeProvider.createScope(parentScope));
+        IStrategyContainer parentContainer = (IStrategyContainer) parentScope.getValue(IOC.getIocKey());
+        IStrategyContainer childContainer = (IStrategyContainer) childScope.getValue(IOC.getIocKey());
+        Object key = new Object();
+        IResolveDependencyStrategy strategy1 = mock(IResolveDependencyStrategy.class);
+        IResolveDependencyStrategy strategy2 = mock(IResolveDependencyStrategy.class);
+        IResolveDependencyStrategy strategy3 = mock(IResolveDependencyStrategy.class);
+
+        parentContainer.register(key, strategy1);
+        assertSame(strategy1, childContainer.resolve(key));
+        assertSame(strategy1, childContainer.resolve(key));
+
+        parentContainer.register(key, strategy2);
+        assertSame(strategy2, childContainer.resolve(key));
+
+        childContainer.register(key, strategy3);
+        assertSame(strategy3, childContainer.resolve(key));
+        assertSame(strategy2, parentContainer.resolve(key));
+
+        childContainer.remove(key);
+        parentContainer.remove(key);
+        assertNull(childContainer.resolve(key));
+    }
+
     @Test (expected = PluginException.class)
     public void checkPluginExceptionOnPluginLoad()
             throws Exception {
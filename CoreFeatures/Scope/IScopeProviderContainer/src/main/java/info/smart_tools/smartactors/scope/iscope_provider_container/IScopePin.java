@@ -0,0 +1,42 @@
+package info.smart_tools.smartactors.scope.iscope_provider_container;
+
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+
+/**
+ * Scope pinned as current scope of a thread.
+ *
+ * <p>
+ *     A long-running thread executing many tasks in the same scope (e.g. a worker thread of thread pool) pins that scope
+ *     once instead of setting it as current scope before every task. After a task is executed the thread should check
+ *     if the task has left another scope as current one ({@link #isDisplaced()}) and {@link #restore()} the pinned
+ *     scope if it did.
+ * </p>
+ *
+ * <p>
+ *     Methods of the pin should be called from the thread the scope was pinned in only.
+ * </p>
+ */
+public interface IScopePin {
+    /**
+     * Get the pinned scope.
+     *
+     * @return the pinned scope
+     */
+    IScope getScope();
+
+    /**
+     * Check if current scope of the thread is not the pinned scope.
+     *
+     * @return {@code true} if another scope (or no scope) has been set as current scope after the pinned scope
+     */
+    boolean isDisplaced();
+
+    /**
+     * Set the pinned scope as current scope of the thread.
+     *
+     * @throws ScopeProviderException if any error occurs
+     */
+    void restore()
+            throws ScopeProviderException;
+}
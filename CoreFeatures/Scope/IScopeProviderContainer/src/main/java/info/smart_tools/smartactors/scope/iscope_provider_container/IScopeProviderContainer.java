@@ -43,6 +43,15 @@ public interface IScopeProviderContainer {
     void setCurrentScope(IScope currentScope)
             throws ScopeProviderException;
 
+    /**
+     * Set instance of {@link IScope} to the current scope and pin it to the current thread
+     * @param scope instance of {@link IScope}
+     * @return the {@link IScopePin} that should be used to check if the pinned scope is still current
+     * @throws ScopeProviderException if any error occurred
+     */
+    IScopePin pinCurrentScope(IScope scope)
+            throws ScopeProviderException;
+
     /**
      * Removes the value associated with key
      * @param key given key
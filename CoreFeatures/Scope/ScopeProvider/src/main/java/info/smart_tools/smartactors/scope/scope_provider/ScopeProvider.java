@@ -3,6 +3,7 @@ package info.smart_tools.smartactors.scope.scope_provider;
 import info.smart_tools.smartactors.base.interfaces.iaction.IAction;
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.scope.iscope.IScopeFactory;
+import info.smart_tools.smartactors.scope.iscope_provider_container.IScopePin;
 import info.smart_tools.smartactors.scope.iscope_provider_container.IScopeProviderContainer;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 import info.smart_tools.smartactors.scope.recursive_scope.ScopeFactory;
@@ -83,6 +84,17 @@ public final class ScopeProvider {
         container.setCurrentScope(scope);
     }
 
+    /**
+     * Set given instance of {@link IScope} as current and pin it to the current thread
+     * @param scope instance of {@link IScope}
+     * @return the {@link IScopePin} to check if the pinned scope is still current
+     * @throws ScopeProviderException if any errors occurred
+     */
+    public static IScopePin pinCurrentScope(final IScope scope)
+            throws ScopeProviderException {
+        return container.pinCurrentScope(scope);
+    }
+
     /**
      * Remove given instance of {@link IScope} from local storage of {@link IScopeProviderContainer} by unique identifier
      * @param key unique identifier {@link IScope} instance
@@ -3,6 +3,7 @@ package info.smart_tools.smartactors.scope.scope_provider_container;
 import info.smart_tools.smartactors.base.interfaces.iaction.IAction;
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.scope.iscope.IScopeFactory;
+import info.smart_tools.smartactors.scope.iscope_provider_container.IScopePin;
 import info.smart_tools.smartactors.scope.iscope_provider_container.IScopeProviderContainer;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 
@@ -25,7 +26,12 @@ public class ScopeProviderContainer implements IScopeProviderContainer {
     /**
      * Current instance of {@link IScope} for current thread
      */
-    private ThreadLocal<IScope> currentScope = new ThreadLocal<IScope>();
+    private final ThreadLocal<IScope> currentScope = new ThreadLocal<IScope>();
+
+    /**
+     * Scope pinned to current thread (if any)
+     */
+    private final ThreadLocal<ScopePin> pinnedScope = new ThreadLocal<ScopePin>();
 
     /**
      * Instance of {@link IScopeFactory}
@@ -37,6 +43,34 @@ public class ScopeProviderContainer implements IScopeProviderContainer {
      */
     private List<IAction<IScope>> handlerStorage = new ArrayList<>();
 
+    /**
+     * Implementation of {@link IScopePin}
+     */
+    private final class ScopePin implements IScopePin {
+        private final IScope scope;
+        private boolean displaced;
+
+        private ScopePin(final IScope scope) {
+            this.scope = scope;
+            this.displaced = false;
+        }
+
+        @Override
+        public IScope getScope() {
+            return scope;
+        }
+
+        @Override
+        public boolean isDisplaced() {
+            return displaced;
+        }
+
+        @Override
+        public void restore() throws ScopeProviderException {
+            setCurrentScope(scope);
+        }
+    }
+
     /**
      * Constructor with {@link IScopeFactory}
      * @param factory instance of {@link IScopeFactory}
@@ -98,6 +132,31 @@ public class ScopeProviderContainer implements IScopeProviderContainer {
     public void setCurrentScope(final IScope scope)
             throws ScopeProviderException {
         currentScope.set(scope);
+
+        ScopePin pin = pinnedScope.get();
+
+        if (null != pin) {
+            pin.displaced = (pin.scope != scope);
+        }
+    }
+
+    /**
+     * Set instance of {@link IScope} as current scope and pin it to the current thread
+     * @param scope instance of {@link IScope}
+     * @return the {@link IScopePin}
+     * @throws ScopeProviderException if scope is {@code null}
+     */
+    public IScopePin pinCurrentScope(final IScope scope)
+            throws ScopeProviderException {
+        if (null == scope) {
+            throw new ScopeProviderException("Pinned scope should not be null.");
+        }
+
+        ScopePin pin = new ScopePin(scope);
+        pinnedScope.set(pin);
+        currentScope.set(scope);
+
+        return pin;
     }
 
     /**
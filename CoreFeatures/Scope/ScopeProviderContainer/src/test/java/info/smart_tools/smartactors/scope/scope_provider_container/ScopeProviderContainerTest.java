@@ -3,6 +3,7 @@ package info.smart_tools.smartactors.scope.scope_provider_container;
 import info.smart_tools.smartactors.base.interfaces.iaction.IAction;
 import info.smart_tools.smartactors.scope.iscope.IScope;
 import info.smart_tools.smartactors.scope.iscope.IScopeFactory;
+import info.smart_tools.smartactors.scope.iscope_provider_container.IScopePin;
 import info.smart_tools.smartactors.scope.iscope_provider_container.IScopeProviderContainer;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 import org.junit.Test;
@@ -144,4 +145,37 @@ public class ScopeProviderContainerTest {
         scopeProviderContainer.createScope(param);
         verify(observer, times(1)).execute(scope);
     }
+
+    @Test
+    public void checkScopePinning()
+            throws Exception {
+        IScope pinned = mock(IScope.class);
+        IScope other = mock(IScope.class);
+        IScopeProviderContainer scopeProviderContainer = new ScopeProviderContainer(mock(IScopeFactory.class));
+
+        IScopePin pin = scopeProviderContainer.pinCurrentScope(pinned);
+        assertSame(pinned, pin.getScope());
+        assertSame(pinned, scopeProviderContainer.getCurrentScope());
+        assertFalse(pin.isDisplaced());
+
+        scopeProviderContainer.setCurrentScope(other);
+        assertTrue(pin.isDisplaced());
+        assertSame(other, scopeProviderContainer.getCurrentScope());
+
+        pin.restore();
+        assertFalse(pin.isDisplaced());
+        assertSame(pinned, scopeProviderContainer.getCurrentScope());
+
+        scopeProviderContainer.setCurrentScope(other);
+        scopeProviderContainer.setCurrentScope(pinned);
+        assertFalse(pin.isDisplaced());
+    }
+
+    @Test (expected = ScopeProviderException.class)
+    public void checkScopeProviderExceptionByPinNull()
+            throws Exception {
+        IScopeProviderContainer scopeProviderContainer = new ScopeProviderContainer(mock(IScopeFactory.class));
+        scopeProviderContainer.pinCurrentScope(null);
+        fail();
+    }
 }
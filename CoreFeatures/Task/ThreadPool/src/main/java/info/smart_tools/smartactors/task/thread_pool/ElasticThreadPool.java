@@ -0,0 +1,86 @@
+package info.smart_tools.smartactors.task.thread_pool;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+import info.smart_tools.smartactors.task.interfaces.ithread_pool.IThreadPool;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link IThreadPool} that starts new threads on demand (up to the given limit) and stops threads that
+ * were idle for a given time.
+ *
+ * <p>
+ *     This pool is intended to execute tasks that spend most of time blocked (waiting for database, mail server or
+ *     remote HTTP service response) without occupying threads of the main fixed-size {@link ThreadPool}. As well as
+ *     {@link ThreadPool} it sets the scope it was created in as current scope of a thread before execution of every
+ *     task.
+ * </p>
+ *
+ * <p>
+ *     A {@link TaskExecutionException} thrown by a task is passed to the
+ *     {@link Thread.UncaughtExceptionHandler uncaught exception handler} of the thread that executed it.
+ * </p>
+ */
+public class ElasticThreadPool implements IThreadPool {
+    private final ThreadPoolExecutor executor;
+    private IScope scope;
+
+    /**
+     * The constructor.
+     *
+     * @param maxThreadCount    maximum amount of threads
+     * @param keepAliveTime     time (in milliseconds) an idle thread waits for a new task before termination
+     * @throws InvalidArgumentException if maxThreadCount is not positive or keepAliveTime is negative
+     */
+    public ElasticThreadPool(final int maxThreadCount, final long keepAliveTime)
+            throws InvalidArgumentException {
+        if (maxThreadCount < 1) {
+            throw new InvalidArgumentException("Maximum thread count should be positive.");
+        }
+
+        if (keepAliveTime < 0) {
+            throw new InvalidArgumentException("Keep alive time should not be negative.");
+        }
+
+        try {
+            this.scope = ScopeProvider.getCurrentScope();
+        } catch (ScopeProviderException e) {
+            this.scope = null;
+        }
+
+        this.executor = new ThreadPoolExecutor(
+                0, maxThreadCount, keepAliveTime, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+    }
+
+    @Override
+    public boolean tryExecute(final ITask task)
+            throws TaskExecutionException {
+        try {
+            executor.execute(() -> {
+                try {
+                    ScopeProvider.setCurrentScope(scope);
+                    task.execute();
+                } catch (TaskExecutionException | ScopeProviderException e) {
+                    Thread current = Thread.currentThread();
+                    current.getUncaughtExceptionHandler().uncaughtException(current, e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void terminate() {
+        executor.shutdown();
+    }
+}
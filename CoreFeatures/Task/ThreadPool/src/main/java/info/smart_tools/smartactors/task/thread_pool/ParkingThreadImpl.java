@@ -0,0 +1,181 @@
+package info.smart_tools.smartactors.task.thread_pool;
+
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.IScopePin;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The thread of {@link ParkingThreadPool}. When there is no task the thread spins for a configured time and then parks
+ * itself using {@link LockSupport#park(Object)}.
+ *
+ * <p>
+ *     A {@link TaskExecutionException} thrown by a task is passed to the
+ *     {@link Thread.UncaughtExceptionHandler uncaught exception handler} of the thread and the thread continues to
+ *     serve the pool.
+ * </p>
+ */
+class ParkingThreadImpl {
+    private final Thread thread;
+    private final ParkingThreadPool pool;
+    private final IScope scope;
+    private final AtomicReference<ITask> setTaskRef;
+
+    /**
+     * {@code true} if the thread is parked or is going to park.
+     */
+    private volatile boolean parked;
+
+    /**
+     * The time (as returned by {@link System#nanoTime()}) when the current task was handed to this thread.
+     */
+    private volatile long handOffTime;
+
+    /**
+     * The {@link Runnable} that will run on Java thread.
+     */
+    private class ThreadRunnable implements Runnable {
+        @Override
+        public void run() {
+            IScopePin scopePin = pinScope();
+
+            while (!Thread.interrupted()) {
+                ITask task = awaitTask();
+
+                if (null == task) {
+                    continue;
+                }
+
+                pool.notifyHandOff(System.nanoTime() - handOffTime);
+
+                try {
+                    if (null == scopePin) {
+                        ScopeProvider.setCurrentScope(scope);
+                    } else if (scopePin.isDisplaced()) {
+                        scopePin.restore();
+                    }
+
+                    task.execute();
+                } catch (TaskExecutionException | ScopeProviderException e) {
+                    reportFailure(e);
+                }
+
+                setTaskRef.set(null);
+                pool.returnThread(ParkingThreadImpl.this);
+            }
+        }
+    }
+
+    /**
+     * Report a failure of a task to the uncaught exception handler of the current thread without terminating the
+     * thread, so the thread is still returned to the pool.
+     *
+     * @param e the exception thrown by the task or while entering the pool scope
+     */
+    private static void reportFailure(final Exception e) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, e);
+    }
+
+    /**
+     * Pin the scope of the pool to the current thread.
+     *
+     * @return the pin or {@code null} if the pool has no scope
+     */
+    private IScopePin pinScope() {
+        if (null == scope) {
+            return null;
+        }
+
+        try {
+            return ScopeProvider.pinCurrentScope(scope);
+        } catch (ScopeProviderException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param pool     the thread pool that owns this thread
+     * @param scope    the scope to execute tasks in, {@code null} if there is no such scope
+     */
+    ParkingThreadImpl(final ParkingThreadPool pool, final IScope scope) {
+        this.pool = pool;
+        this.scope = scope;
+
+        this.setTaskRef = new AtomicReference<>(null);
+        this.parked = false;
+
+        this.thread = new Thread(new ThreadRunnable());
+
+        this.thread.start();
+    }
+
+    /**
+     * Wait for a task spinning for at most {@link ParkingThreadPool#getSpinTime()} nanoseconds and then parking.
+     *
+     * @return the task to execute or {@code null} if the thread was interrupted
+     */
+    private ITask awaitTask() {
+        ITask task = setTaskRef.get();
+        long spinStart = System.nanoTime();
+
+        while (null == task) {
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+
+            if (System.nanoTime() - spinStart >= pool.getSpinTime()) {
+                parked = true;
+
+                if (null == setTaskRef.get()) {
+                    pool.notifyPark();
+                    LockSupport.park(this);
+                }
+
+                parked = false;
+            }
+
+            task = setTaskRef.get();
+        }
+
+        return task;
+    }
+
+    /**
+     * Start execution of given task in this thread.
+     *
+     * @param task the task to execute.
+     * @throws TaskExecutionException if another task is being executed on this thread
+     * @throws TaskExecutionException if the thread is already not alive
+     */
+    void execute(final ITask task) throws TaskExecutionException {
+        handOffTime = System.nanoTime();
+
+        if (!setTaskRef.compareAndSet(null, task)) {
+            throw new TaskExecutionException("Another task is being executed.");
+        }
+
+        if (!thread.isAlive()) {
+            throw new TaskExecutionException("Thread is dead.");
+        }
+
+        if (parked) {
+            pool.notifyWakeUp();
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Interrupt the underlying Java thread (using {@link Thread#interrupt()} method).
+     */
+    void interrupt() {
+        this.thread.interrupt();
+    }
+}
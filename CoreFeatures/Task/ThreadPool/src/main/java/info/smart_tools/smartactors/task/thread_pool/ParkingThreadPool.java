@@ -0,0 +1,156 @@
+package info.smart_tools.smartactors.task.thread_pool;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+import info.smart_tools.smartactors.task.interfaces.ithread_pool.IThreadPool;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link IThreadPool} whose idle threads spin for a short time and then park using
+ * {@link java.util.concurrent.locks.LockSupport}.
+ *
+ * <p>
+ *     Idle threads are kept in LIFO order, so the most recently returned thread (the one that is most likely still
+ *     spinning) receives the next task. A thread is unparked only when it has already stopped spinning.
+ * </p>
+ */
+public class ParkingThreadPool implements IThreadPool {
+    private final Deque<ParkingThreadImpl> threadsStack;
+    private final long spinTime;
+    private final IScope scope;
+    private volatile boolean terminating = false;
+
+    private final AtomicLong wakeUpCount = new AtomicLong(0);
+    private final AtomicLong parkCount = new AtomicLong(0);
+    private final AtomicLong handOffCount = new AtomicLong(0);
+    private final AtomicLong totalHandOffTime = new AtomicLong(0);
+    private final AtomicLong maxHandOffTime = new AtomicLong(0);
+
+    /**
+     * The constructor.
+     *
+     * @param threadCount    initial count of threads
+     * @param spinTime       time (in nanoseconds) an idle thread spins before parking
+     * @throws InvalidArgumentException if spinTime is negative
+     */
+    public ParkingThreadPool(final int threadCount, final long spinTime)
+            throws InvalidArgumentException {
+        if (spinTime < 0) {
+            throw new InvalidArgumentException("Spin time should not be negative.");
+        }
+
+        this.spinTime = spinTime;
+        this.threadsStack = new ConcurrentLinkedDeque<>();
+
+        IScope currentScope;
+
+        try {
+            currentScope = ScopeProvider.getCurrentScope();
+        } catch (ScopeProviderException e) {
+            currentScope = null;
+        }
+
+        this.scope = currentScope;
+
+        for (int i = 0; i < threadCount; i++) {
+            threadsStack.push(new ParkingThreadImpl(this, scope));
+        }
+    }
+
+    @Override
+    public boolean tryExecute(final ITask task)
+            throws TaskExecutionException {
+        ParkingThreadImpl thread = threadsStack.poll();
+
+        if (null != thread) {
+            thread.execute(task);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void terminate() {
+        terminating = true;
+
+        ParkingThreadImpl thread;
+
+        while (null != (thread = threadsStack.poll())) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Returns the thread to this pool.
+     *
+     * @param thread the thread
+     */
+    void returnThread(final ParkingThreadImpl thread) {
+        if (terminating) {
+            thread.interrupt();
+        } else {
+            threadsStack.push(thread);
+        }
+    }
+
+    long getSpinTime() {
+        return this.spinTime;
+    }
+
+    void notifyWakeUp() {
+        wakeUpCount.incrementAndGet();
+    }
+
+    void notifyPark() {
+        parkCount.incrementAndGet();
+    }
+
+    void notifyHandOff(final long time) {
+        handOffCount.incrementAndGet();
+        totalHandOffTime.addAndGet(time);
+        maxHandOffTime.accumulateAndGet(time, Math::max);
+    }
+
+    /**
+     * @return amount of times a parked thread was unparked to execute a task
+     */
+    public long getWakeUpCount() {
+        return wakeUpCount.get();
+    }
+
+    /**
+     * @return amount of times an idle thread parked itself after spinning
+     */
+    public long getParkCount() {
+        return parkCount.get();
+    }
+
+    /**
+     * @return amount of tasks handed to threads of this pool
+     */
+    public long getHandOffCount() {
+        return handOffCount.get();
+    }
+
+    /**
+     * @return total time (in nanoseconds) between calls of {@link #tryExecute(ITask)} and start of task execution
+     */
+    public long getTotalHandOffTime() {
+        return totalHandOffTime.get();
+    }
+
+    /**
+     * @return maximal time (in nanoseconds) between call of {@link #tryExecute(ITask)} and start of task execution
+     */
+    public long getMaxHandOffTime() {
+        return maxHandOffTime.get();
+    }
+}
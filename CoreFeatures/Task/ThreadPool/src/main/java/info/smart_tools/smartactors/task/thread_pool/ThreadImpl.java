@@ -1,5 +1,7 @@
 package info.smart_tools.smartactors.task.thread_pool;
 
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.IScopePin;
 import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
 import info.smart_tools.smartactors.task.interfaces.itask.ITask;
 import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
@@ -13,6 +15,7 @@ import java.util.concurrent.atomic.AtomicReference;
 class ThreadImpl {
     private final Thread thread;
     private final ThreadPool pool;
+    private final IScope scope;
     private final AtomicReference<ITask> setTaskRef;
     private final Object lock;
 
@@ -22,6 +25,8 @@ class ThreadImpl {
     private class ThreadRunnable implements Runnable {
         @Override
         public void run() {
+            IScopePin scopePin = pinScope();
+
             while (!Thread.interrupted()) {
                 try {
                     synchronized (lock) {
@@ -35,7 +40,12 @@ class ThreadImpl {
                 }
 
                 try {
-                    ScopeProvider.setCurrentScope(pool.getScope());
+                    if (null == scopePin) {
+                        ScopeProvider.setCurrentScope(scope);
+                    } else if (scopePin.isDisplaced()) {
+                        scopePin.restore();
+                    }
+
                     setTaskRef.get().execute();
                 } catch (TaskExecutionException | ScopeProviderException e) {
                     // TODO: Handle
@@ -48,13 +58,32 @@ class ThreadImpl {
         }
     }
 
+    /**
+     * Pin the scope of the pool to the current thread.
+     *
+     * @return the pin or {@code null} if the pool has no scope
+     */
+    private IScopePin pinScope() {
+        if (null == scope) {
+            return null;
+        }
+
+        try {
+            return ScopeProvider.pinCurrentScope(scope);
+        } catch (ScopeProviderException e) {
+            return null;
+        }
+    }
+
     /**
      * The constructor.
      *
-     * @param pool    the thread pool that owns this thread
+     * @param pool     the thread pool that owns this thread
+     * @param scope    the scope to execute tasks in, {@code null} if there is no such scope
      */
-    ThreadImpl(final ThreadPool pool) {
+    ThreadImpl(final ThreadPool pool, final IScope scope) {
         this.pool = pool;
+        this.scope = scope;
 
         this.setTaskRef = new AtomicReference<>(null);
         this.lock = new Object();
@@ -15,7 +15,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
  */
 public class ThreadPool implements IThreadPool {
     private final Queue<ThreadImpl> threadsQueue;
-    private IScope scope;
+    private final IScope scope;
     private boolean terminating = false;
 
     /**
@@ -26,14 +26,18 @@ public class ThreadPool implements IThreadPool {
     public ThreadPool(final int threadCount) {
         threadsQueue = new ConcurrentLinkedQueue<>();
 
-        for (int i = 0; i < threadCount; i++) {
-            threadsQueue.offer(new ThreadImpl(this));
-        }
+        IScope currentScope;
 
         try {
-            this.scope = ScopeProvider.getCurrentScope();
+            currentScope = ScopeProvider.getCurrentScope();
         } catch (ScopeProviderException e) {
-            this.scope = null;
+            currentScope = null;
+        }
+
+        this.scope = currentScope;
+
+        for (int i = 0; i < threadCount; i++) {
+            threadsQueue.offer(new ThreadImpl(this, scope));
         }
     }
 
@@ -71,8 +75,4 @@ public class ThreadPool implements IThreadPool {
             thread.interrupt();
         }
     }
-
-    IScope getScope() {
-        return this.scope;
-    }
 }
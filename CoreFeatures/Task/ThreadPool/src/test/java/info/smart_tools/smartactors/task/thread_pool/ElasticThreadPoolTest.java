@@ -0,0 +1,103 @@
+package info.smart_tools.smartactors.task.thread_pool;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link ElasticThreadPool}.
+ */
+public class ElasticThreadPoolTest {
+    private ElasticThreadPool threadPool;
+
+    @After
+    public void tearDown()
+            throws Exception {
+        if (null != threadPool) {
+            threadPool.terminate();
+        }
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenMaxThreadCountIsNotPositive()
+            throws Exception {
+        threadPool = new ElasticThreadPool(0, 1000);
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenKeepAliveTimeIsNegative()
+            throws Exception {
+        threadPool = new ElasticThreadPool(1, -1);
+    }
+
+    @Test(timeout = 10000)
+    public void Should_executeBlockingTasksConcurrentlyUpToLimit()
+            throws Exception {
+        threadPool = new ElasticThreadPool(2, 1000);
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ITask blockingTask = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new TaskExecutionException(e);
+            }
+        };
+
+        assertTrue(threadPool.tryExecute(blockingTask));
+        assertTrue(threadPool.tryExecute(blockingTask));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(threadPool.tryExecute(mock(ITask.class)));
+
+        release.countDown();
+    }
+
+    @Test
+    public void Should_setThreadsScopeToCreationScope()
+            throws Exception {
+        AtomicReference<IScope> threadScopeRef = new AtomicReference<>(null);
+        ITask task = mock(ITask.class);
+        Object scopeId = ScopeProvider.createScope(null);
+        IScope scope = ScopeProvider.getScope(scopeId);
+
+        ScopeProvider.setCurrentScope(scope);
+
+        threadPool = new ElasticThreadPool(2, 1000);
+
+        doAnswer(invocation -> {
+            threadScopeRef.set(ScopeProvider.getCurrentScope());
+            return null;
+        }).when(task).execute();
+
+        assertTrue(threadPool.tryExecute(task));
+
+        verify(task, timeout(200)).execute();
+
+        assertSame(scope, threadScopeRef.get());
+    }
+
+    @Test
+    public void Should_rejectTasksAfterTermination()
+            throws Exception {
+        threadPool = new ElasticThreadPool(2, 1000);
+
+        threadPool.terminate();
+
+        assertFalse(threadPool.tryExecute(mock(ITask.class)));
+    }
+}
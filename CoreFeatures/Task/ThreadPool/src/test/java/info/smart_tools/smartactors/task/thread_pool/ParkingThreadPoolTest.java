@@ -0,0 +1,183 @@
+package info.smart_tools.smartactors.task.thread_pool;
+
+import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
+import info.smart_tools.smartactors.task.interfaces.itask.ITask;
+import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link ParkingThreadPool}.
+ */
+public class ParkingThreadPoolTest {
+    private ParkingThreadPool threadPool;
+
+    @After
+    public void tearDown()
+            throws Exception {
+        if (null != threadPool) {
+            threadPool.terminate();
+        }
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void Should_throwWhenSpinTimeIsNegative()
+            throws Exception {
+        threadPool = new ParkingThreadPool(1, -1);
+    }
+
+    @Test
+    public void Should_executeTasksOnDifferentThreads()
+            throws Exception {
+        threadPool = new ParkingThreadPool(2, 1000);
+
+        ITask sleepTask = new SleepingTask();
+
+        ITask task1 = spy(sleepTask), task2 = spy(sleepTask);
+        ITask task3 = mock(ITask.class);
+
+        assertTrue(threadPool.tryExecute(task1));
+        assertTrue(threadPool.tryExecute(task2));
+        // Now there is no more free threads.
+        assertFalse(threadPool.tryExecute(task3));
+
+        verify(task1, timeout(200)).execute();
+        verify(task2, timeout(200)).execute();
+    }
+
+    @Test
+    public void Should_wakeUpParkedThread()
+            throws Exception {
+        threadPool = new ParkingThreadPool(1, 0);
+
+        ITask task = mock(ITask.class);
+
+        // Give the thread time to park
+        Thread.sleep(100);
+
+        assertTrue(threadPool.tryExecute(task));
+
+        verify(task, timeout(200)).execute();
+
+        assertEquals(1, threadPool.getWakeUpCount());
+        assertTrue(threadPool.getParkCount() >= 1);
+        assertEquals(1, threadPool.getHandOffCount());
+        assertTrue(threadPool.getMaxHandOffTime() <= threadPool.getTotalHandOffTime());
+    }
+
+    @Test
+    public void Should_notWakeUpSpinningThread()
+            throws Exception {
+        threadPool = new ParkingThreadPool(1, 1000L * 1000 * 1000);
+
+        ITask task = mock(ITask.class);
+
+        assertTrue(threadPool.tryExecute(task));
+
+        verify(task, timeout(200)).execute();
+
+        assertEquals(0, threadPool.getWakeUpCount());
+        assertEquals(0, threadPool.getParkCount());
+    }
+
+    @Test
+    public void Should_setThreadsScopeToCreationScope()
+            throws Exception {
+        AtomicReference<IScope> threadScopeRef = new AtomicReference<>(null);
+        ITask task = mock(ITask.class);
+        Object scopeId = ScopeProvider.createScope(null);
+        IScope scope = ScopeProvider.getScope(scopeId);
+
+        ScopeProvider.setCurrentScope(scope);
+
+        threadPool = new ParkingThreadPool(2, 1000);
+
+        doAnswer(invocation -> {
+            threadScopeRef.set(ScopeProvider.getCurrentScope());
+            return null;
+        }).when(task).execute();
+
+        assertTrue(threadPool.tryExecute(task));
+
+        verify(task, timeout(200)).execute();
+
+        assertSame(scope, threadScopeRef.get());
+    }
+
+    @Test
+    public void Should_reportTaskFailureToUncaughtExceptionHandlerAndReuseThread()
+            throws Exception {
+        AtomicReference<Throwable> reported = new AtomicReference<>(null);
+        TaskExecutionException exception = new TaskExecutionException("failure");
+        Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> reported.set(e));
+
+        try {
+            threadPool = new ParkingThreadPool(1, 1000L * 1000 * 1000);
+
+            ITask failingTask = mock(ITask.class);
+            doThrow(exception).when(failingTask).execute();
+
+            assertTrue(threadPool.tryExecute(failingTask));
+            verify(failingTask, timeout(200)).execute();
+
+            ITask task = mock(ITask.class);
+
+            for (long deadline = System.currentTimeMillis() + 1000; !threadPool.tryExecute(task); ) {
+                assertTrue(System.currentTimeMillis() < deadline);
+                Thread.yield();
+            }
+
+            verify(task, timeout(200)).execute();
+            assertSame(exception, reported.get());
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void Should_terminateThreads()
+            throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        threadPool = new ParkingThreadPool(2, 1000);
+
+        assertTrue(threadPool.tryExecute(() -> {
+            try {
+                barrier.await();
+            } catch (InterruptedException | BrokenBarrierException e) {
+                throw new TaskExecutionException(e);
+            }
+        }));
+
+        threadPool.terminate();
+
+        assertFalse(threadPool.tryExecute(new SleepingTask()));
+
+        // Running task should not be interrupted, so it will reach the barrier.
+        barrier.await();
+
+        assertFalse(threadPool.tryExecute(new SleepingTask()));
+    }
+
+    private class SleepingTask implements ITask {
+        @Override
+        public void execute() throws TaskExecutionException {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package info.smart_tools.smartactors.task.thread_pool;
 
+import info.smart_tools.smartactors.scope.iscope.IScope;
+import info.smart_tools.smartactors.scope.iscope_provider_container.exception.ScopeProviderException;
+import info.smart_tools.smartactors.scope.scope_provider.ScopeProvider;
 import info.smart_tools.smartactors.task.interfaces.itask.ITask;
 import info.smart_tools.smartactors.task.interfaces.itask.exception.TaskExecutionException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.*;
 
 /**
@@ -19,7 +25,7 @@ public class ThreadImplTest {
     public void setUp()
             throws Exception {
         threadPoolMock = mock(ThreadPool.class);
-        thread = new ThreadImpl(threadPoolMock);
+        thread = new ThreadImpl(threadPoolMock, null);
     }
 
     @After
@@ -81,4 +87,38 @@ public class ThreadImplTest {
         thread.execute(taskMock2);
         verify(taskMock2, timeout(100)).execute();
     }
+
+    @Test
+    public void Should_executeTasksInPinnedScope()
+            throws Exception {
+        IScope scope = ScopeProvider.getScope(ScopeProvider.createScope(null));
+        IScope otherScope = ScopeProvider.getScope(ScopeProvider.createScope(null));
+        AtomicReference<IScope> firstTaskScope = new AtomicReference<>(null);
+        AtomicReference<IScope> secondTaskScope = new AtomicReference<>(null);
+
+        thread.interrupt();
+        thread = new ThreadImpl(threadPoolMock, scope);
+
+        thread.execute(() -> {
+            try {
+                firstTaskScope.set(ScopeProvider.getCurrentScope());
+                ScopeProvider.setCurrentScope(otherScope);
+            } catch (ScopeProviderException e) {
+                throw new TaskExecutionException(e);
+            }
+        });
+        verify(threadPoolMock, timeout(1000)).returnThread(thread);
+
+        thread.execute(() -> {
+            try {
+                secondTaskScope.set(ScopeProvider.getCurrentScope());
+            } catch (ScopeProviderException e) {
+                throw new TaskExecutionException(e);
+            }
+        });
+        verify(threadPoolMock, timeout(1000).times(2)).returnThread(thread);
+
+        assertSame(scope, firstTaskScope.get());
+        assertSame(scope, secondTaskScope.get());
+    }
 }
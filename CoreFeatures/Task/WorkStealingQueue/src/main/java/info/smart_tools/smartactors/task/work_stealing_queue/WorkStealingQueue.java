@@ -0,0 +1,162 @@
+package info.smart_tools.smartactors.task.work_stealing_queue;
+
+import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Non-blocking implementation of {@link IQueue} with per-worker deques and work stealing.
+ *
+ * <p>
+ *     Every thread that takes items from the queue (a worker) gets its own local deque. Items put by a worker thread
+ *     are added to the local deque of that thread, items put by any other thread (e.g. network or timer threads) are
+ *     added to the shared inbox queue. A worker takes items from its local deque first, then from the shared inbox and
+ *     then tries to steal items from deques of other workers.
+ * </p>
+ *
+ * <p>
+ *     Local deques are processed in FIFO order (like {@link java.util.concurrent.ForkJoinPool} in asynchronous mode) as
+ *     the tasks executed by the system (message processors mostly) are never joined and re-enqueue themselves after
+ *     every step, so LIFO order would let one task starve the others.
+ * </p>
+ *
+ * <p>
+ *     Deques of workers are never removed as the threads taking items from the queue are expected to live as long as
+ *     the queue. Items left in the deque of a terminated thread still may be stolen by other workers.
+ * </p>
+ *
+ * @param <T> type of elements
+ */
+public class WorkStealingQueue<T> implements IQueue<T> {
+    private final Queue<T> inbox;
+    private final ThreadLocal<Deque<T>> localDeque;
+    private final List<Deque<T>> workerDeques;
+    private final List<Runnable> newElementCallbacks;
+    private final Object callbacksListLock;
+
+    /**
+     * The constructor.
+     */
+    public WorkStealingQueue() {
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.localDeque = new ThreadLocal<>();
+        this.workerDeques = new CopyOnWriteArrayList<>();
+        this.newElementCallbacks = new CopyOnWriteArrayList<>();
+        this.callbacksListLock = new Object();
+    }
+
+    @Override
+    public void put(final T item) throws InterruptedException {
+        Deque<T> local = localDeque.get();
+
+        if (null != local) {
+            local.addLast(item);
+        } else {
+            inbox.add(item);
+        }
+
+        for (Runnable callback : newElementCallbacks) {
+            callback.run();
+        }
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        throw new UnsupportedOperationException("Blocking take operation is not supported.");
+    }
+
+    @Override
+    public T tryTake() {
+        Deque<T> local = localDeque.get();
+
+        if (null == local) {
+            local = registerWorker();
+        }
+
+        T item = local.pollFirst();
+
+        if (null != item) {
+            return item;
+        }
+
+        item = inbox.poll();
+
+        if (null != item) {
+            return item;
+        }
+
+        return steal(local);
+    }
+
+    @Override
+    public void addNewItemCallback(final Runnable callback) {
+        synchronized (callbacksListLock) {
+            newElementCallbacks.add(callback);
+
+            if (!isEmpty()) {
+                callback.run();
+            }
+        }
+    }
+
+    @Override
+    public void removeNewItemCallback(final Runnable callback) {
+        synchronized (callbacksListLock) {
+            newElementCallbacks.remove(callback);
+        }
+    }
+
+    private Deque<T> registerWorker() {
+        Deque<T> deque = new ConcurrentLinkedDeque<>();
+        localDeque.set(deque);
+        workerDeques.add(deque);
+        return deque;
+    }
+
+    private T steal(final Deque<T> own) {
+        Object[] deques = workerDeques.toArray();
+        int n = deques.length;
+
+        if (n < 2) {
+            return null;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(n);
+
+        for (int i = 0; i < n; i++) {
+            Deque<T> victim = (Deque<T>) deques[(start + i) % n];
+
+            if (victim == own) {
+                continue;
+            }
+
+            T item = victim.pollFirst();
+
+            if (null != item) {
+                return item;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isEmpty() {
+        if (!inbox.isEmpty()) {
+            return false;
+        }
+
+        for (Deque<T> deque : workerDeques) {
+            if (!deque.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains work-stealing implementation of {@link info.smart_tools.smartactors.task.interfaces.iqueue.IQueue}.
+ */
+package info.smart_tools.smartactors.task.work_stealing_queue;
@@ -0,0 +1,120 @@
+package info.smart_tools.smartactors.task.work_stealing_queue;
+
+import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link WorkStealingQueue}.
+ */
+public class WorkStealingQueueTest {
+    @Test(expected = UnsupportedOperationException.class)
+    public void Should_takeNotBeSupported()
+            throws Exception {
+        IQueue queue = new WorkStealingQueue();
+        queue.take();
+    }
+
+    @Test
+    public void Should_takeItemsPutByNonWorkerThreadFromInbox()
+            throws Exception {
+        IQueue<Object> queue = new WorkStealingQueue<>();
+        Object object1 = new Object(), object2 = new Object();
+
+        queue.put(object1);
+        queue.put(object2);
+
+        assertSame(object1, queue.tryTake());
+        assertSame(object2, queue.tryTake());
+        assertNull(queue.tryTake());
+    }
+
+    @Test
+    public void Should_preferLocalDequeOfWorkerThread()
+            throws Exception {
+        IQueue<Object> queue = new WorkStealingQueue<>();
+        Object external = new Object(), local1 = new Object(), local2 = new Object();
+
+        assertNull(queue.tryTake());
+
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(external);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        producer.start();
+        producer.join();
+
+        queue.put(local1);
+        queue.put(local2);
+
+        assertSame(local1, queue.tryTake());
+        assertSame(local2, queue.tryTake());
+        assertSame(external, queue.tryTake());
+        assertNull(queue.tryTake());
+    }
+
+    @Test
+    public void Should_stealItemsFromDequesOfOtherWorkers()
+            throws Exception {
+        IQueue<Object> queue = new WorkStealingQueue<>();
+        Object object = new Object();
+        AtomicReference<Object> stolen = new AtomicReference<>();
+
+        assertNull(queue.tryTake());
+        queue.put(object);
+
+        Thread thief = new Thread(() -> stolen.set(queue.tryTake()));
+        thief.start();
+        thief.join();
+
+        assertSame(object, stolen.get());
+        assertNull(queue.tryTake());
+    }
+
+    @Test
+    public void Should_CallCallbacksWhenNewItemAdded()
+            throws Exception {
+        Runnable callback1 = mock(Runnable.class), callback2 = mock(Runnable.class);
+
+        IQueue<Object> queue = new WorkStealingQueue<>();
+
+        queue.addNewItemCallback(callback1);
+        queue.addNewItemCallback(callback2);
+
+        verifyZeroInteractions(callback1, callback2);
+
+        queue.put(new Object());
+
+        verify(callback1).run();
+        verify(callback2).run();
+
+        queue.removeNewItemCallback(callback1);
+
+        queue.put(new Object());
+
+        verify(callback1, times(1)).run();
+        verify(callback2, times(2)).run();
+    }
+
+    @Test
+    public void Should_callCallbackImmediately_When_thereAlreadyAreElementsInQueue()
+            throws Exception {
+        Runnable callback = mock(Runnable.class);
+
+        IQueue<Object> queue = new WorkStealingQueue<>();
+
+        assertNull(queue.tryTake());
+        queue.put(new Object());
+
+        queue.addNewItemCallback(callback);
+
+        verify(callback).run();
+    }
+}
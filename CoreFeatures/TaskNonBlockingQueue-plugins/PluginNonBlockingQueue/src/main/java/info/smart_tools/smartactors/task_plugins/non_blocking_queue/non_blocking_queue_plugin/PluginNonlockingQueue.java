@@ -13,12 +13,18 @@ import info.smart_tools.smartactors.feature_loading_system.interfaces.iplugin.ex
 import info.smart_tools.smartactors.task.interfaces.iqueue.IQueue;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
 import info.smart_tools.smartactors.task.non_blocking_queue.NonBlockingQueue;
+import info.smart_tools.smartactors.task.work_stealing_queue.WorkStealingQueue;
 import info.smart_tools.smartactors.base.strategy.apply_function_to_arguments.ApplyFunctionToArgumentsStrategy;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Plugin that registers non-blocking queue in IOC.
+ *
+ * <p>
+ *     Also registers non-blocking work-stealing queue as {@code "info.smart_tools.smartactors.task.interfaces.iqueue.IQueue#work-stealing"}
+ *     that may be chosen using {@code "queueType"} field of executor configuration section.
+ * </p>
  */
 public class PluginNonlockingQueue implements IPlugin {
 
@@ -50,6 +56,8 @@ public class PluginNonlockingQueue implements IPlugin {
                                     throw new RuntimeException(e);
                                 }
                             }));
+                            IOC.register(Keys.getOrAdd(IQueue.class.getCanonicalName() + "#work-stealing"),
+                                    new ApplyFunctionToArgumentsStrategy(args -> new WorkStealingQueue<>()));
                         } catch (ResolutionException | RegistrationException | InvalidArgumentException e) {
                             throw new ActionExecuteException(e);
                         }
@@ -0,0 +1,200 @@
+package info.smart_tools.smartactors.utility_tool.class_generator_with_java_compile_api;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed storage of compiled classes on disk.
+ *
+ * <p>
+ *     Byte code of a class is stored in a file named by the class name and a hash of the source code and of the set
+ *     of jar files the source was compiled against. When any of the jars changes the hash changes too, so the stale
+ *     byte code is never loaded.
+ * </p>
+ *
+ * <p>
+ *     Stale files are removed:
+ * </p>
+ * <ul>
+ *     <li>when a class is stored, other versions of the same class are removed;</li>
+ *     <li>when the directory is used first time in the process, classes not loaded for {@link #MAX_UNUSED_AGE} and
+ *     temporary files left by interrupted writes are removed (every load of a class updates its modification time).</li>
+ * </ul>
+ */
+class ClassCache {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Time (in milliseconds) after the last load of a class when its byte code is removed
+     */
+    static final long MAX_UNUSED_AGE = TimeUnit.DAYS.toMillis(30);
+
+    /**
+     * Time (in milliseconds) after which a temporary file is considered left by an interrupted write
+     */
+    private static final long MAX_TEMP_FILE_AGE = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Directories already pruned by this process
+     */
+    private static final Set<Path> PRUNED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+
+    /**
+     * Constructor.
+     * Creates instance of {@link ClassCache} storing classes in given directory
+     * @param directory the directory, it is created if not exists
+     */
+    ClassCache(final File directory) {
+        this.directory = directory.toPath();
+
+        if (PRUNED_DIRECTORIES.add(this.directory.toAbsolutePath().normalize())) {
+            prune();
+        }
+    }
+
+    /**
+     * Remove classes not loaded for {@link #MAX_UNUSED_AGE} and temporary files older than {@link #MAX_TEMP_FILE_AGE}.
+     * Errors are ignored as the cache is an optimization only.
+     */
+    private void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{class,tmp}")) {
+            for (Path file : files) {
+                long maxAge = file.toString().endsWith(".tmp") ? MAX_TEMP_FILE_AGE : MAX_UNUSED_AGE;
+
+                if (now - Files.getLastModifiedTime(file).toMillis() > maxAge) {
+                    remove(file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // do nothing
+        }
+    }
+
+    /**
+     * Calculate the key of compiled class
+     * @param source source code of the class
+     * @param classPath class path the source is compiled against
+     * @return the key
+     * @throws NoSuchAlgorithmException if SHA-256 is not supported
+     */
+    String key(final String source, final String classPath)
+            throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(source.getBytes(StandardCharsets.UTF_8));
+
+        for (String entry : classPath.split(File.pathSeparator)) {
+            File file = new File(entry);
+            digest.update(
+                    (entry + ":" + file.length() + ":" + file.lastModified() + "\n").getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; ++i) {
+            hex[2 * i] = HEX[(hash[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX[hash[i] & 0xf];
+        }
+
+        return new String(hex);
+    }
+
+    /**
+     * Read byte code of the class
+     * @param className full name of the class
+     * @param key the key calculated by {@link #key(String, String)}
+     * @return the byte code or {@code null} if there is no such class in the cache
+     */
+    byte[] read(final String className, final String key) {
+        Path file = file(className, key);
+
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+
+            byte[] byteCode = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return byteCode;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Store byte code of the class replacing other versions of it. Errors are ignored as the cache is an optimization
+     * only.
+     * @param className full name of the class
+     * @param key the key calculated by {@link #key(String, String)}
+     * @param byteCode the byte code
+     */
+    void write(final String className, final String key, final byte[] byteCode) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, className, ".tmp");
+            Files.write(temp, byteCode);
+            Path file = file(className, key);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            removeOtherVersions(className, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            // do nothing
+        } finally {
+            if (null != temp) {
+                remove(temp);
+            }
+        }
+    }
+
+    /**
+     * Remove the class from the cache, e.g. when the stored byte code can not be loaded
+     * @param className full name of the class
+     * @param key the key calculated by {@link #key(String, String)}
+     */
+    void remove(final String className, final String key) {
+        remove(file(className, key));
+    }
+
+    private void removeOtherVersions(final String className, final Path current)
+            throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, className + "-*.class")) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    remove(file);
+                }
+            }
+        }
+    }
+
+    private static void remove(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // do nothing
+        }
+    }
+
+    private Path file(final String className, final String key) {
+        return directory.resolve(className + "-" + key + ".class");
+    }
+}
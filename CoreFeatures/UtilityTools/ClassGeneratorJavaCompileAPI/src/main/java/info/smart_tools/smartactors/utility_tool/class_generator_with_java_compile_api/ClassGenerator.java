@@ -4,6 +4,7 @@ import info.smart_tools.smartactors.utility_tool.interfaces.iclass_generator.ICl
 import info.smart_tools.smartactors.utility_tool.interfaces.iclass_generator.exception.ClassGenerationException;
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
 
+import java.io.File;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +24,17 @@ public class ClassGenerator implements IClassGenerator<String> {
         compiler = new InMemoryCodeCompiler(classLoader);
     }
 
+    /**
+     * Constructor.
+     * Creates new instance of {@link ClassGenerator} by given class loader. Compiled classes are stored in the given
+     * directory and loaded from it instead of compilation of the same source code against the same set of jars.
+     * @param classLoader instance of {@link ClassLoader}
+     * @param cacheDirectory directory to store compiled classes in, {@code null} if compiled classes should not be stored
+     */
+    public ClassGenerator(final ClassLoader classLoader, final File cacheDirectory) {
+        compiler = new InMemoryCodeCompiler(classLoader, cacheDirectory);
+    }
+
     @Override
     public Class<?> generate(final String source)
             throws ClassGenerationException, InvalidArgumentException {
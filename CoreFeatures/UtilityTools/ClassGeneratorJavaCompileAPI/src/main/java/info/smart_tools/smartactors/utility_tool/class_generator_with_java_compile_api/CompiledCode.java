@@ -24,6 +24,19 @@ class CompiledCode extends SimpleJavaFileObject {
         super(new URI(className), Kind.CLASS);
     }
 
+    /**
+     * Constructor
+     * Creates instance of {@link CompiledCode} by given class name and previously compiled byte code
+     * @param className name of class
+     * @param byteCode the byte code
+     * @throws Exception if any errors occurred
+     */
+    CompiledCode(final String className, final byte[] byteCode)
+            throws Exception {
+        this(className);
+        this.stream.write(byteCode);
+    }
+
     @Override
     public OutputStream openOutputStream()
             throws IOException {
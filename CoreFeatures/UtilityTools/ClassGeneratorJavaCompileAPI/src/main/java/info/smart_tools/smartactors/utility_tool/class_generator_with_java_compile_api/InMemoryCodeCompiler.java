@@ -6,6 +6,7 @@ import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
 import javax.tools.ToolProvider;
+import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
@@ -26,6 +27,7 @@ class InMemoryCodeCompiler {
      */
     private static JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
     private DynamicClassLoader classLoader;
+    private ClassCache cache;
 
     /**
      * Constructor.
@@ -33,9 +35,20 @@ class InMemoryCodeCompiler {
      * @param classLoader instance of {@link ClassLoader}
      */
     InMemoryCodeCompiler(final ClassLoader classLoader) {
+        this(classLoader, null);
+    }
+
+    /**
+     * Constructor.
+     * Creates instance of {@link InMemoryCodeCompiler} by given class loader storing compiled classes in given directory
+     * @param classLoader instance of {@link ClassLoader}
+     * @param cacheDirectory directory to store compiled classes in, {@code null} if compiled classes should not be stored
+     */
+    InMemoryCodeCompiler(final ClassLoader classLoader, final File cacheDirectory) {
         this.classLoader = new DynamicClassLoader(
                 null != classLoader ? classLoader : ClassLoader.getSystemClassLoader()
         );
+        this.cache = null != cacheDirectory ? new ClassCache(cacheDirectory) : null;
     }
 
     /**
@@ -55,9 +68,23 @@ class InMemoryCodeCompiler {
             return this.classLoader.loadClass(className);
         } catch (ClassNotFoundException e) { }
         try {
+            String classPath = getClassPath(this.classLoader);
+            String cacheKey = null;
+            if (null != this.cache) {
+                cacheKey = this.cache.key(sourceCodeInText, classPath);
+                byte[] byteCode = this.cache.read(className, cacheKey);
+                if (null != byteCode) {
+                    try {
+                        this.classLoader.setCode(new CompiledCode(className, byteCode));
+                        return this.classLoader.loadClass(className);
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        this.cache.remove(className, cacheKey);
+                    }
+                }
+            }
             List<String> optionList = new ArrayList<>();
             if (null != this.classLoader) {
-                optionList.addAll(Arrays.asList("-classpath", getClassPath(this.classLoader)));
+                optionList.addAll(Arrays.asList("-classpath", classPath));
             }
             SourceCode sourceCode = new SourceCode(className, sourceCodeInText);
             CompiledCode compiledCode = new CompiledCode(className);
@@ -84,6 +111,9 @@ class InMemoryCodeCompiler {
                 throw new Exception("Failed to compile " + className + s.toString());
 
             }
+            if (null != this.cache) {
+                this.cache.write(className, cacheKey, compiledCode.getByteCode());
+            }
             return this.classLoader.loadClass(className);
         } catch (Throwable e) {
             throw new Exception(e);
@@ -2,15 +2,24 @@ package info.smart_tools.smartactors.utility_tool.class_generator_with_java_comp
 
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
 import info.smart_tools.smartactors.utility_tool.interfaces.iclass_generator.exception.ClassGenerationException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -18,6 +27,96 @@ import static org.junit.Assert.fail;
  */
 public class ClassGeneratorTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static String sourceReturning(final int value) {
+        return "package info.smart_tools.smartactors.utility_tool.test_class;\n" +
+                "import info.smart_tools.smartactors.utility_tool.class_generator_with_java_compile_api.TestInterface;\n" +
+                "public class CachedTestClass implements TestInterface {\n" +
+                "    public Integer getA() {\n" +
+                "        return " + value + ";\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    @Test
+    public void checkLoadingFromCache()
+            throws Exception {
+        File directory = temporaryFolder.newFolder();
+        File otherDirectory = temporaryFolder.newFolder();
+
+        Class<?> clazz = new ClassGenerator(null, directory).generate(sourceReturning(1));
+        assertEquals((Integer) 1, ((TestInterface) clazz.newInstance()).getA());
+        File[] cached = directory.listFiles();
+        assertEquals(1, cached.length);
+
+        new ClassGenerator(null, otherDirectory).generate(sourceReturning(2));
+        File[] otherCached = otherDirectory.listFiles();
+        assertEquals(1, otherCached.length);
+
+        // Replace the byte code cached for the first source by the byte code compiled from the second one
+        Files.write(cached[0].toPath(), Files.readAllBytes(otherCached[0].toPath()));
+        clazz = new ClassGenerator(null, directory).generate(sourceReturning(1));
+        assertEquals((Integer) 2, ((TestInterface) clazz.newInstance()).getA());
+    }
+
+    @Test
+    public void checkCompilationWhenCachedClassIsCorrupted()
+            throws Exception {
+        File directory = temporaryFolder.newFolder();
+
+        new ClassGenerator(null, directory).generate(sourceReturning(1));
+        File[] cached = directory.listFiles();
+        Files.write(cached[0].toPath(), new byte[] {1, 2, 3});
+
+        Class<?> clazz = new ClassGenerator(null, directory).generate(sourceReturning(1));
+        assertEquals((Integer) 1, ((TestInterface) clazz.newInstance()).getA());
+        assertEquals(1, directory.listFiles().length);
+    }
+
+    @Test
+    public void checkOtherVersionsAreRemovedWhenClassIsStored()
+            throws Exception {
+        File directory = temporaryFolder.newFolder();
+
+        new ClassGenerator(null, directory).generate(sourceReturning(1));
+        String firstVersion = directory.listFiles()[0].getName();
+
+        Class<?> clazz = new ClassGenerator(null, directory).generate(sourceReturning(2));
+        assertEquals((Integer) 2, ((TestInterface) clazz.newInstance()).getA());
+
+        File[] cached = directory.listFiles();
+        assertEquals(1, cached.length);
+        assertNotEquals(firstVersion, cached[0].getName());
+    }
+
+    @Test
+    public void checkUnusedClassesAndTemporaryFilesAreRemovedOnStartup()
+            throws Exception {
+        File directory = temporaryFolder.newFolder();
+        long now = System.currentTimeMillis();
+
+        File unused = new File(directory, "a.b.Unused-0123.class");
+        File used = new File(directory, "a.b.Used-0123.class");
+        File temp = new File(directory, "a.b.Unused123.tmp");
+        File other = new File(directory, "readme.txt");
+        for (File file : new File[] {unused, used, temp, other}) {
+            Files.write(file.toPath(), new byte[] {1});
+        }
+        assertTrue(unused.setLastModified(now - ClassCache.MAX_UNUSED_AGE - 60000));
+        assertTrue(used.setLastModified(now - ClassCache.MAX_UNUSED_AGE + 60000));
+        assertTrue(temp.setLastModified(now - TimeUnit.HOURS.toMillis(2)));
+        assertTrue(other.setLastModified(now - ClassCache.MAX_UNUSED_AGE - 60000));
+
+        new ClassGenerator(null, directory);
+
+        assertFalse(unused.exists());
+        assertFalse(temp.exists());
+        assertTrue(used.exists());
+        assertTrue(other.exists());
+    }
+
     @Test
     public void check()
             throws Exception {
@@ -17,10 +17,15 @@ import info.smart_tools.smartactors.task.interfaces.itask.ITask;
 import info.smart_tools.smartactors.task.interfaces.itask_dispatcher.ITaskDispatcher;
 import info.smart_tools.smartactors.task.interfaces.ithread_pool.IThreadPool;
 import info.smart_tools.smartactors.ioc.named_keys_storage.Keys;
+import info.smart_tools.smartactors.base.strategy.apply_function_to_arguments.ApplyFunctionToArgumentsStrategy;
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 import info.smart_tools.smartactors.task.task_dispatcher.TaskDispatcher;
+import info.smart_tools.smartactors.task.thread_pool.ElasticThreadPool;
+import info.smart_tools.smartactors.task.thread_pool.ParkingThreadPool;
 import info.smart_tools.smartactors.task.thread_pool.ThreadPool;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  *
  */
@@ -31,8 +36,21 @@ public class ExecutorSectionProcessingStrategy implements ISectionStrategy {
     private final IFieldName maxRunningThreadsFieldName;
     private final IFieldName maxExecutionDelayFieldName;
     private final IFieldName defaultStackDepthFieldName;
+    private final IFieldName maxInlineStepsFieldName;
+    private final IFieldName maxInlineTimeFieldName;
+    private final IFieldName queueTypeFieldName;
+    private final IFieldName threadPoolTypeFieldName;
+    private final IFieldName idleSpinTimeFieldName;
+    private final IFieldName maxBlockingThreadsFieldName;
+    private final IFieldName blockingThreadKeepAliveFieldName;
+    private final IFieldName messageProcessorPoolSizeFieldName;
+    private final IFieldName messageProcessorPoolLeakDetectionFieldName;
+    private final IFieldName lightweightExceptionsFieldName;
 
     private final int DEFAULT_STACK_DEPTH = 5;
+    private final long DEFAULT_IDLE_SPIN_TIME = 50000;
+    private final int DEFAULT_MAX_BLOCKING_THREADS = 64;
+    private final long DEFAULT_BLOCKING_THREAD_KEEP_ALIVE = 60000;
 
     /**
      * The constructor.
@@ -46,6 +64,16 @@ public class ExecutorSectionProcessingStrategy implements ISectionStrategy {
         this.maxRunningThreadsFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "maxRunningThreads");
         this.maxExecutionDelayFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "maxExecutionDelay");
         this.defaultStackDepthFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "defaultStackDepth");
+        this.maxInlineStepsFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "maxInlineSteps");
+        this.maxInlineTimeFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "maxInlineTime");
+        this.queueTypeFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "queueType");
+        this.threadPoolTypeFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "threadPoolType");
+        this.idleSpinTimeFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "idleSpinTime");
+        this.maxBlockingThreadsFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "maxBlockingThreads");
+        this.blockingThreadKeepAliveFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "blockingThreadKeepAlive");
+        this.messageProcessorPoolSizeFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "messageProcessorPoolSize");
+        this.messageProcessorPoolLeakDetectionFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "messageProcessorPoolLeakDetection");
+        this.lightweightExceptionsFieldName = IOC.resolve(Keys.getOrAdd("info.smart_tools.smartactors.iobject.ifield_name.IFieldName"), "lightweightExceptions");
     }
 
     @Override
@@ -56,16 +84,48 @@ public class ExecutorSectionProcessingStrategy implements ISectionStrategy {
             int maxRunningThreads = Integer.valueOf(String.valueOf(section.getValue(maxRunningThreadsFieldName)));
             int maxExecutionDelay = Integer.valueOf(String.valueOf(section.getValue(maxExecutionDelayFieldName)));
             Integer defaultStackDepth = (Integer) section.getValue(this.defaultStackDepthFieldName);
+            Object maxInlineSteps = section.getValue(this.maxInlineStepsFieldName);
+            Object maxInlineTime = section.getValue(this.maxInlineTimeFieldName);
+            Object maxBlockingThreads = section.getValue(this.maxBlockingThreadsFieldName);
+            Object blockingThreadKeepAlive = section.getValue(this.blockingThreadKeepAliveFieldName);
+            Object messageProcessorPoolSize = section.getValue(this.messageProcessorPoolSizeFieldName);
+            Object messageProcessorPoolLeakDetection = section.getValue(this.messageProcessorPoolLeakDetectionFieldName);
+            Object lightweightExceptions = section.getValue(this.lightweightExceptionsFieldName);
+
+            Object queueType = section.getValue(this.queueTypeFieldName);
+            String queueKeyName = IQueue.class.getCanonicalName();
+
+            if (null != queueType) {
+                queueKeyName = queueKeyName + "#" + String.valueOf(queueType);
+            }
 
-            IQueue<ITask> queue = IOC.resolve(Keys.getOrAdd(IQueue.class.getCanonicalName()), section);
+            IQueue<ITask> queue = IOC.resolve(Keys.getOrAdd(queueKeyName), section);
 
-            IThreadPool threadPool = new ThreadPool(threadsCount);
+            IThreadPool threadPool = createThreadPool(section, threadsCount);
+            int maxBlockingThreadCount = null != maxBlockingThreads
+                    ? Integer.valueOf(String.valueOf(maxBlockingThreads)) : DEFAULT_MAX_BLOCKING_THREADS;
+            long blockingThreadKeepAliveTime = null != blockingThreadKeepAlive
+                    ? Long.valueOf(String.valueOf(blockingThreadKeepAlive)) : DEFAULT_BLOCKING_THREAD_KEEP_ALIVE;
+            AtomicReference<IThreadPool> blockingThreadPoolRef = new AtomicReference<>(null);
 
             ITaskDispatcher taskDispatcher = new TaskDispatcher(queue, threadPool, maxExecutionDelay, maxRunningThreads);
 
             IOC.register(Keys.getOrAdd("task_dispatcher"), new SingletonStrategy(taskDispatcher));
             IOC.register(Keys.getOrAdd("task_queue"), new SingletonStrategy(queue));
             IOC.register(Keys.getOrAdd("thread_pool"), new SingletonStrategy(threadPool));
+            // The blocking thread pool is needed only by blocking actors, so it is created on the first resolution
+            IOC.register(Keys.getOrAdd("blocking_thread_pool"), new ApplyFunctionToArgumentsStrategy(args -> {
+                synchronized (blockingThreadPoolRef) {
+                    IThreadPool blockingThreadPool = blockingThreadPoolRef.get();
+
+                    if (null == blockingThreadPool) {
+                        blockingThreadPool = new ElasticThreadPool(maxBlockingThreadCount, blockingThreadKeepAliveTime);
+                        blockingThreadPoolRef.set(blockingThreadPool);
+                    }
+
+                    return blockingThreadPool;
+                }
+            }));
             IOC.register(
                     Keys.getOrAdd("default_stack_depth"),
                     new SingletonStrategy(
@@ -73,6 +133,41 @@ public class ExecutorSectionProcessingStrategy implements ISectionStrategy {
                     )
             );
 
+            if (null != maxInlineSteps) {
+                IOC.register(
+                        Keys.getOrAdd("message_processor_max_inline_steps"),
+                        new SingletonStrategy(Integer.valueOf(String.valueOf(maxInlineSteps)))
+                );
+            }
+
+            if (null != maxInlineTime) {
+                IOC.register(
+                        Keys.getOrAdd("message_processor_max_inline_time"),
+                        new SingletonStrategy(Long.valueOf(String.valueOf(maxInlineTime)))
+                );
+            }
+
+            if (null != messageProcessorPoolSize) {
+                IOC.register(
+                        Keys.getOrAdd("message_processor_pool_size"),
+                        new SingletonStrategy(Integer.valueOf(String.valueOf(messageProcessorPoolSize)))
+                );
+            }
+
+            if (null != messageProcessorPoolLeakDetection) {
+                IOC.register(
+                        Keys.getOrAdd("message_processor_pool_leak_detection"),
+                        new SingletonStrategy(Boolean.valueOf(String.valueOf(messageProcessorPoolLeakDetection)))
+                );
+            }
+
+            if (null != lightweightExceptions) {
+                IOC.register(
+                        Keys.getOrAdd("message_processing_sequence_lightweight_exceptions"),
+                        new SingletonStrategy(Boolean.valueOf(String.valueOf(lightweightExceptions)))
+                );
+            }
+
             taskDispatcher.start();
 
             IUpCounter rootUpCounter = IOC.resolve(Keys.getOrAdd("root upcounter"));
@@ -80,6 +175,14 @@ public class ExecutorSectionProcessingStrategy implements ISectionStrategy {
             rootUpCounter.onShutdownComplete(() -> {
                 taskDispatcher.stop();
                 threadPool.terminate();
+
+                synchronized (blockingThreadPoolRef) {
+                    IThreadPool blockingThreadPool = blockingThreadPoolRef.get();
+
+                    if (null != blockingThreadPool) {
+                        blockingThreadPool.terminate();
+                    }
+                }
             });
         } catch (InvalidArgumentException | ResolutionException | RegistrationException | ReadValueException
                 | UpCounterCallbackExecutionException e) {
@@ -87,6 +190,26 @@ public class ExecutorSectionProcessingStrategy implements ISectionStrategy {
         }
     }
 
+    private IThreadPool createThreadPool(final IObject section, final int threadsCount)
+            throws ReadValueException, InvalidArgumentException, ConfigurationProcessingException {
+        Object threadPoolType = section.getValue(this.threadPoolTypeFieldName);
+
+        if (null == threadPoolType || "default".equals(threadPoolType)) {
+            return new ThreadPool(threadsCount);
+        }
+
+        if ("parking".equals(threadPoolType)) {
+            Object idleSpinTime = section.getValue(this.idleSpinTimeFieldName);
+
+            return new ParkingThreadPool(
+                    threadsCount,
+                    null != idleSpinTime ? Long.valueOf(String.valueOf(idleSpinTime)) : DEFAULT_IDLE_SPIN_TIME
+            );
+        }
+
+        throw new ConfigurationProcessingException("Unknown thread pool type: " + threadPoolType);
+    }
+
     @Override
     public IFieldName getSectionName() {
         return name;
@@ -1,8 +1,12 @@
 package info.smart_tools.smartactors.endpoint_service_starter.endpoint_starter;
 
 import info.smart_tools.smartactors.base.exception.invalid_argument_exception.InvalidArgumentException;
+import info.smart_tools.smartactors.base.iup_counter.IUpCounter;
+import info.smart_tools.smartactors.base.iup_counter.exception.UpCounterCallbackExecutionException;
 import info.smart_tools.smartactors.base.strategy.singleton_strategy.SingletonStrategy;
 import info.smart_tools.smartactors.http_endpoint.http_response_handler.HttpResponseHandler;
+import info.smart_tools.smartactors.http_endpoint.netty_client.NettyClient;
+import info.smart_tools.smartactors.http_endpoint.netty_transport.NettyTransportConfig;
 import info.smart_tools.smartactors.configuration_manager.interfaces.iconfiguration_manager.ISectionStrategy;
 import info.smart_tools.smartactors.configuration_manager.interfaces.iconfiguration_manager.exceptions.ConfigurationProcessingException;
 import info.smart_tools.smartactors.endpoint.interfaces.iresponse_handler.IResponseHandler;
@@ -30,6 +34,10 @@ import info.smart_tools.smartactors.task.interfaces.itask.ITask;
  *      "startChain": "mainChain",
  *      "stackDepth": 5 (temporarily)
  * }
+ * </pre>
+ * <p>
+ * The section also configures the transport of netty clients (see {@link NettyTransportConfig}). The worker group of
+ * netty clients is shut down when shutdown of the root up-counter is completed.
  */
 public class ClientSectionProcessingStrategy implements ISectionStrategy {
 
@@ -58,12 +66,20 @@ public class ClientSectionProcessingStrategy implements ISectionStrategy {
             Integer stackDepth = (Integer) clientObject.getValue(stackDepthFieldName);
             clientObject.setValue(stackDepthFieldName, stackDepth);
             IOC.register(Keys.getOrAdd("responseHandlerConfiguration"), new SingletonStrategy(clientObject));
+            NettyClient.setTransportConfig(NettyTransportConfig.fromConfig(clientObject));
+
+            IUpCounter upCounter = IOC.resolve(Keys.getOrAdd("root upcounter"));
+            upCounter.onShutdownComplete(NettyClient::shutdownWorkerGroup);
+        } catch (IllegalStateException e) {
+            throw new ConfigurationProcessingException("Transport of clients can not be configured after first client is created.", e);
         } catch (ReadValueException | InvalidArgumentException e) {
             throw new ConfigurationProcessingException("Error occurred loading \"client\" configuration section.", e);
         } catch (ResolutionException e) {
             throw new ConfigurationProcessingException("Error occurred resolving \"endpoint\".", e);
         } catch (ChangeValueException | RegistrationException e) {
             throw new ConfigurationProcessingException("Error occurred registering \"client\".", e);
+        } catch (UpCounterCallbackExecutionException e) {
+            throw new ConfigurationProcessingException("Error occurred subscribing netty clients on shutdown.", e);
         }
     }
 